@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.osgi.util.NLS;
@@ -75,6 +77,42 @@ public class ReferenceCountTests {
 		fUseScanManager.clearCache();
 	}
 
+	/**
+	 * Tests that the references are the same when they are read from the
+	 * saved index of the use scan rather than from the XML files
+	 */
+	@Test
+	public void testReferenceCountReportAllIndexed() {
+		String location = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : reportAll.zip"); //$NON-NLS-1$
+		}
+		IApiComponent apiComponent = fBaseline.getApiComponent(ExternalDependencyTestUtils.PROJECT_NAME);
+		String[][] apiUseTpes = new String[][] {
+				{"tests.apiusescan.coretestproject.ClassWithInnerType"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ITestInterface"}  //$NON-NLS-1$
+		};
+		int[] expectedResult = new int[] {7, 5};
+		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
+		File index = ApiPlugin.getDefault().getStateLocation().append("api_use_scan_index").toFile(); //$NON-NLS-1$
+		assertTrue("The use scan index should have been saved", index.isDirectory()); //$NON-NLS-1$
+		// an index written again gets a new stamp file
+		File[] stores = index.listFiles(File::isDirectory);
+		for (File store : stores) {
+			assertTrue("The stamp should have been reset", new File(store, "scan.stamp").setLastModified(1000)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		// drop the references and indexes kept in memory so the saved index
+		// is loaded again
+		fUseScanManager.clearCache();
+		apiComponent.getExternalDependencies().clear();
+		assertFalse("The references should have been cleared", //$NON-NLS-1$
+				apiComponent.getExternalDependencies().hasReferencesTo(apiUseTpes[0][0]));
+		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
+		for (File store : stores) {
+			assertEquals("The saved index should not have been written again", 1000, new File(store, "scan.stamp").lastModified()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	@Test
 	public void testReferenceCountReportOne() {
 		String location = ExternalDependencyTestUtils.setupReport("reportOne", false); //$NON-NLS-1$
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.builder.IncrementalApiBuilder;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.junit.Test;
+
+/**
+ * Tests the member dependencies recorded in the {@link BuildState} and the
+ * selection of the dependents of changed types
+ */
+public class BuildStateTests {
+
+	static final int API = BuildState.encodeAnnotations(VisibilityModifiers.API, RestrictionModifiers.NO_RESTRICTIONS);
+	static final int NO_REFERENCE = BuildState.encodeAnnotations(VisibilityModifiers.API, RestrictionModifiers.NO_REFERENCE);
+
+	/**
+	 * Returns a build state recording the member references of three types:
+	 * <ul>
+	 * <li><code>a.A</code> references the type <code>b.B</code> and the
+	 * method <code>foo</code> of <code>b.Sub</code></li>
+	 * <li><code>a.C</code> references the field <code>bar</code> of
+	 * <code>b.B$Inner</code></li>
+	 * <li><code>a.D</code> references nothing from <code>b</code></li>
+	 * </ul>
+	 */
+	private BuildState createState() {
+		BuildState state = new BuildState();
+		state.initMemberDependencies();
+		state.setMemberDependencies("a.A", Set.of("b.B", "b.Sub#foo", "java.lang.Object#<init>"), Map.of("a.A", API)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		state.setMemberDependencies("a.C", Set.of("b.B$Inner#bar"), Map.of("a.C", API, "a.C#m()V", NO_REFERENCE)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		state.setMemberDependencies("a.D", Set.of("a.A"), Map.of()); //$NON-NLS-1$ //$NON-NLS-2$
+		return state;
+	}
+
+	private BuildState writeAndRead(BuildState state) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			BuildState.write(state, out);
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return BuildState.read(in);
+		}
+	}
+
+	/**
+	 * Tests that the member references and type descriptions survive writing
+	 * and reading the build state
+	 */
+	@Test
+	public void testMemberDependenciesRoundTrip() throws Exception {
+		BuildState state = createState();
+		BuildState read = writeAndRead(state);
+		assertNotNull("The state should have been read", read); //$NON-NLS-1$
+		assertTrue("The member dependencies should have been read", read.hasMemberDependencies()); //$NON-NLS-1$
+		for (String type : new String[] { "a.A", "a.C", "a.D" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals("Wrong description of " + type, state.getTypeDescription(type), read.getTypeDescription(type)); //$NON-NLS-1$
+		}
+		assertTrue("a.D has an empty description", read.getTypeDescription("a.D").isEmpty()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("a.E was not recorded", read.getTypeDescription("a.E")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong dependents", Set.of("a.A", "a.C"), read.getMemberDependents(Set.of("b.B", "b.B$Inner"), Set.of())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		assertEquals("Wrong dependents", Set.of("a.D"), read.getMemberDependents(Set.of("a.A"), Set.of())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that a build state without member dependencies is read back
+	 * without them
+	 */
+	@Test
+	public void testNoMemberDependenciesRoundTrip() throws Exception {
+		BuildState state = createState();
+		state.clearMemberDependencies();
+		BuildState read = writeAndRead(state);
+		assertNotNull("The state should have been read", read); //$NON-NLS-1$
+		assertFalse("There should be no member dependencies", read.hasMemberDependencies()); //$NON-NLS-1$
+		assertNull("a.A should not be known", read.getTypeDescription("a.A")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests the dependents of changed types and members: members are matched
+	 * by name so references made through a sub type are found
+	 */
+	@Test
+	public void testMemberDependents() {
+		BuildState state = createState();
+		assertEquals("Wrong dependents of b.B", Set.of("a.A"), state.getMemberDependents(Set.of("b.B"), Set.of())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals("Wrong dependents of b.B$Inner", Set.of("a.C"), state.getMemberDependents(Set.of("b.B$Inner"), Set.of())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals("Wrong dependents of foo", Set.of("a.A"), state.getMemberDependents(Set.of(), Set.of("foo"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals("Wrong dependents of bar", Set.of("a.C"), state.getMemberDependents(Set.of(), Set.of("bar"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue("Nothing references baz", state.getMemberDependents(Set.of("b.Other"), Set.of("baz")).isEmpty()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		state.removeMemberDependencies("a/A"); //$NON-NLS-1$
+		assertTrue("a.A has been removed", state.getMemberDependents(Set.of("b.B"), Set.of("foo")).isEmpty()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that only the types and members whose description changed are
+	 * collected, members by name only
+	 */
+	@Test
+	public void testDescriptionChanges() {
+		Map<String, Integer> previous = new HashMap<>();
+		previous.put("b.B", API); //$NON-NLS-1$
+		previous.put("b.B#foo(I)V", API); //$NON-NLS-1$
+		previous.put("b.B#bar", API); //$NON-NLS-1$
+		previous.put("b.B$Inner", API); //$NON-NLS-1$
+		Map<String, Integer> current = new HashMap<>(previous);
+		current.put("b.B#foo(I)V", NO_REFERENCE); //$NON-NLS-1$
+		current.remove("b.B$Inner"); //$NON-NLS-1$
+		current.put("b.B#baz", NO_REFERENCE); //$NON-NLS-1$
+		Set<String> types = new HashSet<>();
+		Set<String> members = new HashSet<>();
+		IncrementalApiBuilder.collectDescriptionChanges(previous, current, types, members);
+		assertEquals("Wrong changed types", Set.of("b.B$Inner"), types); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong changed members", Set.of("foo", "baz"), members); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		types.clear();
+		members.clear();
+		IncrementalApiBuilder.collectDescriptionChanges(previous, new HashMap<>(previous), types, members);
+		assertTrue("Nothing changed", types.isEmpty() && members.isEmpty()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a structural change considers the changed type and the names
+	 * of all its fields and methods, but not its constructors
+	 */
+	@Test
+	public void testStructuralChanges() throws Exception {
+		byte[] contents;
+		try (InputStream stream = getClass().getResourceAsStream(getClass().getSimpleName() + ".class")) { //$NON-NLS-1$
+			contents = stream.readAllBytes();
+		}
+		IApiType type = TypeStructureBuilder.buildTypeStructure(contents, null, null);
+		Set<String> types = new HashSet<>();
+		Set<String> members = new HashSet<>();
+		IncrementalApiBuilder.collectStructure(type, types, members);
+		assertEquals("Wrong changed types", Set.of(getClass().getName()), types); //$NON-NLS-1$
+		assertTrue("The methods should be collected", members.contains("testStructuralChanges")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("The fields should be collected", members.contains("NO_REFERENCE")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("The constructors should not be collected", members.contains("<init>")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("The class initializer should not be collected", members.contains("<clinit>")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		BuildState state = new BuildState();
+		state.initMemberDependencies();
+		state.setMemberDependencies("a.A", Set.of(getClass().getName() + "#<init>"), Map.of()); //$NON-NLS-1$ //$NON-NLS-2$
+		state.setMemberDependencies("a.B", Set.of("a.Sub#testStructuralChanges"), Map.of()); //$NON-NLS-1$ //$NON-NLS-2$
+		state.setMemberDependencies("a.C", Set.of("a.Other#<init>"), Map.of()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong structural dependents", Set.of("a.A", "a.B"), state.getMemberDependents(types, members)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,9 +44,21 @@ public class OSGiLessAnalysisTests {
 
 	@Test
 	public void testAnalyzer() throws CoreException {
+		assertAnalysis(new BaseApiAnalyzer());
+	}
+
+	/**
+	 * Tests that running the API usage scan concurrently with the
+	 * compatibility checks reports the same problems
+	 */
+	@Test
+	public void testParallelAnalyzer() throws CoreException {
+		assertAnalysis(new BaseApiAnalyzer(true));
+	}
+
+	private void assertAnalysis(BaseApiAnalyzer analyzer) throws CoreException {
 		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", IPath.fromOSString("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
 		IApiBaseline current = TestSuiteHelper.createTestingBaseline("current", IPath.fromOSString("test-analyzer-2")); //$NON-NLS-1$ //$NON-NLS-2$
-		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
 		IApiComponent component = current.getApiComponent("test.bundle.a"); //$NON-NLS-1$
 		assertNotNull("Missing API component test.bundle.a", component); //$NON-NLS-1$
 		analyzer.analyzeComponent(null, null, null, baseline, component, new BuildContext(), new NullProgressMonitor());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,30 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.builder.tests.performance;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.test.performance.Dimension;
 
 import junit.framework.Test;
@@ -85,4 +102,99 @@ public class ApiDescriptionTests extends PerformanceTest {
 		commitMeasurements();
 		assertPerformance();
 	}
+
+	/**
+	 * Measures the heap retained by the API descriptions of the bundles of
+	 * the workspace target, in their {@link CompactApiDescription} form, and
+	 * reports it next to the heap retained by the same descriptions as
+	 * {@link ApiDescription} trees.
+	 *
+	 * @throws Exception
+	 */
+	public void testBinaryDescriptionRetainedHeap() throws Exception {
+		tagAsSummary("Retained heap of binary API descriptions", Dimension.USED_JAVA_HEAP); //$NON-NLS-1$
+
+		ITargetPlatformService service = ApiPlugin.getDefault().acquireService(ITargetPlatformService.class);
+		ITargetDefinition definition = service.getWorkspaceTargetDefinition();
+		IApiBaseline baseline = ApiModelFactory.newApiBaselineFromTarget("footprint", definition, new NullProgressMonitor()); //$NON-NLS-1$
+		try {
+			List<IApiDescription> sources = new ArrayList<>();
+			for (IApiComponent component : baseline.getApiComponents()) {
+				sources.add(component.getApiDescription());
+			}
+			long legacy = 0;
+			long compact = 0;
+			for (int j = 0; j < 5; j++) {
+				long used = usedHeap();
+				List<IApiDescription> copies = copyDescriptions(sources, false);
+				legacy = usedHeap() - used;
+				copies = null;
+
+				used = usedHeap();
+				startMeasuring();
+				copies = copyDescriptions(sources, true);
+				usedHeap();
+				stopMeasuring();
+				compact = usedHeap() - used;
+				assertEquals("Wrong number of descriptions", sources.size(), copies.size()); //$NON-NLS-1$
+			}
+			System.out.println("API descriptions of " + sources.size() + " components: " + (legacy / 1024) + " KB as trees, " + (compact / 1024) + " KB compact"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		} finally {
+			baseline.dispose();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Copies the given descriptions, creating new element descriptors for each
+	 * element as the .api_description reader does
+	 */
+	private List<IApiDescription> copyDescriptions(List<IApiDescription> sources, boolean compact) {
+		List<IApiDescription> copies = new ArrayList<>(sources.size());
+		for (IApiDescription source : sources) {
+			ApiDescription copy = compact ? new CompactApiDescription(null) : new ApiDescription(null);
+			source.accept(new ApiDescriptionVisitor() {
+				@Override
+				public boolean visitElement(IElementDescriptor element, IApiAnnotations description) {
+					IElementDescriptor descriptor = newDescriptor(element);
+					if (descriptor != null) {
+						copy.setVisibility(descriptor, description.getVisibility());
+						copy.setRestrictions(descriptor, description.getRestrictions());
+					}
+					return true;
+				}
+			}, null);
+			if (compact) {
+				((CompactApiDescription) copy).trimToSize();
+			}
+			copies.add(copy);
+		}
+		return copies;
+	}
+
+	private IElementDescriptor newDescriptor(IElementDescriptor element) {
+		switch (element.getElementType()) {
+			case IElementDescriptor.PACKAGE:
+				return Factory.packageDescriptor(((IPackageDescriptor) element).getName());
+			case IElementDescriptor.TYPE:
+				return Factory.typeDescriptor(((IReferenceTypeDescriptor) element).getQualifiedName());
+			case IElementDescriptor.METHOD:
+				IMethodDescriptor method = (IMethodDescriptor) element;
+				return Factory.methodDescriptor(method.getEnclosingType().getQualifiedName(), method.getName(), method.getSignature());
+			case IElementDescriptor.FIELD:
+				IFieldDescriptor field = (IFieldDescriptor) element;
+				return Factory.fieldDescriptor(field.getEnclosingType().getQualifiedName(), field.getName());
+			default:
+				return null;
+		}
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
 }
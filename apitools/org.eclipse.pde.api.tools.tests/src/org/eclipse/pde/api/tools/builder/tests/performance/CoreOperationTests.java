@@ -0,0 +1,374 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiFilterStore;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemFilter;
+import org.eclipse.pde.api.tools.tests.ApiTestsPlugin;
+import org.eclipse.test.performance.Dimension;
+
+import junit.framework.Test;
+
+/**
+ * Performance tests for the core operations of API tools, measured on their
+ * own rather than as part of a build: creating a baseline, building type
+ * structures, comparing class files, extracting and resolving references and
+ * looking up problem filters.
+ * <p>
+ * The tests use the same binary baseline and source workspace as
+ * {@link FullSourceBuildTests}.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public class CoreOperationTests extends PerformanceTest {
+
+	/**
+	 * Number of filters added to the filter store of a project
+	 */
+	static final int FILTER_COUNT = 2000;
+
+	public CoreOperationTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return buildTestSuite(CoreOperationTests.class);
+	}
+
+	@Override
+	protected String getBaselineLocation() {
+		return getTestSourcePath().append("bin-baseline.zip").toOSString(); //$NON-NLS-1$
+	}
+
+	@Override
+	protected String getWorkspaceLocation() {
+		return getTestSourcePath().append("source-ws.zip").toOSString(); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the binary baseline the workspace is compared to
+	 */
+	private IApiBaseline getBaseline() {
+		IApiBaseline baseline = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
+		assertNotNull("The default baseline should be set", baseline); //$NON-NLS-1$
+		return baseline;
+	}
+
+	/**
+	 * Returns the top level type roots of the given component
+	 */
+	private List<IApiTypeRoot> getTypeRoots(IApiComponent component) throws CoreException {
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				if (typeroot.getTypeName().indexOf('$') < 0) {
+					roots.add(typeroot);
+				}
+			}
+		});
+		return roots;
+	}
+
+	/**
+	 * Returns the component of the given baseline with the most types
+	 */
+	private IApiComponent getLargestComponent(IApiBaseline baseline) throws CoreException {
+		IApiComponent largest = null;
+		int size = -1;
+		for (IApiComponent component : baseline.getApiComponents()) {
+			if (component.isSystemComponent()) {
+				continue;
+			}
+			int count = getTypeRoots(component).size();
+			if (count > size) {
+				largest = component;
+				size = count;
+			}
+		}
+		assertNotNull("The baseline should have components", largest); //$NON-NLS-1$
+		return largest;
+	}
+
+	/**
+	 * Tests creating a baseline from the directory of jars of the binary
+	 * baseline.
+	 *
+	 * @throws Exception
+	 */
+	public void testCreateBaseline() throws Exception {
+		tagAsSummary("Create baseline from a directory of jars", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+
+		String id = IPath.fromOSString(getBaselineLocation()).lastSegment();
+		File[] files = ApiTestsPlugin.getDefault().getStateLocation().append(id).toFile().listFiles();
+		assertNotNull("The baseline should be unzipped", files); //$NON-NLS-1$
+
+		// WARM-UP
+		for (int j = 0; j < 2; j++) {
+			createBaseline(files).dispose();
+		}
+
+		// TEST
+		for (int j = 0; j < 10; j++) {
+			startMeasuring();
+			IApiBaseline baseline = createBaseline(files);
+			stopMeasuring();
+			baseline.dispose();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private IApiBaseline createBaseline(File[] files) throws CoreException {
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline(getName());
+		List<IApiComponent> components = new ArrayList<>(files.length);
+		for (File file : files) {
+			IApiComponent component = ApiModelFactory.newApiComponent(baseline, file.getAbsolutePath());
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		baseline.addApiComponents(components.toArray(new IApiComponent[components.size()]));
+		return baseline;
+	}
+
+	/**
+	 * Tests building the type structures of the largest component of the
+	 * binary baseline. The class files are read before measuring.
+	 *
+	 * @throws Exception
+	 */
+	public void testBuildTypeStructures() throws Exception {
+		tagAsSummary("Build type structures", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+
+		IApiComponent component = getLargestComponent(getBaseline());
+		List<IApiTypeRoot> roots = getTypeRoots(component);
+		List<byte[]> contents = new ArrayList<>(roots.size());
+		for (IApiTypeRoot root : roots) {
+			contents.add(((AbstractApiTypeRoot) root).getContents());
+		}
+
+		// WARM-UP
+		for (int j = 0; j < 2; j++) {
+			buildTypeStructures(component, roots, contents);
+		}
+
+		// TEST
+		for (int j = 0; j < 15; j++) {
+			startMeasuring();
+			buildTypeStructures(component, roots, contents);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void buildTypeStructures(IApiComponent component, List<IApiTypeRoot> roots, List<byte[]> contents) {
+		for (int i = 0; i < roots.size(); i++) {
+			TypeStructureBuilder.buildTypeStructure(contents.get(i), component, roots.get(i));
+		}
+	}
+
+	/**
+	 * Tests comparing the class files of the workspace projects with the ones
+	 * of the binary baseline, most types changed between the two.
+	 *
+	 * @throws Exception
+	 */
+	public void testCompareClassFiles() throws Exception {
+		tagAsSummary("Compare class files", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+
+		// get everything built
+		fullBuild();
+		IApiBaseline reference = getBaseline();
+		IApiBaseline workspace = ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline();
+		List<IApiTypeRoot[]> pairs = new ArrayList<>();
+		List<IApiComponent[]> components = new ArrayList<>();
+		for (IProject project : getEnv().getProjectBuildOrder()) {
+			IApiComponent component = workspace.getApiComponent(project.getName());
+			IApiComponent refComponent = reference.getApiComponent(project.getName());
+			if (component == null || refComponent == null) {
+				continue;
+			}
+			for (IApiTypeRoot refRoot : getTypeRoots(refComponent)) {
+				IApiTypeRoot root = component.findTypeRoot(refRoot.getTypeName());
+				if (root != null) {
+					pairs.add(new IApiTypeRoot[] { refRoot, root });
+					components.add(new IApiComponent[] { refComponent, component });
+				}
+			}
+		}
+		assertFalse("There should be class files to compare", pairs.isEmpty()); //$NON-NLS-1$
+
+		// WARM-UP
+		for (int j = 0; j < 2; j++) {
+			compareClassFiles(pairs, components, reference, workspace);
+		}
+
+		// TEST
+		for (int j = 0; j < 15; j++) {
+			startMeasuring();
+			compareClassFiles(pairs, components, reference, workspace);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void compareClassFiles(List<IApiTypeRoot[]> pairs, List<IApiComponent[]> components, IApiBaseline reference, IApiBaseline workspace) throws CoreException {
+		for (int i = 0; i < pairs.size(); i++) {
+			IApiTypeRoot[] pair = pairs.get(i);
+			IApiComponent[] owners = components.get(i);
+			new ClassFileComparator(pair[0], pair[1], owners[0], owners[1], reference, workspace, VisibilityModifiers.ALL_VISIBILITIES).getDelta(null);
+		}
+	}
+
+	/**
+	 * Tests extracting and resolving all the references of the largest
+	 * component of the binary baseline.
+	 *
+	 * @throws Exception
+	 */
+	public void testExtractAndResolveReferences() throws Exception {
+		tagAsSummary("Extract and resolve references", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+
+		IApiComponent component = getLargestComponent(getBaseline());
+		List<IApiType> types = new ArrayList<>();
+		for (IApiTypeRoot root : getTypeRoots(component)) {
+			IApiType type = root.getStructure();
+			if (type != null) {
+				types.add(type);
+			}
+		}
+
+		// WARM-UP
+		for (int j = 0; j < 2; j++) {
+			extractAndResolve(types);
+		}
+
+		// TEST
+		for (int j = 0; j < 10; j++) {
+			startMeasuring();
+			extractAndResolve(types);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void extractAndResolve(List<IApiType> types) throws CoreException {
+		for (IApiType type : types) {
+			List<IReference> references = type.extractReferences(IReference.MASK_REF_ALL, null);
+			ReferenceResolver.resolveReferences(references, null);
+		}
+	}
+
+	/**
+	 * Tests looking up problems in the filter store of a workspace project
+	 * with {@link #FILTER_COUNT} filters, half of the problems are filtered.
+	 *
+	 * @throws Exception
+	 */
+	public void testFilterStoreLookups() throws Exception {
+		tagAsSummary("Problem filter lookups", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+
+		IProject project = getEnv().getProjectBuildOrder()[0];
+		IApiComponent component = ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline().getApiComponent(project.getName());
+		assertNotNull("The project should have an API component", component); //$NON-NLS-1$
+		IApiFilterStore store = component.getFilterStore();
+		List<IResource> files = new ArrayList<>();
+		project.accept(resource -> {
+			if (resource.getType() == IResource.FILE && "java".equals(resource.getFileExtension())) { //$NON-NLS-1$
+				files.add(resource);
+			}
+			return true;
+		});
+		assertFalse("The project should have source files", files.isEmpty()); //$NON-NLS-1$
+
+		IApiProblemFilter[] filters = new IApiProblemFilter[FILTER_COUNT];
+		IApiProblem[] problems = new IApiProblem[FILTER_COUNT * 2];
+		for (int i = 0; i < FILTER_COUNT; i++) {
+			IResource file = files.get(i % files.size());
+			String path = file.getProjectRelativePath().toPortableString();
+			String typeName = file.getName().substring(0, file.getName().length() - 5);
+			String[] args = new String[] { typeName, "member" + i }; //$NON-NLS-1$
+			problems[i * 2] = ApiProblemFactory.newApiProblem(path, typeName, args, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_REFERENCE, IApiProblem.METHOD);
+			filters[i] = ApiProblemFactory.newProblemFilter(component.getSymbolicName(), problems[i * 2], null);
+			problems[i * 2 + 1] = ApiProblemFactory.newApiProblem(path, typeName, args, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.FIELD, IApiProblem.ILLEGAL_REFERENCE, IApiProblem.FIELD);
+		}
+		store.addFilters(filters);
+		try {
+			// WARM-UP
+			for (int j = 0; j < 2; j++) {
+				lookup(store, problems);
+			}
+
+			// TEST
+			for (int j = 0; j < 15; j++) {
+				startMeasuring();
+				lookup(store, problems);
+				stopMeasuring();
+			}
+
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			store.removeFilters(filters);
+		}
+	}
+
+	private void lookup(IApiFilterStore store, IApiProblem[] problems) {
+		int count = 0;
+		for (int i = 0; i < 50; i++) {
+			for (IApiProblem problem : problems) {
+				if (store.isFiltered(problem)) {
+					count++;
+				}
+			}
+		}
+		assertEquals("Half of the problems should be filtered", 50 * FILTER_COUNT, count); //$NON-NLS-1$
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.pde.api.tools.builder.tests.performance;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.test.performance.Dimension;
 
@@ -82,6 +83,51 @@ public class FullSourceBuildTests extends PerformanceTest {
 		assertPerformance();
 	}
 
+	/**
+	 * Tests a full build of the same workspace as {@link #testFullBuild()}
+	 * with the shared class file cache disabled, so that each class file is
+	 * parsed separately for its type structure and its references.
+	 *
+	 * @throws Exception
+	 */
+	public void testFullBuildWithoutClassFileCache() throws Exception {
+		tagAsSummary("Full Build without class file cache", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+
+		String size = System.getProperty(ClassFileCache.SIZE_PROPERTY);
+		System.setProperty(ClassFileCache.SIZE_PROPERTY, "0"); //$NON-NLS-1$
+		try {
+			// get everything built
+			fullBuild();
+			IProject[] projects = getEnv().getProjectBuildOrder();
+
+			// WARM-UP
+			for (int j = 0; j < 2; j++) {
+				orderedBuild(projects);
+			}
+
+			// TEST
+			for (int j = 0; j < 15; j++) {
+				startMeasuring();
+
+				// *** build each project ***
+				for (IProject project : projects) {
+					project.build(IncrementalProjectBuilder.FULL_BUILD, ApiPlugin.BUILDER_ID, null, null);
+				}
+
+				stopMeasuring();
+			}
+
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			if (size == null) {
+				System.clearProperty(ClassFileCache.SIZE_PROPERTY);
+			} else {
+				System.setProperty(ClassFileCache.SIZE_PROPERTY, size);
+			}
+		}
+	}
+
 	/**
 	 * Tests a clean and full build of a 3.4 workspace with source from debug.core and pre-reqs
 	 * against a baseline of 3.3 binary plug-ins.
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures the extraction of references from the class files of the
+ * <code>java.*</code> packages of the running JRE
+ *
+ * @since 1.3.100
+ */
+public class ReferenceExtractionTests extends PerformanceTestCase {
+
+	/**
+	 * The kinds of references searched by a typical API use scan: member
+	 * accesses only
+	 */
+	static final int MEMBER_REFERENCES = IReference.REF_VIRTUALMETHOD | IReference.REF_STATICMETHOD | IReference.REF_INTERFACEMETHOD | IReference.REF_GETFIELD | IReference.REF_GETSTATIC;
+
+	IApiBaseline fBaseline = null;
+	List<IApiType> fTypes = null;
+
+	public ReferenceExtractionTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(ReferenceExtractionTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fBaseline = ApiModelFactory.newApiBaseline(getName(), Util.getEEDescriptionFile());
+		IApiComponent component = fBaseline.getApiComponent(fBaseline.getExecutionEnvironment());
+		assertNotNull("The system library should be available", component); //$NON-NLS-1$
+		fTypes = getTypes(component);
+		assertFalse("The system library should contain java.* types", fTypes.isEmpty()); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fBaseline != null) {
+			fBaseline.dispose();
+			fBaseline = null;
+		}
+		fTypes = null;
+		super.tearDown();
+	}
+
+	/**
+	 * Collects the structures of the top level types of the
+	 * <code>java.*</code> packages of the given component
+	 */
+	private List<IApiType> getTypes(IApiComponent component) throws CoreException {
+		List<IApiType> types = new ArrayList<>();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public boolean visitPackage(String packageName) {
+				return packageName.startsWith("java."); //$NON-NLS-1$
+			}
+
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				if (typeroot.getTypeName().indexOf('$') < 0) {
+					try {
+						IApiType type = typeroot.getStructure();
+						if (type != null) {
+							types.add(type);
+						}
+					} catch (CoreException e) {
+						fail(e.getMessage());
+					}
+				}
+			}
+		});
+		return types;
+	}
+
+	/**
+	 * Extracts the references of the given kinds from all the types
+	 */
+	private void extract(int kinds) throws CoreException {
+		// WARM-UP
+		for (IApiType type : fTypes) {
+			type.extractReferences(kinds, null);
+		}
+		// TEST
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (IApiType type : fTypes) {
+				type.extractReferences(kinds, null);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests the extraction of all the references
+	 */
+	public void testExtractAllReferences() throws Exception {
+		tagAsSummary("Extract all references from the JRE", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		extract(IReference.MASK_REF_ALL);
+	}
+
+	/**
+	 * Tests the extraction of member references only, most of the
+	 * instructions of the class files are discarded
+	 */
+	public void testExtractMemberReferences() throws Exception {
+		tagAsSummary("Extract member references from the JRE", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		extract(MEMBER_REFERENCES);
+	}
+}
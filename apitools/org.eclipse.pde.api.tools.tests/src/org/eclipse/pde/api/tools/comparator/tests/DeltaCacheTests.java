@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.comparator.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.pde.api.tools.internal.comparator.DeltaCache;
+import org.eclipse.pde.api.tools.internal.comparator.DeltaXmlVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DeltaCache} used when comparing class files
+ */
+public class DeltaCacheTests extends DeltaTestSetup {
+
+	@Override
+	public String getTestRoot() {
+		return "class"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the XML form of the given delta
+	 */
+	private String toXML(IDelta delta) throws Exception {
+		DeltaXmlVisitor visitor = new DeltaXmlVisitor();
+		delta.accept(visitor);
+		return visitor.getXML();
+	}
+
+	/**
+	 * Compares the type <code>X</code> of the given test twice and checks
+	 * that the second comparison returns the cached delta
+	 *
+	 * @return the delta of the second comparison
+	 */
+	private IDelta compareTwice(String testName) throws Exception {
+		return compareTwice(testName, false);
+	}
+
+	/**
+	 * Compares the type <code>X</code> of the given test twice and checks
+	 * that the second comparison returns the cached delta, optionally saving
+	 * and restoring the cache in between
+	 *
+	 * @return the delta of the second comparison
+	 */
+	private IDelta compareTwice(String testName, boolean restore) throws Exception {
+		DeltaCache cache = DeltaCache.getDefault();
+		assertNotNull("The delta cache should be enabled", cache); //$NON-NLS-1$
+		deployBundles(testName);
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		IApiComponent beforeApiComponent = before.getApiComponent(BUNDLE_NAME);
+		assertNotNull("no api component", beforeApiComponent); //$NON-NLS-1$
+		IApiComponent afterApiComponent = after.getApiComponent(BUNDLE_NAME);
+		assertNotNull("no api component", afterApiComponent); //$NON-NLS-1$
+		IApiTypeRoot classFile = beforeApiComponent.findTypeRoot("X"); //$NON-NLS-1$
+		assertNotNull("No X", classFile); //$NON-NLS-1$
+		IApiTypeRoot classFile2 = afterApiComponent.findTypeRoot("X"); //$NON-NLS-1$
+		assertNotNull("No X", classFile2); //$NON-NLS-1$
+		byte[] key = cache.computeKey(classFile.getStructure(), classFile2.getStructure(), beforeApiComponent, afterApiComponent, before, after, VisibilityModifiers.ALL_VISIBILITIES);
+		assertNotNull("The comparison should be cacheable", key); //$NON-NLS-1$
+		byte[] otherKey = cache.computeKey(classFile2.getStructure(), classFile.getStructure(), afterApiComponent, beforeApiComponent, after, before, VisibilityModifiers.ALL_VISIBILITIES);
+		assertFalse("The keys of different comparisons should differ", Arrays.equals(key, otherKey)); //$NON-NLS-1$
+		cache.clear();
+		assertNull("The delta should not be cached", cache.get(key)); //$NON-NLS-1$
+		IDelta delta = ApiComparator.compare(classFile, classFile2, beforeApiComponent, afterApiComponent, before, after, VisibilityModifiers.ALL_VISIBILITIES, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		assertNotNull("The delta should be cached", cache.get(key)); //$NON-NLS-1$
+		if (restore) {
+			DeltaCache.shutdown();
+			cache = DeltaCache.getDefault();
+			assertNotNull("The delta cache should be enabled", cache); //$NON-NLS-1$
+			assertTrue("The key should not change", Arrays.equals(key, cache.computeKey(classFile.getStructure(), classFile2.getStructure(), beforeApiComponent, afterApiComponent, before, after, VisibilityModifiers.ALL_VISIBILITIES))); //$NON-NLS-1$
+			assertNotNull("The delta should have been saved", cache.get(key)); //$NON-NLS-1$
+		}
+		IDelta cached = ApiComparator.compare(classFile, classFile2, beforeApiComponent, afterApiComponent, before, after, VisibilityModifiers.ALL_VISIBILITIES, null);
+		assertNotNull("No delta", cached); //$NON-NLS-1$
+		assertEquals("The cached delta should be the same", toXML(delta), toXML(cached)); //$NON-NLS-1$
+		return cached;
+	}
+
+	/**
+	 * Tests that a delta with children is restored from the cache
+	 */
+	@Test
+	public void testCachedDelta() throws Exception {
+		IDelta delta = compareTwice("test1"); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		assertEquals("Wrong size", 1, allLeavesDeltas.length); //$NON-NLS-1$
+		IDelta child = allLeavesDeltas[0];
+		assertEquals("Wrong kind", IDelta.REMOVED, child.getKind()); //$NON-NLS-1$
+		assertEquals("Wrong flag", IDelta.METHOD, child.getFlags()); //$NON-NLS-1$
+		assertEquals("Wrong element type", IDelta.CLASS_ELEMENT_TYPE, child.getElementType()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the absence of changes is restored from the cache
+	 */
+	@Test
+	public void testCachedNoDelta() throws Exception {
+		IDelta delta = compareTwice("test3"); //$NON-NLS-1$
+		assertSame("Different from NO_DELTA", ApiComparator.NO_DELTA, delta); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the cached deltas are saved and restored
+	 */
+	@Test
+	public void testSavedCache() throws Exception {
+		IDelta delta = compareTwice("test1", true); //$NON-NLS-1$
+		assertEquals("Wrong size", 1, collectLeaves(delta).length); //$NON-NLS-1$
+	}
+}
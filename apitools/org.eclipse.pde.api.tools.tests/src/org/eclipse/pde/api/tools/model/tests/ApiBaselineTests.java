@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,10 @@
 package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -29,6 +31,9 @@ import java.util.stream.Collectors;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -335,6 +340,37 @@ public class ApiBaselineTests {
 		fail("Missing prerequisite bundle"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests replacing and removing components of a baseline without rebuilding
+	 * it, the package resolutions involving them must be updated
+	 */
+	@Test
+	public void testUpdateComponents() throws CoreException {
+		ApiBaseline baseline = (ApiBaseline) TestSuiteHelper.createTestingBaseline(TEST_PLUGINS);
+		try {
+			IApiComponent original = baseline.getApiComponent(COMPONENT_A);
+			IApiComponent[] components = baseline.resolvePackage(baseline.getApiComponent(COMPONENT_B), COMPONENT_A);
+			assertEquals("Wrong provider for package", original, components[0]); //$NON-NLS-1$
+			assertFalse("The bundle should be unchanged", ((BundleComponent) original).hasChangedOnDisk()); //$NON-NLS-1$
+
+			IApiComponent replacement = ApiModelFactory.newApiComponent(baseline, original.getLocation());
+			baseline.updateApiComponents(new IApiComponent[] { original }, new IApiComponent[] { replacement });
+			assertTrue("The replaced component should be disposed", original.isDisposed()); //$NON-NLS-1$
+			assertSame("Wrong component", replacement, baseline.getApiComponent(COMPONENT_A)); //$NON-NLS-1$
+			components = baseline.resolvePackage(baseline.getApiComponent(COMPONENT_B), COMPONENT_A);
+			assertEquals("Wrong size", 1, components.length); //$NON-NLS-1$
+			assertSame("Wrong provider for package", replacement, components[0]); //$NON-NLS-1$
+
+			baseline.updateApiComponents(new IApiComponent[] { replacement }, new IApiComponent[0]);
+			assertNull("The component should be removed", baseline.getApiComponent(COMPONENT_A)); //$NON-NLS-1$
+			assertNotNull("The other components should be kept", baseline.getApiComponent(COMPONENT_B)); //$NON-NLS-1$
+			components = baseline.resolvePackage(baseline.getApiComponent(COMPONENT_B), COMPONENT_A);
+			assertEquals("The package should not be provided anymore", 0, components.length); //$NON-NLS-1$
+		} finally {
+			baseline.dispose();
+		}
+	}
+
 	/**
 	 * Tests getting the location from an 'old' baseline
 	 */
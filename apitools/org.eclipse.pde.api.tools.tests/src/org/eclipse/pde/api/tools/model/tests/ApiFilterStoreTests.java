@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -248,6 +248,35 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * tests that a filter with simple names as message arguments is found for
+	 * a problem with qualified names as message arguments
+	 *
+	 * @throws CoreException
+	 */
+	@Test
+	public void testFilterQualifiedMessageArguments() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(IPath.fromOSString("src/x/y/z/C4.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/y/z/C4.java must exist", resource); //$NON-NLS-1$
+		String path = resource.getProjectRelativePath().toPortableString();
+		IApiProblem problem = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "C4" }, null, null, -1, -1, -1, //$NON-NLS-1$ //$NON-NLS-2$
+				IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS);
+		IApiFilterStore store = component.getFilterStore();
+		store.addFiltersFor(new IApiProblem[] { problem });
+		IApiProblem qualified = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "x.y.z.C4" }, null, null, -1, -1, -1, //$NON-NLS-1$ //$NON-NLS-2$
+				IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS);
+		assertTrue("the problem with a qualified argument should be filtered", store.isFiltered(qualified)); //$NON-NLS-1$
+		IApiProblem other = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "x.y.z.C5" }, null, null, -1, -1, -1, //$NON-NLS-1$ //$NON-NLS-2$
+				IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS);
+		assertFalse("the problem with another argument should not be filtered", store.isFiltered(other)); //$NON-NLS-1$
+		store.removeFilters(new IApiProblemFilter[] {
+				ApiProblemFactory.newProblemFilter(component.getSymbolicName(), problem, null) });
+		assertFalse("the problem should not be filtered once the filter is removed", store.isFiltered(qualified)); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests that a filter store will not be annotated from a bundle
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,21 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -242,4 +246,36 @@ public class ApiTypeContainerTests {
 		assertEquals("Visited wrong number of packages", expectedPkgOrder.size(), visit.size()); //$NON-NLS-1$
 		assertEquals("Visit order incorrect", expectedPkgOrder, visit);		 //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that the contents of the class files read from an archive are the
+	 * same as the ones of the zip entries
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testArchiveClassFileContents() throws Exception {
+		IApiTypeContainer container = buildArchiveContainer();
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		container.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot classFile) {
+				roots.add(classFile);
+			}
+		});
+		assertTrue("There should be class files", !roots.isEmpty()); //$NON-NLS-1$
+		try (ZipFile zip = new ZipFile(path.toFile())) {
+			for (IApiTypeRoot root : roots) {
+				ZipEntry entry = zip.getEntry(root.getName());
+				assertTrue("Missing zip entry for " + root.getTypeName(), entry != null); //$NON-NLS-1$
+				try (InputStream stream = zip.getInputStream(entry)) {
+					assertArrayEquals("Wrong contents for " + root.getTypeName(), stream.readAllBytes(), root.getContents()); //$NON-NLS-1$
+				}
+			}
+		}
+		container.close();
+		IApiTypeRoot root = container.findTypeRoot(roots.get(0).getTypeName());
+		assertTrue("The class file should be found after closing the archive", root != null && root.getContents().length > 0); //$NON-NLS-1$
+	}
 }
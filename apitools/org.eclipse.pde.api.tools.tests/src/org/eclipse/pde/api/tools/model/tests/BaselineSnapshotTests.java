@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.model.BaselineSnapshot;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link BaselineSnapshot} used by the headless and Ant entry points
+ */
+public class BaselineSnapshotTests {
+
+	File fRoot = null;
+	File fSnapshots = null;
+	List<IApiBaseline> fBaselines = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		fRoot = Files.createTempDirectory("snapshots").toFile(); //$NON-NLS-1$
+		fSnapshots = new File(fRoot, "snapshots"); //$NON-NLS-1$
+		System.setProperty(BaselineSnapshot.DIRECTORY_PROPERTY, fSnapshots.getAbsolutePath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		System.clearProperty(BaselineSnapshot.DIRECTORY_PROPERTY);
+		for (IApiBaseline baseline : fBaselines) {
+			baseline.dispose();
+		}
+		fBaselines.clear();
+		TestSuiteHelper.delete(fRoot);
+	}
+
+	/**
+	 * Creates a baseline with the bundles at the given locations
+	 */
+	private IApiBaseline createBaseline(String name, List<String> locations) throws Exception {
+		IApiBaseline baseline = TestSuiteHelper.newApiBaseline(name, TestSuiteHelper.getEEDescriptionFile());
+		fBaselines.add(baseline);
+		BaselineSnapshot.addComponents(baseline, "test", locations, null); //$NON-NLS-1$
+		return baseline;
+	}
+
+	/**
+	 * Returns the number of snapshots saved
+	 */
+	private int countSnapshots() {
+		String[] names = fSnapshots.list((dir, name) -> name.endsWith(".snapshot")); //$NON-NLS-1$
+		return names == null ? 0 : names.length;
+	}
+
+	/**
+	 * Tests that a baseline restored from a snapshot has the same components
+	 * and API descriptions as the baseline the snapshot was saved from
+	 */
+	@Test
+	public void testRestoreBaseline() throws Exception {
+		File bundle = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins-with-desc").append("component.a_1.0.0.jar").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		List<String> locations = Collections.singletonList(bundle.getAbsolutePath());
+		IApiBaseline baseline = createBaseline("saved", locations); //$NON-NLS-1$
+		IApiComponent component = baseline.getApiComponent("component.a"); //$NON-NLS-1$
+		assertNotNull("The component should exist", component); //$NON-NLS-1$
+		assertEquals("The snapshot should be saved", 1, countSnapshots()); //$NON-NLS-1$
+		File file = fSnapshots.listFiles()[0];
+		long length = file.length();
+		assertNotNull("The API description should be created", component.getApiDescription()); //$NON-NLS-1$
+		baseline.dispose();
+		assertTrue("The API description should be added to the snapshot", file.length() > length); //$NON-NLS-1$
+		length = file.length();
+		long saved = file.lastModified();
+
+		IApiBaseline restored = createBaseline("restored", locations); //$NON-NLS-1$
+		IApiComponent restoredComponent = restored.getApiComponent("component.a"); //$NON-NLS-1$
+		assertNotNull("The component should be restored", restoredComponent); //$NON-NLS-1$
+		assertEquals("Wrong version", component.getVersion(), restoredComponent.getVersion()); //$NON-NLS-1$
+		assertNotNull("The API description should be restored", restoredComponent.getApiDescription()); //$NON-NLS-1$
+		assertTrue("Should have an .api_description file", restoredComponent.hasApiDescription()); //$NON-NLS-1$
+		restored.dispose();
+		assertEquals("The unchanged snapshot should not be saved again", saved, file.lastModified()); //$NON-NLS-1$
+		assertEquals("The unchanged snapshot should not be saved again", length, file.length()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the API description of a bundle is not read for the snapshot
+	 * when it is not used, and that the bundle is still restored
+	 */
+	@Test
+	public void testUnusedApiDescription() throws Exception {
+		File bundle = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins-with-desc").append("component.a_1.0.0.jar").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		List<String> locations = Collections.singletonList(bundle.getAbsolutePath());
+		IApiBaseline baseline = createBaseline("saved", locations); //$NON-NLS-1$
+		assertNotNull("The component should exist", baseline.getApiComponent("component.a")); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = fSnapshots.listFiles()[0];
+		long length = file.length();
+		baseline.dispose();
+		assertEquals("The snapshot should not be saved again", length, file.length()); //$NON-NLS-1$
+
+		IApiBaseline restored = createBaseline("restored", locations); //$NON-NLS-1$
+		IApiComponent restoredComponent = restored.getApiComponent("component.a"); //$NON-NLS-1$
+		assertNotNull("The component should be restored", restoredComponent); //$NON-NLS-1$
+		assertNotNull("The API description should be read from the bundle", restoredComponent.getApiDescription()); //$NON-NLS-1$
+		assertTrue("Should have an .api_description file", restoredComponent.hasApiDescription()); //$NON-NLS-1$
+		restored.dispose();
+		assertTrue("The API description should be added to the snapshot", file.length() > length); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a bundle replaced after the snapshot was saved is read again
+	 */
+	@Test
+	public void testChangedBundle() throws Exception {
+		File plugins = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins").toFile(); //$NON-NLS-1$
+		File bundle = new File(fRoot, "bundle.jar"); //$NON-NLS-1$
+		Files.copy(new File(plugins, "component.a_1.0.0.jar").toPath(), bundle.toPath()); //$NON-NLS-1$
+		List<String> locations = Collections.singletonList(bundle.getAbsolutePath());
+		IApiBaseline baseline = createBaseline("saved", locations); //$NON-NLS-1$
+		assertNotNull("The component should exist", baseline.getApiComponent("component.a")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		long timestamp = bundle.lastModified();
+		Files.copy(new File(plugins, "component.b_1.0.0.jar").toPath(), bundle.toPath(), StandardCopyOption.REPLACE_EXISTING); //$NON-NLS-1$
+		bundle.setLastModified(timestamp + 10000);
+		IApiBaseline changed = createBaseline("changed", locations); //$NON-NLS-1$
+		assertNull("The component should not be restored", changed.getApiComponent("component.a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("The component should be read again", changed.getApiComponent("component.b")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that a snapshot with a valid header followed by a huge count is
+	 * discarded, and the bundles read from disk, rather than failing the run
+	 */
+	@Test
+	public void testHugeCount() throws Exception {
+		File bundle = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins").append("component.a_1.0.0.jar").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		List<String> locations = Collections.singletonList(bundle.getAbsolutePath());
+		createBaseline("saved", locations); //$NON-NLS-1$
+		File file = fSnapshots.listFiles()[0];
+		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+			out.writeUTF(ApiPlugin.PLUGIN_ID);
+			out.writeUTF("BASELINE_SNAPSHOT"); //$NON-NLS-1$
+			out.writeInt(2);
+			byte[] key = "bundles:test".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+			out.writeInt(key.length);
+			out.write(key);
+			out.writeInt(Integer.MAX_VALUE);
+		}
+		long length = file.length();
+
+		IApiBaseline restored = createBaseline("restored", locations); //$NON-NLS-1$
+		assertNotNull("The component should be read again", restored.getApiComponent("component.a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("The snapshot should be saved again", file.length() > length); //$NON-NLS-1$
+	}
+}
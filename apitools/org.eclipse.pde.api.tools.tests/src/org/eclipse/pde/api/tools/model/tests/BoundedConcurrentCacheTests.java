@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.pde.api.tools.internal.BoundedConcurrentCache;
+import org.junit.Test;
+
+/**
+ * Tests the {@link BoundedConcurrentCache}
+ */
+public class BoundedConcurrentCacheTests {
+
+	/**
+	 * Tests basic put, get and remove along with the hit and miss counts
+	 */
+	@Test
+	public void testPutGetRemove() {
+		BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(10, null);
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+		cache.put("a", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong value", "1", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNull("There should be no value", cache.get("b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong removed value", "1", cache.remove("a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+		assertEquals("Wrong hit count", 1, cache.getStatistics().getHitCount()); //$NON-NLS-1$
+		assertEquals("Wrong miss count", 1, cache.getStatistics().getMissCount()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the cache does not grow over its maximum size and that
+	 * frequently read entries survive a scan of entries read only once
+	 */
+	@Test
+	public void testBoundedSize() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(10, null);
+		cache.put(-1, -1);
+		for (int i = 0; i < 5; i++) {
+			cache.get(-1);
+		}
+		for (int i = 0; i < 100; i++) {
+			cache.computeIfAbsent(i, k -> k);
+			cache.get(-1);
+		}
+		assertTrue("The cache should be bounded: " + cache.size(), cache.size() <= 10); //$NON-NLS-1$
+		assertNotNull("The frequently used entry should still be cached", cache.get(-1)); //$NON-NLS-1$
+		BoundedConcurrentCache.Statistics statistics = cache.getStatistics();
+		assertTrue("There should have been evictions or rejections", statistics.getEvictionCount() + statistics.getRejectionCount() > 0); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a cache without admission filter always keeps the entry it
+	 * just computed, even if the other entries are requested more often
+	 */
+	@Test
+	public void testNoAdmissionFilter() {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(10, null, false);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+			for (int j = 0; j < 5; j++) {
+				cache.get(i);
+			}
+		}
+		for (int i = 10; i < 100; i++) {
+			Integer value = cache.computeIfAbsent(i, k -> k);
+			assertEquals("Wrong value", Integer.valueOf(i), value); //$NON-NLS-1$
+			assertEquals("The new entry should have been cached", value, cache.get(i)); //$NON-NLS-1$
+			assertTrue("The cache should be bounded: " + cache.size(), cache.size() <= 10); //$NON-NLS-1$
+		}
+		assertEquals("There should be no rejection", 0, cache.getStatistics().getRejectionCount()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests concurrent use of the cache from several threads
+	 */
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(50, null);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				int offset = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						int key = (i * 7 + offset) % 200;
+						Integer value = cache.computeIfAbsent(key, k -> k);
+						assertEquals("Wrong value", Integer.valueOf(key), value); //$NON-NLS-1$
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		// a last single threaded write always brings the cache back in bounds
+		cache.put(-1, -1);
+		assertTrue("The cache should be bounded: " + cache.size(), cache.size() <= 50); //$NON-NLS-1$
+	}
+}
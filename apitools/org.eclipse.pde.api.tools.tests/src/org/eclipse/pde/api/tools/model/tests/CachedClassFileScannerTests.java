@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
+import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs the {@link ClassFileScannerTests} with the class files parsed once and
+ * replayed from a {@link ClassFileCache}
+ */
+public class CachedClassFileScannerTests extends ClassFileScannerTests {
+
+	@Before
+	public void beginSession() {
+		ClassFileCache.begin(getContainer());
+	}
+
+	@After
+	public void endSession() {
+		ClassFileCache.end(getContainer());
+	}
+
+	/**
+	 * Returns the references of the given type as comparable strings,
+	 * including their line numbers
+	 */
+	private Set<String> getReferences(String typeName) {
+		Set<String> result = new TreeSet<>();
+		List<IReference> refs = getRefSet(typeName);
+		for (IReference ref : refs) {
+			result.add(ref.getReferenceKind() + " " + ref.getLineNumber() + " " + ref.getMember().getName() + " " + ref.getReferencedTypeName() + " " + ref.getReferencedMemberName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		return result;
+	}
+
+	/**
+	 * Tests that a class file is parsed once per session and that the
+	 * references extracted from the cached class file are the same as the
+	 * ones extracted from its bytes
+	 */
+	@Test
+	public void testCachedReferences() throws Exception {
+		IApiTypeRoot root = getContainer().findTypeRoot("classes.Test3"); //$NON-NLS-1$
+		assertNotNull("The type root should exist", root); //$NON-NLS-1$
+		assertSame("The class file should be parsed once", ClassFileCache.getClassNode(root), ClassFileCache.getClassNode(root)); //$NON-NLS-1$
+		Set<String> cached = getReferences("classes.Test3"); //$NON-NLS-1$
+		ClassFileCache.end(getContainer());
+		try {
+			assertEquals("The references should be the same", getReferences("classes.Test3"), cached); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			ClassFileCache.begin(getContainer());
+		}
+	}
+
+	/**
+	 * Tests that a class file is parsed again once it changed
+	 */
+	@Test
+	public void testChangedClassFile() throws Exception {
+		IApiTypeRoot root = getContainer().findTypeRoot("classes.Test3"); //$NON-NLS-1$
+		assertNotNull("The type root should exist", root); //$NON-NLS-1$
+		Object node = ClassFileCache.getClassNode(root);
+		assertNotNull("The class file should be cached", node); //$NON-NLS-1$
+		File file = getWorkspaceRoot().append(getPackageName()).append("classes").append("Test3.class").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("The class file should exist", file.exists()); //$NON-NLS-1$
+		long modified = file.lastModified();
+		assertTrue("The class file should have been touched", file.setLastModified(modified - 10000)); //$NON-NLS-1$
+		try {
+			Object changed = ClassFileCache.getClassNode(root);
+			assertNotSame("The changed class file should be parsed again", node, changed); //$NON-NLS-1$
+			assertSame("The changed class file should be cached", changed, ClassFileCache.getClassNode(root)); //$NON-NLS-1$
+		} finally {
+			file.setLastModified(modified);
+		}
+	}
+
+	/**
+	 * Tests that the class files of an element without an open session are
+	 * not cached
+	 */
+	@Test
+	public void testOtherContainerNotCached() throws Exception {
+		DirectoryApiTypeContainer other = new DirectoryApiTypeContainer(null, getWorkspaceRoot().append(getPackageName()).toOSString());
+		IApiTypeRoot root = other.findTypeRoot("classes.Test3"); //$NON-NLS-1$
+		assertNotNull("The type root should exist", root); //$NON-NLS-1$
+		assertNull("The class file should not be cached", ClassFileCache.getClassNode(root)); //$NON-NLS-1$
+	}
+}
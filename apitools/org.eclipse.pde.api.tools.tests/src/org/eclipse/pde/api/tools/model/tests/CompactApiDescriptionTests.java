@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+
+/**
+ * Runs the {@link ApiDescriptionTests} against a
+ * {@link CompactApiDescription}
+ */
+public class CompactApiDescriptionTests extends ApiDescriptionTests {
+
+	@Override
+	protected IApiDescription newDescription() {
+		return new CompactApiDescription(null);
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureIndex;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link TypeStructureIndex}
+ */
+public class TypeStructureIndexTests {
+
+	/**
+	 * Constant used to check constant values are persisted
+	 */
+	public static final String CONSTANT = "constant"; //$NON-NLS-1$
+	public static final long LONG_CONSTANT = 42L;
+
+	File fIndexFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fIndexFile = Files.createTempFile("apitools", ".types").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.delete(fIndexFile.toPath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(fIndexFile.toPath());
+	}
+
+	/**
+	 * @return the class file bytes of this test class
+	 */
+	private byte[] getContents() throws IOException {
+		try (InputStream stream = getClass().getResourceAsStream(getClass().getSimpleName() + ".class")) { //$NON-NLS-1$
+			return stream.readAllBytes();
+		}
+	}
+
+	/**
+	 * Tests that a recorded type is found in the index and that it survives
+	 * saving and reopening the index
+	 */
+	@Test
+	public void testRecordSaveAndLookup() throws Exception {
+		byte[] contents = getContents();
+		String typeName = getClass().getName();
+		IApiType type = TypeStructureBuilder.buildTypeStructure(contents, null, null);
+		assertNotNull("The type should have been built", type); //$NON-NLS-1$
+
+		TypeStructureIndex index = new TypeStructureIndex(fIndexFile);
+		assertNull("The index should be empty", index.lookup(typeName, contents, null, null)); //$NON-NLS-1$
+		index.record(typeName, contents, type);
+		assertTrue("The index should need saving", index.needsSaving()); //$NON-NLS-1$
+		assertType(type, index.lookup(typeName, contents, null, null));
+		index.save();
+		assertFalse("The index should have been saved", index.needsSaving()); //$NON-NLS-1$
+		assertTrue("The index file should exist", fIndexFile.exists()); //$NON-NLS-1$
+
+		TypeStructureIndex reopened = new TypeStructureIndex(fIndexFile);
+		assertType(type, reopened.lookup(typeName, contents, null, null));
+	}
+
+	/**
+	 * Tests that an entry is not reused for different class file contents
+	 */
+	@Test
+	public void testChangedContents() throws Exception {
+		byte[] contents = getContents();
+		String typeName = getClass().getName();
+		IApiType type = TypeStructureBuilder.buildTypeStructure(contents, null, null);
+		TypeStructureIndex index = new TypeStructureIndex(fIndexFile);
+		index.record(typeName, contents, type);
+		index.save();
+
+		byte[] changed = contents.clone();
+		changed[changed.length - 1]++;
+		TypeStructureIndex reopened = new TypeStructureIndex(fIndexFile);
+		assertNull("The entry should not match changed contents", reopened.lookup(typeName, changed, null, null)); //$NON-NLS-1$
+		assertNull("The entry should not match another type name", reopened.lookup("a.b.C", contents, null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that deleting the index removes its file and entries
+	 */
+	@Test
+	public void testDelete() throws Exception {
+		byte[] contents = getContents();
+		String typeName = getClass().getName();
+		TypeStructureIndex index = new TypeStructureIndex(fIndexFile);
+		index.record(typeName, contents, TypeStructureBuilder.buildTypeStructure(contents, null, null));
+		index.save();
+		index.delete();
+		assertFalse("The index file should have been deleted", fIndexFile.exists()); //$NON-NLS-1$
+		assertNull("The index should be empty", index.lookup(typeName, contents, null, null)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that saving replaces the mapped index file, and that a closed
+	 * index keeps its saved entries when it is saved again
+	 */
+	@Test
+	public void testSaveOverMappedIndex() throws Exception {
+		byte[] contents = getContents();
+		String typeName = getClass().getName();
+		IApiType type = TypeStructureBuilder.buildTypeStructure(contents, null, null);
+		TypeStructureIndex index = new TypeStructureIndex(fIndexFile);
+		index.record(typeName, contents, type);
+		index.save();
+		assertType(type, index.lookup(typeName, contents, null, null));
+
+		// the file is mapped, saving again must replace it
+		index.record("a.b.C", contents, type); //$NON-NLS-1$
+		index.save();
+		assertType(type, index.lookup(typeName, contents, null, null));
+		assertType(type, index.lookup("a.b.C", contents, null, null)); //$NON-NLS-1$
+
+		index.close();
+		index.record("a.b.D", contents, type); //$NON-NLS-1$
+		index.save();
+		index.close();
+		TypeStructureIndex reopened = new TypeStructureIndex(fIndexFile);
+		assertType(type, reopened.lookup(typeName, contents, null, null));
+		assertType(type, reopened.lookup("a.b.C", contents, null, null)); //$NON-NLS-1$
+		assertType(type, reopened.lookup("a.b.D", contents, null, null)); //$NON-NLS-1$
+		reopened.close();
+		Files.delete(fIndexFile.toPath());
+	}
+
+	private void assertType(IApiType expected, IApiType actual) {
+		assertNotNull("The type should be in the index", actual); //$NON-NLS-1$
+		assertEquals("Wrong name", expected.getName(), actual.getName()); //$NON-NLS-1$
+		assertEquals("Wrong modifiers", expected.getModifiers(), actual.getModifiers()); //$NON-NLS-1$
+		assertEquals("Wrong superclass", expected.getSuperclassName(), actual.getSuperclassName()); //$NON-NLS-1$
+		assertArrayEquals("Wrong super interfaces", expected.getSuperInterfaceNames(), actual.getSuperInterfaceNames()); //$NON-NLS-1$
+		IApiField[] fields = expected.getFields();
+		assertEquals("Wrong number of fields", fields.length, actual.getFields().length); //$NON-NLS-1$
+		for (IApiField field : fields) {
+			IApiField other = actual.getField(field.getName());
+			assertNotNull("Missing field " + field.getName(), other); //$NON-NLS-1$
+			assertEquals("Wrong field signature", field.getSignature(), other.getSignature()); //$NON-NLS-1$
+			assertEquals("Wrong field modifiers", field.getModifiers(), other.getModifiers()); //$NON-NLS-1$
+			assertEquals("Wrong constant value", field.getConstantValue(), other.getConstantValue()); //$NON-NLS-1$
+		}
+		IApiMethod[] methods = expected.getMethods();
+		assertEquals("Wrong number of methods", methods.length, actual.getMethods().length); //$NON-NLS-1$
+		for (IApiMethod method : methods) {
+			IApiMethod other = actual.getMethod(method.getName(), method.getSignature());
+			assertNotNull("Missing method " + method.getName(), other); //$NON-NLS-1$
+			assertEquals("Wrong method modifiers", method.getModifiers(), other.getModifiers()); //$NON-NLS-1$
+			assertArrayEquals("Wrong exceptions", method.getExceptionNames(), other.getExceptionNames()); //$NON-NLS-1$
+		}
+	}
+}
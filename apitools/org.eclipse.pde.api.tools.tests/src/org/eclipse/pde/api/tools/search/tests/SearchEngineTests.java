@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,24 @@ public class SearchEngineTests extends SearchTest {
 		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, null);
 	}
 
+	/**
+	 * Tests that searching with several workers reports the same matches as a
+	 * serial search
+	 *
+	 * @throws CoreException
+	 */
+	@Test
+	public void testSearchConcurrently() throws CoreException {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(new String[] { P2_NAME, P3_NAME },
+				new int[][] { { IReference.REF_FIELDDECL, IReference.REF_FIELDDECL },
+						{ IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL } });
+		TEST_REPORTER.setExpectedNotSearched(null);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, 3, null);
+	}
+
 	/**
 	 * Tests that the search engine properly reports matches when the scope and
 	 * baseline are not the same
@@ -110,6 +110,12 @@ public class TestRequestor implements IApiSearchRequestor {
 		return false;
 	}
 
+	@Override
+	public IApiSearchRequestor newConcurrentRequestor() {
+		// the scope is computed before searching, nothing else changes
+		return this;
+	}
+
 	@Override
 	public int getReferenceKinds() {
 		return IReference.MASK_REF_ALL & ~IReference.REF_CONSTANTPOOL;
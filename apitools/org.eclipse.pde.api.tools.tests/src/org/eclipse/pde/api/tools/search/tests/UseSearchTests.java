@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,14 +21,28 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
+import org.eclipse.pde.api.tools.internal.search.BinarySearchReporter;
+import org.eclipse.pde.api.tools.internal.search.BinaryUseScanReader;
+import org.eclipse.pde.api.tools.internal.search.UseReportConverter;
+import org.eclipse.pde.api.tools.internal.search.UseScanManager;
+import org.eclipse.pde.api.tools.internal.search.UseScanParser;
+import org.eclipse.pde.api.tools.internal.search.UseScanVisitor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.After;
@@ -189,6 +203,90 @@ public class UseSearchTests extends SearchTest {
 		}
 	}
 
+	/**
+	 * Tests that the binary reporter writes a single reference store that is
+	 * read back by the {@link UseScanParser} with the same components as the
+	 * XML report
+	 */
+	@Test
+	public void testSearchBinaryReporterNoExclusions() throws Exception {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(
+				new String[] {P2_NAME, P3_NAME},
+				new int[][] {{IReference.REF_FIELDDECL, IReference.REF_FIELDDECL}, {IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL}});
+		TEST_REPORTER.setExpectedNotSearched(null);
+		BinarySearchReporter reporter = new BinarySearchReporter(XML_PATH.toOSString(), false);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, new TestCompositeSearchReporter(this, new IApiSearchReporter[] { TEST_REPORTER, reporter }), null);
+		reporter.reportCounts();
+		File root = XML_PATH.toFile();
+		assertTrue("the binary reference store must exist", BinaryUseScanReader.isBinaryScan(root)); //$NON-NLS-1$
+		assertTrue("the binary report must be a valid use scan", UseScanManager.isValidDirectory(root)); //$NON-NLS-1$
+		setProjectsUsedBy(
+				new String[] {getProjectId(P1_NAME, DEFAULT_VERSION), getProjectId(P2_NAME, DEFAULT_VERSION)},
+				new String[][] {{getProjectId(P2_NAME, DEFAULT_VERSION), getProjectId(P3_NAME, DEFAULT_VERSION)}, {getProjectId(P3_NAME, DEFAULT_VERSION)}});
+		HashMap<String, HashSet<String>> visited = new HashMap<>();
+		new UseScanParser().parse(XML_PATH.toOSString(), null, new UseScanVisitor() {
+			HashSet<String> current;
+
+			@Override
+			public boolean visitComponent(IComponentDescriptor target) {
+				current = visited.computeIfAbsent(getProjectId(target.getId(), target.getVersion()), k -> new HashSet<>());
+				return true;
+			}
+
+			@Override
+			public boolean visitReferencingComponent(IComponentDescriptor component) {
+				current.add(getProjectId(component.getId(), component.getVersion()));
+				return true;
+			}
+		});
+		assertEquals("the binary report must have the same components as the XML report", this.usedprojects, visited); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the HTML report written by several workers is the same as
+	 * the report written by the parsing thread alone
+	 */
+	@Test
+	public void testParallelReportConversion() throws Exception {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(
+				new String[] {P2_NAME, P3_NAME},
+				new int[][] {{IReference.REF_FIELDDECL, IReference.REF_FIELDDECL}, {IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL}});
+		TEST_REPORTER.setExpectedNotSearched(null);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, getCompositeReporter(XML_PATH.toOSString(), false), null);
+
+		IPath sequential = HTML_PATH.append("sequential"); //$NON-NLS-1$
+		IPath parallel = HTML_PATH.append("parallel"); //$NON-NLS-1$
+		new UseReportConverter(sequential.toOSString(), XML_PATH.toOSString(), null, null).convert(null, new NullProgressMonitor());
+		UseReportConverter converter = new UseReportConverter(parallel.toOSString(), XML_PATH.toOSString(), null, null);
+		converter.setParallelism(4);
+		converter.convert(null, new NullProgressMonitor());
+
+		Map<String, String> expected = readReport(sequential);
+		assertTrue("the sequential report should have component pages", expected.size() > 1); //$NON-NLS-1$
+		assertEquals("the parallel report must be the same as the sequential report", expected, readReport(parallel)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the contents of the files of the given report by path relative
+	 * to the report root
+	 */
+	private Map<String, String> readReport(IPath reportroot) throws Exception {
+		Path root = reportroot.toFile().toPath();
+		Map<String, String> contents = new TreeMap<>();
+		try (Stream<Path> files = Files.walk(root)) {
+			for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+				contents.put(root.relativize(file).toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+			}
+		}
+		return contents;
+	}
+
 	String getProjectId(String project, String version) {
 		StringBuilder buffer = new StringBuilder();
 		buffer.append(project).append(" ").append('(').append(version).append(')'); //$NON-NLS-1$
@@ -14,19 +14,25 @@
 package org.eclipse.pde.api.tools.tests;
 
 
+import org.eclipse.pde.api.tools.builder.tests.BuildStateTests;
 import org.eclipse.pde.api.tools.builder.tests.OSGiLessAnalysisTests;
 import org.eclipse.pde.api.tools.comparator.tests.AllDeltaTests;
 import org.eclipse.pde.api.tools.model.tests.ApiBaselineTests;
 import org.eclipse.pde.api.tools.model.tests.ApiDescriptionTests;
 import org.eclipse.pde.api.tools.model.tests.ApiModelCacheTests;
+import org.eclipse.pde.api.tools.model.tests.BoundedConcurrentCacheTests;
 import org.eclipse.pde.api.tools.model.tests.ApiTypeContainerTests;
 import org.eclipse.pde.api.tools.model.tests.BadClassfileTests;
 import org.eclipse.pde.api.tools.model.tests.CRCTests;
+import org.eclipse.pde.api.tools.model.tests.BaselineSnapshotTests;
+import org.eclipse.pde.api.tools.model.tests.CachedClassFileScannerTests;
 import org.eclipse.pde.api.tools.model.tests.ClassFileScannerTests;
+import org.eclipse.pde.api.tools.model.tests.CompactApiDescriptionTests;
 import org.eclipse.pde.api.tools.model.tests.ComponentManifestTests;
 import org.eclipse.pde.api.tools.model.tests.ElementDescriptorTests;
 import org.eclipse.pde.api.tools.model.tests.Java8ClassfileScannerTests;
 import org.eclipse.pde.api.tools.model.tests.TagScannerTests;
+import org.eclipse.pde.api.tools.model.tests.TypeStructureIndexTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiFilterTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiProblemFactoryTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiProblemTests;
@@ -59,12 +65,12 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 		ApiDescriptionTests.class, SearchEngineTests.class, SkippedComponentTests.class, UseSearchTests.class,
 		HeadlessApiBaselineManagerTests.class, TagScannerTests.class, ComponentManifestTests.class, UtilTests.class,
-		SignaturesTests.class, ApiBaselineTests.class, ApiTypeContainerTests.class, ClassFileScannerTests.class,
+		SignaturesTests.class, ApiBaselineTests.class, ApiTypeContainerTests.class, ClassFileScannerTests.class, CachedClassFileScannerTests.class, BaselineSnapshotTests.class,
 		Java8ClassfileScannerTests.class, ElementDescriptorTests.class, SearchScopeTests.class, ApiProblemTests.class,
 		ApiProblemFactoryTests.class, ApiFilterTests.class, TarEntryTests.class, TarExceptionTests.class,
 		OSGiLessAnalysisTests.class, ApiModelCacheTests.class, BadClassfileTests.class,
-	CRCTests.class,
-	AllDeltaTests.class
+	CRCTests.class, TypeStructureIndexTests.class, BoundedConcurrentCacheTests.class, CompactApiDescriptionTests.class,
+	AllDeltaTests.class, BuildStateTests.class
 })
 public class ApiToolsTestSuite {
 
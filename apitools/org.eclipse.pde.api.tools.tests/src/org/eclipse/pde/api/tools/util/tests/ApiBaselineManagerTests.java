@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,16 @@
 package org.eclipse.pde.api.tools.util.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Iterator;
 import java.util.List;
@@ -58,6 +62,9 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
@@ -870,6 +877,80 @@ public class ApiBaselineManagerTests extends AbstractApiTest {
 		assertTrue("unexported package must be private", VisibilityModifiers.isPrivate(annot.getVisibility())); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that a saved API description is written in binary form and
+	 * restored from it
+	 */
+	@Test
+	public void testBinaryDescriptionRoundTrip() throws Exception {
+		IJavaProject project = getTestingProject();
+		File dir = saveTestProjectApiDescription(project);
+		File state = new File(dir, ApiDescriptionManager.API_DESCRIPTION_STATE_NAME);
+		assertTrue("the binary description should have been saved", state.isFile()); //$NON-NLS-1$
+		assertFalse("there should be no XML description", new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME).exists()); //$NON-NLS-1$
+		String[] temps = dir.list((d, name) -> name.endsWith(".tmp")); //$NON-NLS-1$
+		assertEquals("no temporary file should be left", 0, temps == null ? 0 : temps.length); //$NON-NLS-1$
+
+		IApiDescription desc = reloadTestProjectApiDescription(project);
+		IApiAnnotations annot = desc.resolveAnnotations(Factory.packageDescriptor(TESTING_PACKAGE));
+		assertNotNull("the restored description should have the package", annot); //$NON-NLS-1$
+		assertTrue("the package should be API", VisibilityModifiers.isAPI(annot.getVisibility())); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that an API description saved as XML, or next to an unreadable
+	 * binary file, is restored from the XML and saved again in binary form
+	 */
+	@Test
+	public void testXMLDescriptionMigration() throws Exception {
+		IJavaProject project = getTestingProject();
+		File dir = saveTestProjectApiDescription(project);
+		File state = new File(dir, ApiDescriptionManager.API_DESCRIPTION_STATE_NAME);
+		File xml = new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		String contents = ((ProjectApiDescription) getTestProjectApiDescription()).getXML();
+		Files.writeString(xml.toPath(), contents, StandardCharsets.UTF_8);
+		// truncated binary file
+		Files.write(state.toPath(), new byte[] { 0, 1, 2 });
+
+		IApiDescription desc = reloadTestProjectApiDescription(project);
+		IApiAnnotations annot = desc.resolveAnnotations(Factory.packageDescriptor(TESTING_PACKAGE));
+		assertNotNull("the description should have been restored from XML", annot); //$NON-NLS-1$
+		assertTrue("the package should be API", VisibilityModifiers.isAPI(annot.getVisibility())); //$NON-NLS-1$
+		assertTrue("the XML description should be kept until saved", xml.isFile()); //$NON-NLS-1$
+
+		saveTestProjectApiDescription(project);
+		assertTrue("the binary description should have been saved", state.length() > 3); //$NON-NLS-1$
+		assertFalse("the XML description should have been deleted", xml.exists()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Marks the API description of the given project as modified and saves
+	 * the workspace
+	 *
+	 * @return the directory the description is saved in
+	 */
+	private File saveTestProjectApiDescription(IJavaProject project) throws CoreException {
+		assertNotNull("the testing project api description must exist", getTestProjectApiDescription()); //$NON-NLS-1$
+		// cleaning the description marks it as modified
+		ApiDescriptionManager.getManager().clean(project, false, false);
+		ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+		return ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
+	}
+
+	/**
+	 * Drops the cached API description of the given project so that it is
+	 * restored from disk
+	 *
+	 * @return the restored description
+	 */
+	private IApiDescription reloadTestProjectApiDescription(IJavaProject project) throws CoreException {
+		ApiDescriptionManager.getManager().clean(project, false, true);
+		((ApiBaselineManager) fPMmanager).disposeWorkspaceBaseline();
+		IApiDescription desc = getTestProjectApiDescription();
+		assertNotNull("the testing project api description must exist", desc); //$NON-NLS-1$
+		return desc;
+	}
+
 	/**
 	 * sets the given package name to be an Exported-Package
 	 *
@@ -14,15 +14,19 @@
 package org.eclipse.pde.api.tools.util.tests;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.eclipse.pde.api.tools.tests.AbstractApiTest;
 import org.eclipse.pde.core.target.ITargetDefinition;
@@ -80,4 +84,32 @@ public class TargetAsBaselineTests extends AbstractApiTest {
 		assertFalse(ApiModelFactory.isUpToDateWithTarget(baseline, definition));
 		assertTrue("This baseline should still be from this particular target definition", ApiModelFactory.isDerivedFromTarget(baseline, definition)); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that a baseline derived from the workspace target is refreshed
+	 * when the target changes, keeping the components of unchanged bundles
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRefreshOnTargetChange() throws Exception {
+		ApiBaselineManager manager = ApiBaselineManager.getManager();
+		IApiBaseline baseline = ApiModelFactory.newApiBaselineFromTarget(getClass().getName(), definition, null);
+		manager.addApiBaseline(baseline);
+		try {
+			IApiComponent[] components = baseline.getApiComponents();
+			definition.setOS("next"); //$NON-NLS-1$
+			assertFalse(ApiModelFactory.isUpToDateWithTarget(baseline, definition));
+			manager.workspaceTargetChanged(definition);
+			Job.getJobManager().join(ApiBaselineManager.TARGET_REFRESH_FAMILY, null);
+			assertTrue("The baseline should have been refreshed", ApiModelFactory.isUpToDateWithTarget(baseline, definition)); //$NON-NLS-1$
+			for (IApiComponent component : components) {
+				if (!component.isSystemComponent()) {
+					assertSame("Unchanged components should be kept", component, baseline.getApiComponent(component.getSymbolicName())); //$NON-NLS-1$
+				}
+			}
+		} finally {
+			manager.removeApiBaseline(baseline.getName());
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,8 +86,14 @@ public class DirectoryBasedApiBaselineWizardPage extends ApiBaselineWizardPage {
 		public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
 			monitor.beginTask(WizardMessages.ApiProfileWizardPage_0, 10);
 			try {
-				fProfile = ApiModelFactory.newApiBaseline(name, location);
-				ApiModelFactory.addComponents(fProfile, location, monitor);
+				if (fProfile != null && location.equals(fProfile.getLocation())) {
+					// only replace the plug-ins that changed
+					fProfile.setName(name);
+					ApiModelFactory.refreshComponents(fProfile, location, monitor);
+				} else {
+					fProfile = ApiModelFactory.newApiBaseline(name, location);
+					ApiModelFactory.addComponents(fProfile, location, monitor);
+				}
 				DirectoryBasedApiBaselineWizardPage.this.contentchange = true;
 			} catch (CoreException e) {
 				ApiPlugin.log(e);
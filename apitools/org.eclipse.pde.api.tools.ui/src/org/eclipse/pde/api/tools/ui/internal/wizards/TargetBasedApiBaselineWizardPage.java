@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -89,7 +89,13 @@ public class TargetBasedApiBaselineWizardPage extends ApiBaselineWizardPage {
 		@Override
 		public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
 			try {
-				fProfile = ApiModelFactory.newApiBaselineFromTarget(name, definition, monitor);
+				if (fProfile != null && ApiModelFactory.isDerivedFromTarget(fProfile, definition)) {
+					// only replace the plug-ins that changed
+					fProfile.setName(name);
+					ApiModelFactory.refreshBaselineFromTarget(fProfile, definition, monitor);
+				} else {
+					fProfile = ApiModelFactory.newApiBaselineFromTarget(name, definition, monitor);
+				}
 				TargetBasedApiBaselineWizardPage.this.contentchange = true;
 			} catch (CoreException e) {
 				// error reported via the definition's status in pageValid()
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -43,6 +45,7 @@ import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.BaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -261,11 +264,12 @@ public class ApiAnalysisApplication implements IApplication {
 			try {
 				String baselineName = baselineFileName.substring(0, baselineFileName.lastIndexOf('.'));
 				ApiBaseline baseline = new ApiBaseline(baselineName);
-				long bundleId = 1;
-				for (String bundleFile : Files.readAllLines(baselinePath.toPath())) {
-					baseline.addApiComponents(
-							new IApiComponent[] { new BundleComponent(baseline, bundleFile, bundleId++) });
+				List<String> bundleFiles = Files.readAllLines(baselinePath.toPath());
+				long[] bundleIds = new long[bundleFiles.size()];
+				for (int i = 0; i < bundleIds.length; i++) {
+					bundleIds[i] = i + 1;
 				}
+				BaselineSnapshot.addComponents(baseline, baselinePath.getAbsolutePath(), bundleFiles, bundleIds, null);
 				ApiBaselineManager.getManager().addApiBaseline(baseline);
 				ApiBaselineManager.getManager().setDefaultApiBaseline(baseline.getName());
 				return baseline;
@@ -287,13 +291,17 @@ public class ApiAnalysisApplication implements IApplication {
 			// remove ".target"
 			String baselineName = baselineFileName.substring(0, baselineFileName.lastIndexOf('.'));
 			ApiBaseline baseline = new ApiBaseline(baselineName);
+			List<String> bundleFiles = new ArrayList<>();
+			List<Long> bundleIds = new ArrayList<>();
 			for (TargetBundle bundle : definition.getAllBundles()) {
 				BundleInfo bundleInfo = bundle.getBundleInfo();
 				if (bundleInfo.getBundleId() != 0) {
-					baseline.addApiComponents(new IApiComponent[] { new BundleComponent(baseline,
-							new File(bundleInfo.getLocation()).getAbsolutePath(), bundleInfo.getBundleId()) });
+					bundleFiles.add(new File(bundleInfo.getLocation()).getAbsolutePath());
+					bundleIds.add(bundleInfo.getBundleId());
 				}
 			}
+			BaselineSnapshot.addComponents(baseline, baselinePath.getAbsolutePath(), bundleFiles,
+					bundleIds.stream().mapToLong(Long::longValue).toArray(), null);
 			ApiBaselineManager.getManager().addApiBaseline(baseline);
 			ApiBaselineManager.getManager().setDefaultApiBaseline(baseline.getName());
 			return baseline;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,8 +41,11 @@ import org.eclipse.core.resources.ISaveContext;
 import org.eclipse.core.resources.ISaveParticipant;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
@@ -63,6 +66,7 @@ import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.internal.core.DependencyManager;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -99,6 +103,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	private static final String BASELINE_FILE_EXTENSION = ".profile"; //$NON-NLS-1$
 
+	/**
+	 * Constant representing the file extension for the persisted type
+	 * structures of a baseline. Value is: <code>.types</code>
+	 */
+	private static final String TYPE_STRUCTURE_INDEX_FILE_EXTENSION = ".types"; //$NON-NLS-1$
+
 	/**
 	 * The main cache for the manager. The form of the cache is:
 	 *
@@ -135,6 +145,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	private volatile boolean fNeedsSaving;
 
+	/**
+	 * Family of the jobs refreshing the baselines derived from the workspace
+	 * target
+	 */
+	public static final Object TARGET_REFRESH_FAMILY = new Object();
+
 	/**
 	 * The singleton instance
 	 */
@@ -183,6 +199,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		if (newbaseline != null) {
 			initializeStateCache();
 			baselinecache.put(newbaseline.getName(), newbaseline);
+			setTypeStructureIndexLocation(newbaseline);
 			if (((ApiBaseline) newbaseline).peekInfos()) {
 				hasinfos.add(newbaseline.getName());
 			}
@@ -216,6 +233,10 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				}
 			}
 			fNeedsSaving = true;
+			// remove the persisted type structures
+			if (baseline instanceof ApiBaseline) {
+				((ApiBaseline) baseline).deleteTypeStructureIndex();
+			}
 
 			// flush the model cache
 			ApiModelCache.getCache().removeElementInfo(baseline);
@@ -287,6 +308,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					for (File baseline : baselines) {
 						if (baseline.exists()) {
 							newbaseline = new ApiBaseline(IPath.fromOSString(baseline.getName()).removeFileExtension().toString());
+							setTypeStructureIndexLocation(newbaseline);
 							handlecache.put(newbaseline.getName(), baseline.getAbsolutePath());
 							bcache.put(newbaseline.getName(), newbaseline);
 						}
@@ -306,6 +328,33 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Sets the location of the persisted type structures of the given baseline
+	 * next to its baseline file
+	 *
+	 * @param baseline
+	 */
+	private void setTypeStructureIndexLocation(IApiBaseline baseline) {
+		if (savelocation != null && baseline instanceof ApiBaseline) {
+			((ApiBaseline) baseline).setTypeStructureIndexLocation(savelocation.append(baseline.getName() + TYPE_STRUCTURE_INDEX_FILE_EXTENSION).toFile());
+		}
+	}
+
+	/**
+	 * Writes the type structures built since the last save for all known
+	 * baselines
+	 */
+	private void saveTypeStructureIndexes() {
+		if (baselinecache == null) {
+			return;
+		}
+		for (IApiBaseline baseline : baselinecache.values()) {
+			if (baseline instanceof ApiBaseline) {
+				((ApiBaseline) baseline).saveTypeStructureIndex();
+			}
+		}
+	}
+
 	/**
 	 * @return the default API baseline saved in the preferences, or
 	 *         <code>null</code> if there isn't one
@@ -515,6 +564,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	@Override
 	public void saving(ISaveContext context) throws CoreException {
+		saveTypeStructureIndexes();
 		if (!fNeedsSaving) {
 			return;
 		}
@@ -545,6 +595,66 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Brings the loaded baselines derived from the given target definition up
+	 * to date with it, in a job. The baselines are refreshed incrementally:
+	 * only the components of the bundles that were added, removed or changed
+	 * are replaced.
+	 *
+	 * @param definition the new workspace target definition, may be
+	 *            <code>null</code>
+	 * @see ApiModelFactory#refreshBaselineFromTarget(IApiBaseline,
+	 *      ITargetDefinition, IProgressMonitor)
+	 */
+	public void workspaceTargetChanged(ITargetDefinition definition) {
+		Map<String, IApiBaseline> baselines = baselinecache;
+		if (definition == null || baselines == null) {
+			// baselines are not loaded yet
+			return;
+		}
+		List<IApiBaseline> outdated = new ArrayList<>();
+		for (IApiBaseline baseline : baselines.values()) {
+			if (isBaselineLoaded(baseline) && ApiModelFactory.isDerivedFromTarget(baseline, definition)
+					&& !ApiModelFactory.isUpToDateWithTarget(baseline, definition)) {
+				outdated.add(baseline);
+			}
+		}
+		if (outdated.isEmpty()) {
+			return;
+		}
+		Job job = new Job(CoreMessages.ApiBaselineManager_refreshing_target_baselines) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				SubMonitor subMonitor = SubMonitor.convert(monitor, outdated.size());
+				// analysis jobs must not use the components that are replaced
+				Job.getJobManager().cancel(ApiAnalysisJob.class);
+				for (IApiBaseline baseline : outdated) {
+					if (baseline.isDisposed()) {
+						subMonitor.worked(1);
+						continue;
+					}
+					try {
+						IApiComponent[] added = ApiModelFactory.refreshBaselineFromTarget(baseline, definition, subMonitor.split(1));
+						fNeedsSaving = true;
+						if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+							System.out.println("Refreshed baseline " + baseline.getName() + " from target, " + added.length + " components added"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						}
+					} catch (CoreException e) {
+						ApiPlugin.log(e);
+					}
+				}
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return family == TARGET_REFRESH_FAMILY;
+			}
+		};
+		job.setPriority(Job.LONG);
+		job.schedule();
+	}
+
 	/**
 	 * Returns if the given name is an existing baseline name
 	 *
@@ -565,6 +675,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	public void stop() {
 		try {
 			Job.getJobManager().cancel(ApiAnalysisJob.class);
+			saveTypeStructureIndexes();
 			if (baselinecache != null) {
 				// we should first dispose all existing baselines
 				for (IApiBaseline iApiBaseline : baselinecache.values()) {
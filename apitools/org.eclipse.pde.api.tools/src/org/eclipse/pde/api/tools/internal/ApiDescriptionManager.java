@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.api.tools.internal;
 
 import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -79,6 +80,14 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 */
 	public static final IPath API_DESCRIPTIONS_CONTAINER_PATH = ApiPlugin.getDefault().getStateLocation();
 
+	/**
+	 * Name of the file API descriptions are saved to in binary form, in the
+	 * project directory under {@link #API_DESCRIPTIONS_CONTAINER_PATH}.
+	 * Descriptions saved as XML by previous versions are still restored, the
+	 * XML file is deleted once the binary file has been written.
+	 */
+	public static final String API_DESCRIPTION_STATE_NAME = "api_description.dat"; //$NON-NLS-1$
+
 	/**
 	 * Constructs an API description manager.
 	 */
@@ -158,6 +167,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(API_DESCRIPTION_STATE_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -237,10 +250,13 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				File dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
-				dir.mkdirs();
-				String xml = desc.getXML();
 				try {
-					Util.saveFile(new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME), xml);
+					Util.atomicWrite(new File(dir, API_DESCRIPTION_STATE_NAME), desc::persist);
+					// the binary form supersedes any description saved as XML
+					File xml = new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+					if (xml.exists()) {
+						xml.delete();
+					}
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -259,6 +275,21 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 * @throws CoreException
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
+		File state = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(API_DESCRIPTION_STATE_NAME).toFile();
+		if (state.exists()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(state)))) {
+				if (restoreDescription(project, description, in)) {
+					return true;
+				}
+			} catch (IOException e) {
+				// fall back to the XML form, if any
+				description.fPackageMap.clear();
+				description.fPackageTimeStamp = 0L;
+				if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+					System.out.println("Ignoring unreadable API description of " + project.getElementName() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
 		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			BufferedInputStream stream = null;
@@ -293,6 +324,109 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		return false;
 	}
 
+	/**
+	 * Restores the API description from its binary form and returns true if
+	 * successful.
+	 *
+	 * @param project
+	 * @param description
+	 * @param in the stream to read from
+	 * @return whether the restore succeeded, <code>false</code> if the stream
+	 *         was written in another format version
+	 * @throws IOException
+	 * @throws CoreException
+	 */
+	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description, DataInputStream in) throws IOException, CoreException {
+		if (!ApiPlugin.PLUGIN_ID.equals(in.readUTF()) || !ProjectApiDescription.BINARY_KIND.equals(in.readUTF()) || in.readInt() != ProjectApiDescription.BINARY_VERSION) {
+			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+				System.out.println("Ignoring API description saved in another format for " + project.getElementName()); //$NON-NLS-1$
+			}
+			return false;
+		}
+		in.readUTF(); // project name
+		long timestamp = in.readLong();
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		description.setEmbeddedVersion(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+		description.fPackageTimeStamp = timestamp;
+		description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+		restoreChildren(description, in, strings, null, description.fPackageMap);
+		return true;
+	}
+
+	private void restoreChildren(ProjectApiDescription apiDesc, DataInputStream in, String[] strings, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws IOException, CoreException {
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			restoreNode(apiDesc, in, strings, parentNode, childrenMap);
+		}
+	}
+
+	private void restoreNode(ProjectApiDescription apiDesc, DataInputStream in, String[] strings, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws IOException, CoreException {
+		int kind = in.readByte();
+		int vis = in.readInt();
+		int res = in.readInt();
+		ManifestNode node = null;
+		IElementDescriptor elementDesc = null;
+		switch (kind) {
+			case IElementDescriptor.PACKAGE -> {
+				IPackageFragment[] fragments = new IPackageFragment[in.readInt()];
+				for (int i = 0; i < fragments.length; i++) {
+					String handle = strings[in.readInt()];
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle, null);
+					}
+					fragments[i] = (IPackageFragment) je;
+				}
+				if (fragments.length == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2, null);
+				}
+				elementDesc = Factory.packageDescriptor(fragments[0].getElementName());
+				node = apiDesc.newPackageNode(fragments, parentNode, elementDesc, vis, res);
+				childrenMap.put(elementDesc, node);
+				restoreChildren(apiDesc, in, strings, node, node.children);
+			}
+			case IElementDescriptor.TYPE -> {
+				String handle = strings[in.readInt()];
+				long timestamp = in.readLong();
+				IJavaElement je = JavaCore.create(handle);
+				if (je == null || je.getElementType() != IJavaElement.TYPE) {
+					abort(ScannerMessages.ApiDescriptionManager_3 + handle, null);
+				}
+				IType type = (IType) je;
+				elementDesc = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+				TypeNode tn = apiDesc.newTypeNode(type, parentNode, elementDesc, vis, res);
+				tn.fTimeStamp = timestamp;
+				node = tn;
+				childrenMap.put(elementDesc, node);
+				restoreChildren(apiDesc, in, strings, node, node.children);
+			}
+			case IElementDescriptor.FIELD -> {
+				String name = strings[in.readInt()];
+				if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+					elementDesc = type.getField(name);
+					node = apiDesc.newNode(parentNode, elementDesc, vis, res);
+					childrenMap.put(elementDesc, node);
+				}
+			}
+			case IElementDescriptor.METHOD -> {
+				String name = strings[in.readInt()];
+				String sig = strings[in.readInt()];
+				if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor type) {
+					elementDesc = type.getMethod(name, sig);
+					node = apiDesc.newNode(parentNode, elementDesc, vis, res);
+					childrenMap.put(elementDesc, node);
+				}
+			}
+			default -> { /**/ }
+		}
+		if (node == null) {
+			abort(ScannerMessages.ApiDescriptionManager_4, null);
+		}
+	}
+
 	private void restoreChildren(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
 		NodeList children = element.getChildNodes();
 		for (int i = 0; i < children.getLength(); i++) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -73,10 +75,73 @@ import org.w3c.dom.Element;
  */
 public class ApiFilterStore extends FilterStore implements IResourceChangeListener {
 
+	/**
+	 * Key of a filter in the {@link ApiFilterStore#fFilterIndex}: the resource
+	 * path, problem id, type name and the hash of the simple names of the
+	 * message arguments of the problem. Problems matching a filter always have
+	 * the same key as the filter.
+	 */
+	static final class FilterKey {
+		final IPath path;
+		final int id;
+		final String typeName;
+		final int arguments;
+		private final int hash;
+
+		FilterKey(IApiProblem problem) {
+			path = IPath.fromOSString(problem.getResourcePath());
+			id = problem.getId();
+			typeName = problem.getTypeName();
+			int argumentsHash = 1;
+			for (String argument : problem.getMessageArguments()) {
+				// filters may have simple or qualified names as arguments
+				argumentsHash = 31 * argumentsHash + argument.substring(argument.lastIndexOf('.') + 1).hashCode();
+			}
+			arguments = argumentsHash;
+			hash = Objects.hash(path, Integer.valueOf(id), typeName, Integer.valueOf(arguments));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof FilterKey) {
+				FilterKey other = (FilterKey) obj;
+				return id == other.id && arguments == other.arguments && path.equals(other.path) && Objects.equals(typeName, other.typeName);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * A filter in the {@link ApiFilterStore#fFilterIndex} with the resource it
+	 * applies to
+	 */
+	static final class IndexedFilter {
+		final IResource resource;
+		final IApiProblemFilter filter;
+
+		IndexedFilter(IResource resource, IApiProblemFilter filter) {
+			this.resource = resource;
+			this.filter = filter;
+		}
+	}
+
 	/**
 	 * Map used to collect unused {@link IApiProblemFilter}s
 	 */
-	private HashMap<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private volatile Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+
+	/**
+	 * Index of all the filters of the store by {@link FilterKey}. The index is
+	 * never modified once built, it is dropped and lazily rebuilt when the
+	 * filters change so {@link #isFiltered(IApiProblem)} does not need to lock
+	 * the store.
+	 */
+	private volatile Map<FilterKey, IndexedFilter[]> fFilterIndex = null;
 
 	/**
 	 * The backing {@link IJavaProject}
@@ -226,6 +291,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 	}
 
@@ -263,32 +329,30 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
 		}
-		IResource resource = fProject.getProject().findMember(IPath.fromOSString(resourcePath));
-		if (resource == null) {
-			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return false;
-		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
+		IndexedFilter[] filters = getFilterIndex().get(new FilterKey(problem));
 		if (filters == null) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
+				System.out.println("no filter defined for problem: [" + problem.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return false;
 		}
-		for (IApiProblemFilter filter : filters) {
-			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
+		for (IndexedFilter indexed : filters) {
+			if (problemsMatch(indexed.filter.getUnderlyingProblem(), problem)) {
+				if (!indexed.resource.exists()) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					return false;
+				}
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
-					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					System.out.println("recording filter used: [" + indexed.filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				recordFilterUsed(resource, filter);
+				recordFilterUsed(indexed.resource, indexed.filter);
 				return true;
 			}
 		}
@@ -298,6 +362,44 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		return false;
 	}
 
+	/**
+	 * Returns the index of the filters, building it if the filters changed
+	 * since it was last built
+	 *
+	 * @return the index of the filters
+	 */
+	private Map<FilterKey, IndexedFilter[]> getFilterIndex() {
+		Map<FilterKey, IndexedFilter[]> index = fFilterIndex;
+		if (index != null) {
+			return index;
+		}
+		synchronized (this) {
+			initializeApiFilters();
+			index = fFilterIndex;
+			if (index == null) {
+				Map<FilterKey, List<IndexedFilter>> collector = new HashMap<>();
+				for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fFilterMap.entrySet()) {
+					IResource resource = entry.getKey();
+					for (Set<IApiProblemFilter> filters : entry.getValue().values()) {
+						for (IApiProblemFilter filter : filters) {
+							IApiProblem problem = filter.getUnderlyingProblem();
+							if (problem.getResourcePath() != null) {
+								collector.computeIfAbsent(new FilterKey(problem), k -> new ArrayList<>(1)).add(new IndexedFilter(resource, filter));
+							}
+						}
+					}
+				}
+				index = new HashMap<>(collector.size() * 4 / 3 + 1);
+				for (Entry<FilterKey, List<IndexedFilter>> entry : collector.entrySet()) {
+					List<IndexedFilter> filters = entry.getValue();
+					index.put(entry.getKey(), filters.toArray(new IndexedFilter[filters.size()]));
+				}
+				fFilterIndex = index;
+			}
+			return index;
+		}
+	}
+
 	@Override
 	public void dispose() {
 		// if the store is about to be disposed and has pending changes save
@@ -305,8 +407,9 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=299319
 		persistApiFilters();
 		clearFilters();
-		if (fUnusedFilters != null) {
-			fUnusedFilters.clear();
+		Map<IResource, Set<IApiProblemFilter>> unused = fUnusedFilters;
+		if (unused != null) {
+			unused.clear();
 			fUnusedFilters = null;
 		}
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
@@ -369,6 +472,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				success &= false;
 			}
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 		return success;
 	}
@@ -505,6 +609,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		fFilterMap = new LinkedHashMap<>(5);
+		fFilterIndex = null;
 		IPath filepath = getFilterFilePath(true);
 		IResource file = ResourcesPlugin.getWorkspace().getRoot().findMember(filepath, true);
 		if (file == null) {
@@ -570,6 +675,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fFilterIndex = null;
 	}
 
 	/**
@@ -613,18 +719,19 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 */
 	public synchronized void recordFilterUsage() {
 		initializeApiFilters();
-		fUnusedFilters = new LinkedHashMap<>();
+		Map<IResource, Set<IApiProblemFilter>> unused = new ConcurrentHashMap<>();
 		Map<String, Set<IApiProblemFilter>> types = null;
 		Set<IApiProblemFilter> values = null;
 		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
 			IResource resource = filterEntry.getKey();
 			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
+			values = ConcurrentHashMap.newKeySet();
+			unused.put(resource, values);
 			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
 				values.addAll(entry.getValue());
 			}
 		}
+		fUnusedFilters = unused;
 	}
 
 	/**
@@ -634,14 +741,12 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 * @param filter
 	 */
 	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
-		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
-			if (unused != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
+			unusedFilters.computeIfPresent(resource, (r, unused) -> {
 				unused.remove(filter);
-				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
-				}
-			}
+				return unused.isEmpty() ? null : unused;
+			});
 		}
 	}
 
@@ -658,12 +763,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 *         <code>null</code>
 	 */
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
-		if (fUnusedFilters != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
 			Set<IApiProblemFilter> set = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
+				set = unusedFilters.get(resource);
 				if (set != null) {
 					collectFilterFor(set, typeName, unused, categories);
 				}
@@ -673,17 +779,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					// deleted types are only ever passed in with the manifest
 					// associated with them
 					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+					for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 						res = entry.getKey();
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
+						set = unusedFilters.get(res);
 						collectFilterFor(set, typeName, unused, categories);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+				for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 					set = entry.getValue();
 					if (set != null) {
 						unused.addAll(set);
@@ -778,6 +884,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				}
 				if (fFilterMap != null) {
 					fFilterMap.clear();
+					fFilterIndex = null;
 					needsbuild = fProject.getProject().isAccessible();
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
@@ -814,5 +921,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fFilterIndex = null;
 	}
 }
@@ -0,0 +1,441 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A size bounded cache that can be used concurrently without a global lock.
+ * <p>
+ * Reads and writes go to a {@link ConcurrentHashMap}. When the cache grows
+ * over its size, entries are evicted following a second chance (clock) order,
+ * by the thread that manages to take the eviction lock, other writers do not
+ * wait for it. Admission of new entries is filtered TinyLFU style: a compact
+ * frequency sketch of all the looked up keys is maintained and a newly added
+ * entry is dropped instead of the eviction victim if its key has been
+ * requested less often. Caches whose values are used right after they are
+ * added, such as caches of nested caches, can be created without admission
+ * filter.
+ * </p>
+ * <p>
+ * Hits, misses, evictions and rejected admissions are counted in a
+ * {@link Statistics} object that can be shared between several caches.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class BoundedConcurrentCache<K, V> {
+
+	/**
+	 * Counters for the effectiveness of one or more caches
+	 */
+	public static final class Statistics {
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+		final LongAdder evictions = new LongAdder();
+		final LongAdder rejections = new LongAdder();
+
+		public long getHitCount() {
+			return hits.sum();
+		}
+
+		public long getMissCount() {
+			return misses.sum();
+		}
+
+		public long getEvictionCount() {
+			return evictions.sum();
+		}
+
+		public long getRejectionCount() {
+			return rejections.sum();
+		}
+
+		/**
+		 * Resets all counters
+		 */
+		public void reset() {
+			hits.reset();
+			misses.reset();
+			evictions.reset();
+			rejections.reset();
+		}
+
+		@Override
+		public String toString() {
+			long hitCount = getHitCount();
+			long requests = hitCount + getMissCount();
+			StringBuilder buffer = new StringBuilder();
+			buffer.append("hits: ").append(hitCount); //$NON-NLS-1$
+			buffer.append(", misses: ").append(getMissCount()); //$NON-NLS-1$
+			buffer.append(", hit ratio: ").append(requests == 0 ? 0 : (hitCount * 100 / requests)).append('%'); //$NON-NLS-1$
+			buffer.append(", evictions: ").append(getEvictionCount()); //$NON-NLS-1$
+			buffer.append(", rejected admissions: ").append(getRejectionCount()); //$NON-NLS-1$
+			return buffer.toString();
+		}
+	}
+
+	/**
+	 * Approximate access frequencies of keys: a count-min sketch of four rows
+	 * of small counters that are halved periodically so that old accesses age
+	 * out. Updates are not synchronized, lost increments under contention are
+	 * acceptable for an admission heuristic.
+	 */
+	static final class FrequencySketch {
+		private static final int MAX_COUNT = 15;
+		private final byte[] table;
+		private final int mask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maximumSize) {
+			int length = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+			table = new byte[length * 4];
+			mask = length - 1;
+			sampleSize = Math.max(10 * maximumSize, 100);
+		}
+
+		private int index(int hash, int row) {
+			int h = hash * (0x9E3779B9 + row * 0x61C88646);
+			h ^= h >>> 16;
+			return row * (mask + 1) + (h & mask);
+		}
+
+		int frequency(Object key) {
+			int hash = key.hashCode();
+			int min = MAX_COUNT;
+			for (int row = 0; row < 4; row++) {
+				min = Math.min(min, table[index(hash, row)]);
+			}
+			return min;
+		}
+
+		void increment(Object key) {
+			int hash = key.hashCode();
+			boolean added = false;
+			for (int row = 0; row < 4; row++) {
+				int i = index(hash, row);
+				if (table[i] < MAX_COUNT) {
+					table[i]++;
+					added = true;
+				}
+			}
+			if (added && ++additions >= sampleSize) {
+				additions = 0;
+				for (int i = 0; i < table.length; i++) {
+					table[i] >>= 1;
+				}
+			}
+		}
+
+		void clear() {
+			for (int i = 0; i < table.length; i++) {
+				table[i] = 0;
+			}
+			additions = 0;
+		}
+	}
+
+	/**
+	 * A cache entry
+	 */
+	static final class Node<K, V> {
+		final K key;
+		final V value;
+		volatile boolean referenced;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	private final int fMaximumSize;
+	private final ConcurrentHashMap<K, Node<K, V>> fMap;
+	/**
+	 * Nodes in insertion order, may contain nodes that have been removed from
+	 * {@link #fMap} which are skipped and dropped while evicting
+	 */
+	private final ConcurrentLinkedQueue<Node<K, V>> fQueue = new ConcurrentLinkedQueue<>();
+	/**
+	 * Number of nodes in {@link #fQueue}, whose own size is computed by
+	 * traversing it
+	 */
+	private final AtomicInteger fQueueSize = new AtomicInteger();
+	private final ReentrantLock fEvictionLock = new ReentrantLock();
+	private final FrequencySketch fSketch;
+	private final Statistics fStatistics;
+	private final boolean fAdmission;
+
+	/**
+	 * Constructor
+	 *
+	 * @param maximumSize the maximum number of entries in the cache
+	 * @param statistics the statistics to update or <code>null</code> to use
+	 *            counters private to this cache
+	 */
+	public BoundedConcurrentCache(int maximumSize, Statistics statistics) {
+		this(maximumSize, statistics, true);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maximumSize the maximum number of entries in the cache
+	 * @param statistics the statistics to update or <code>null</code> to use
+	 *            counters private to this cache
+	 * @param admission whether new entries are filtered by their frequency
+	 *            when the cache is full. Without admission filter a new entry
+	 *            is always cached, older entries are evicted instead.
+	 */
+	public BoundedConcurrentCache(int maximumSize, Statistics statistics, boolean admission) {
+		fMaximumSize = Math.max(1, maximumSize);
+		fMap = new ConcurrentHashMap<>(Math.min(fMaximumSize, 64));
+		fSketch = new FrequencySketch(fMaximumSize);
+		fStatistics = statistics != null ? statistics : new Statistics();
+		fAdmission = admission;
+	}
+
+	/**
+	 * Returns the value cached for the given key
+	 *
+	 * @param key
+	 * @return the value or <code>null</code> if there is none
+	 */
+	public V get(K key) {
+		fSketch.increment(key);
+		Node<K, V> node = fMap.get(key);
+		if (node == null) {
+			fStatistics.misses.increment();
+			return null;
+		}
+		node.referenced = true;
+		fStatistics.hits.increment();
+		return node.value;
+	}
+
+	/**
+	 * Caches the given value for the given key, possibly evicting other
+	 * entries. If the cache is full and filters admissions, the new entry
+	 * itself may not be admitted.
+	 *
+	 * @param key
+	 * @param value
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Node<K, V> node = new Node<>(key, value);
+		Node<K, V> old = fMap.put(key, node);
+		offer(node);
+		if (needsEviction()) {
+			evict(node);
+		}
+		return old == null ? null : old.value;
+	}
+
+	/**
+	 * Returns the value cached for the given key, computing and caching it if
+	 * absent. The value is always returned even if it is not admitted in a
+	 * full cache that filters admissions.
+	 *
+	 * @param key
+	 * @param function the function to compute the value
+	 * @return the cached or computed value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		boolean[] created = new boolean[1];
+		Node<K, V> node = fMap.computeIfAbsent(key, k -> {
+			created[0] = true;
+			return new Node<>(k, function.apply(k));
+		});
+		if (created[0]) {
+			offer(node);
+			if (needsEviction()) {
+				evict(node);
+			}
+		}
+		return node.value;
+	}
+
+	/**
+	 * Removes the entry for the given key
+	 *
+	 * @param key
+	 * @return the removed value or <code>null</code> if there was none
+	 */
+	public V remove(K key) {
+		Node<K, V> node = fMap.remove(key);
+		return node == null ? null : node.value;
+	}
+
+	/**
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		return fMap.isEmpty();
+	}
+
+	/**
+	 * @return the number of entries in the cache
+	 */
+	public int size() {
+		return fMap.size();
+	}
+
+	/**
+	 * Removes all the entries of the cache
+	 */
+	public void flush() {
+		fEvictionLock.lock();
+		try {
+			fMap.clear();
+			fQueue.clear();
+			fQueueSize.set(0);
+			fSketch.clear();
+		} finally {
+			fEvictionLock.unlock();
+		}
+	}
+
+	/**
+	 * @return snapshot of the keys in the cache.
+	 */
+	public List<K> keysSnapshot() {
+		return new ArrayList<>(fMap.keySet());
+	}
+
+	/**
+	 * @return snapshot of the values in the cache.
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> values = new ArrayList<>(fMap.size());
+		for (Node<K, V> node : fMap.values()) {
+			values.add(node.value);
+		}
+		return values;
+	}
+
+	/**
+	 * @return the statistics updated by this cache
+	 */
+	public Statistics getStatistics() {
+		return fStatistics;
+	}
+
+	private void offer(Node<K, V> node) {
+		fQueue.offer(node);
+		fQueueSize.incrementAndGet();
+	}
+
+	private Node<K, V> poll() {
+		Node<K, V> node = fQueue.poll();
+		if (node != null) {
+			fQueueSize.decrementAndGet();
+		}
+		return node;
+	}
+
+	/**
+	 * @return whether the cache is over its maximum size or the eviction
+	 *         queue holds too many stale nodes
+	 */
+	private boolean needsEviction() {
+		return fMap.size() > fMaximumSize || fQueueSize.get() > 2 * fMaximumSize;
+	}
+
+	/**
+	 * Evicts entries until the cache fits its maximum size and drops the
+	 * stale nodes of the eviction queue. Does nothing if another thread is
+	 * already evicting.
+	 *
+	 * @param candidate the node just added, subject to admission
+	 */
+	private void evict(Node<K, V> candidate) {
+		if (!fEvictionLock.tryLock()) {
+			return;
+		}
+		try {
+			Node<K, V> admitted = fAdmission ? candidate : null;
+			// bounded so that concurrent reads cannot keep us spinning
+			int budget = 2 * fQueueSize.get() + 16;
+			while (budget-- > 0 && needsEviction()) {
+				Node<K, V> node = poll();
+				if (node == null) {
+					break;
+				}
+				if (fMap.get(node.key) != node) {
+					// removed or replaced
+					continue;
+				}
+				if (fMap.size() <= fMaximumSize) {
+					// only draining stale nodes
+					offer(node);
+					continue;
+				}
+				if (node.referenced) {
+					node.referenced = false;
+					offer(node);
+					continue;
+				}
+				if (admitted != null && node != admitted && fMap.get(admitted.key) == admitted && fSketch.frequency(admitted.key) < fSketch.frequency(node.key)) {
+					// the victim is more popular than the new entry, keep
+					// the victim and drop the new entry instead
+					fMap.remove(admitted.key, admitted);
+					fStatistics.rejections.increment();
+					admitted = null;
+					offer(node);
+					continue;
+				}
+				if (node == candidate && !fAdmission) {
+					// the new entry is kept, evict the next victim
+					offer(node);
+					continue;
+				}
+				if (node == admitted) {
+					admitted = null;
+				}
+				if (fMap.remove(node.key, node)) {
+					fStatistics.evictions.increment();
+				}
+			}
+		} finally {
+			fEvictionLock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("BoundedConcurrentCache [size: ").append(fMap.size()); //$NON-NLS-1$
+		buffer.append(", maximum size: ").append(fMaximumSize); //$NON-NLS-1$
+		buffer.append(", ").append(fStatistics).append(']'); //$NON-NLS-1$
+		for (Map.Entry<K, Node<K, V>> entry : fMap.entrySet()) {
+			buffer.append("\n\t").append(entry.getKey()); //$NON-NLS-1$
+		}
+		return buffer.toString();
+	}
+}
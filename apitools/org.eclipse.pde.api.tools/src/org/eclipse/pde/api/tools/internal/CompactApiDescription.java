@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * An {@link ApiDescription} with a compact memory layout, for the API
+ * descriptions of binary components that are filled once and then only read.
+ * <p>
+ * Instead of a {@link ApiDescription.ManifestNode} object with its own
+ * children map per element, nodes are rows in parallel arrays: the element,
+ * the parent, first child and next sibling indexes and the visibility and
+ * restrictions packed in one <code>int</code>. Nodes are found by element
+ * through one open addressing table of node indexes. Method and field
+ * descriptors are re-created from the descriptor of their enclosing type
+ * node, with interned names and signatures, so that they do not each retain
+ * a copy of their type and package descriptors.
+ * </p>
+ * <p>
+ * Note, the implementation is not thread safe.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public class CompactApiDescription extends ApiDescription {
+
+	private static final int NO_NODE = -1;
+	private static final int INITIAL_CAPACITY = 16;
+	private static final int VISIBILITY_MASK = 0xFFFF;
+	private static final int RESTRICTIONS_SHIFT = 16;
+
+	/**
+	 * Element of each node
+	 */
+	private IElementDescriptor[] fElements = new IElementDescriptor[INITIAL_CAPACITY];
+	/**
+	 * Parent, first child and next sibling index of each node or
+	 * {@link #NO_NODE}
+	 */
+	private int[] fParents = new int[INITIAL_CAPACITY];
+	private int[] fFirstChildren = new int[INITIAL_CAPACITY];
+	private int[] fNextSiblings = new int[INITIAL_CAPACITY];
+	/**
+	 * Visibility (low 16 bits) and restrictions (high 16 bits) of each node
+	 */
+	private int[] fFlags = new int[INITIAL_CAPACITY];
+	private int fSize = 0;
+	/**
+	 * First package node, the other package nodes are its siblings
+	 */
+	private int fFirstPackage = NO_NODE;
+	/**
+	 * Open addressing table of node index + 1 by element, 0 for empty slots
+	 */
+	private int[] fTable = new int[INITIAL_CAPACITY * 2];
+
+	/**
+	 * Constructs an API description owned by the specified component.
+	 *
+	 * @param owningComponentId API component identifier or <code>null</code> if
+	 *            there is no specific owner.
+	 */
+	public CompactApiDescription(String owningComponentId) {
+		super(owningComponentId);
+		// not used by this implementation, the access map is created on demand
+		fPackageMap = null;
+		fAccessMap = null;
+	}
+
+	@Override
+	public void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
+		visitSiblings(visitor, fFirstPackage, monitor);
+	}
+
+	@Override
+	public boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
+		int node = findNode(element);
+		if (node != NO_NODE) {
+			visitNode(visitor, node);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Visits the given node and its siblings in the order of the
+	 * {@link ApiDescription.NodeComparator}
+	 *
+	 * @param visitor visitor to visit
+	 * @param first the first of the sibling nodes
+	 * @param monitor
+	 */
+	private void visitSiblings(ApiDescriptionVisitor visitor, int first, IProgressMonitor monitor) {
+		int count = 0;
+		for (int node = first; node != NO_NODE; node = fNextSiblings[node]) {
+			count++;
+		}
+		Integer[] nodes = new Integer[count];
+		count = 0;
+		for (int node = first; node != NO_NODE; node = fNextSiblings[node]) {
+			nodes[count++] = Integer.valueOf(node);
+		}
+		Arrays.sort(nodes, (n1, n2) -> fgComparator.compare(fElements[n1.intValue()], fElements[n2.intValue()]));
+		SubMonitor loopMonitor = SubMonitor.convert(monitor, nodes.length);
+		for (Integer node : nodes) {
+			loopMonitor.split(1);
+			visitNode(visitor, node.intValue());
+		}
+	}
+
+	/**
+	 * Visits a node and its children.
+	 *
+	 * @param visitor visitor to visit
+	 * @param node node to visit
+	 */
+	private void visitNode(ApiDescriptionVisitor visitor, int node) {
+		IApiAnnotations desc = new ApiAnnotations(resolveVisibility(node), getRestrictions(node));
+		boolean visitChildren = visitor.visitElement(fElements[node], desc);
+		if (visitChildren && fFirstChildren[node] != NO_NODE) {
+			visitSiblings(visitor, fFirstChildren[node], null);
+		}
+		visitor.endVisitElement(fElements[node], desc);
+	}
+
+	/**
+	 * Returns the node of the given element or of its closest ancestor that
+	 * has a node.
+	 *
+	 * @param element element
+	 * @return node index or {@link #NO_NODE}
+	 */
+	private int findNode(IElementDescriptor element) {
+		int node = NO_NODE;
+		for (IElementDescriptor current : element.getPath()) {
+			int child = lookup(current);
+			if (child == NO_NODE) {
+				break;
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the node of the given element, creating it and its missing
+	 * ancestors if needed. Packages are created with API visibility, other
+	 * elements inherit their visibility.
+	 *
+	 * @param element element
+	 * @return node index
+	 */
+	private int getOrCreateNode(IElementDescriptor element) {
+		int node = NO_NODE;
+		for (IElementDescriptor current : element.getPath()) {
+			int child = lookup(current);
+			if (child == NO_NODE) {
+				child = addNode(node, current);
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	private int lookup(IElementDescriptor element) {
+		int mask = fTable.length - 1;
+		for (int i = spread(element.hashCode()) & mask;; i = (i + 1) & mask) {
+			int slot = fTable[i];
+			if (slot == 0) {
+				return NO_NODE;
+			}
+			if (fElements[slot - 1].equals(element)) {
+				return slot - 1;
+			}
+		}
+	}
+
+	private int addNode(int parent, IElementDescriptor element) {
+		if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+			System.out.println("Creating new compact node for element: " + element); //$NON-NLS-1$
+		}
+		if (fSize == fElements.length) {
+			int capacity = fSize + (fSize >> 1) + 1;
+			fElements = Arrays.copyOf(fElements, capacity);
+			fParents = Arrays.copyOf(fParents, capacity);
+			fFirstChildren = Arrays.copyOf(fFirstChildren, capacity);
+			fNextSiblings = Arrays.copyOf(fNextSiblings, capacity);
+			fFlags = Arrays.copyOf(fFlags, capacity);
+		}
+		int node = fSize++;
+		fElements[node] = parent == NO_NODE ? element : canonicalize(fElements[parent], element);
+		fParents[node] = parent;
+		fFirstChildren[node] = NO_NODE;
+		if (parent == NO_NODE) {
+			fNextSiblings[node] = fFirstPackage;
+			fFirstPackage = node;
+		} else {
+			fNextSiblings[node] = fFirstChildren[parent];
+			fFirstChildren[parent] = node;
+		}
+		int visibility = element.getElementType() == IElementDescriptor.PACKAGE ? VisibilityModifiers.API : VISIBILITY_INHERITED;
+		fFlags[node] = visibility;
+		if (fSize * 3 > fTable.length * 2) {
+			rehash(fTable.length * 2);
+		} else {
+			insert(node);
+		}
+		return node;
+	}
+
+	/**
+	 * Returns a descriptor equal to the given member descriptor that shares
+	 * the descriptor of the parent node
+	 *
+	 * @param parent the descriptor of the parent node
+	 * @param element the member descriptor
+	 * @return the descriptor to keep in the node
+	 */
+	private static IElementDescriptor canonicalize(IElementDescriptor parent, IElementDescriptor element) {
+		if (parent instanceof IReferenceTypeDescriptor && parent.equals(element.getParent())) {
+			IReferenceTypeDescriptor type = (IReferenceTypeDescriptor) parent;
+			switch (element.getElementType()) {
+				case IElementDescriptor.METHOD:
+					IMethodDescriptor method = (IMethodDescriptor) element;
+					return type.getMethod(method.getName().intern(), method.getSignature().intern());
+				case IElementDescriptor.FIELD:
+					return type.getField(((IFieldDescriptor) element).getName().intern());
+				default:
+					break;
+			}
+		}
+		return element;
+	}
+
+	private void insert(int node) {
+		int mask = fTable.length - 1;
+		int i = spread(fElements[node].hashCode()) & mask;
+		while (fTable[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		fTable[i] = node + 1;
+	}
+
+	private void rehash(int length) {
+		fTable = new int[length];
+		for (int node = 0; node < fSize; node++) {
+			insert(node);
+		}
+	}
+
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	private int getVisibility(int node) {
+		return fFlags[node] & VISIBILITY_MASK;
+	}
+
+	private int getRestrictions(int node) {
+		return fFlags[node] >>> RESTRICTIONS_SHIFT;
+	}
+
+	/**
+	 * Returns the visibility of the given node, walking up the tree if needed
+	 * to resolve inherited visibility.
+	 *
+	 * @param node
+	 * @return visibility modifier
+	 */
+	private int resolveVisibility(int node) {
+		int current = node;
+		int vis = getVisibility(current);
+		while (vis == VISIBILITY_INHERITED && fParents[current] != NO_NODE) {
+			current = fParents[current];
+			vis = getVisibility(current);
+		}
+		return vis;
+	}
+
+	@Override
+	public IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+		int node = findNode(element);
+		if (node == NO_NODE) {
+			return null;
+		}
+		boolean exact = fElements[node].equals(element);
+		ApiAnnotations annotations = new ApiAnnotations(resolveVisibility(node), exact ? getRestrictions(node) : RestrictionModifiers.NO_RESTRICTIONS);
+		annotations.setExact(exact);
+		return annotations;
+	}
+
+	@Override
+	public IStatus setRestrictions(IElementDescriptor element, int restrictions) {
+		int node = getOrCreateNode(element);
+		modified();
+		fFlags[node] = (fFlags[node] & VISIBILITY_MASK) | (restrictions << RESTRICTIONS_SHIFT);
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setVisibility(IElementDescriptor element, int visibility) {
+		int node = getOrCreateNode(element);
+		modified();
+		fFlags[node] = (fFlags[node] & ~VISIBILITY_MASK) | (visibility & VISIBILITY_MASK);
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	protected void clearPackages() {
+		if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+			System.out.println("Clearing compact nodes"); //$NON-NLS-1$
+		}
+		Arrays.fill(fElements, 0, fSize, null);
+		Arrays.fill(fTable, 0);
+		fSize = 0;
+		fFirstPackage = NO_NODE;
+	}
+
+	/**
+	 * Releases the spare capacity of the node arrays, to be called once the
+	 * description has been filled.
+	 */
+	public void trimToSize() {
+		int capacity = Math.max(fSize, 1);
+		if (capacity < fElements.length) {
+			fElements = Arrays.copyOf(fElements, capacity);
+			fParents = Arrays.copyOf(fParents, capacity);
+			fFirstChildren = Arrays.copyOf(fFirstChildren, capacity);
+			fNextSiblings = Arrays.copyOf(fNextSiblings, capacity);
+			fFlags = Arrays.copyOf(fFlags, capacity);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ public class CoreMessages extends NLS {
 	public static String ApiBaseline_4;
 	public static String ApiBaseline_5;
 	public static String ApiBaseline_6;
+	public static String ApiBaselineManager_refreshing_target_baselines;
 	public static String FilterStore_0;
 	public static String JavadocTagManager_annotation_no_reference;
 	public static String JavadocTagManager_class_no_instantiate;
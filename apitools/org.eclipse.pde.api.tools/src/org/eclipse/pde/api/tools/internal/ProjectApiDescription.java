@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,14 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +52,8 @@ import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -64,6 +70,16 @@ import org.w3c.dom.Element;
  */
 public class ProjectApiDescription extends ApiDescription {
 
+	/**
+	 * Kind of the binary form written by {@link #persist(DataOutputStream)}
+	 */
+	static final String BINARY_KIND = "API_DESCRIPTION"; //$NON-NLS-1$
+
+	/**
+	 * Version of the binary form written by {@link #persist(DataOutputStream)}
+	 */
+	static final int BINARY_VERSION = 1;
+
 	/**
 	 * Associated Java project
 	 */
@@ -703,6 +719,123 @@ public class ProjectApiDescription extends ApiDescription {
 		}
 	}
 
+	/**
+	 * Writes this API description in the binary format restored by the
+	 * {@link ApiDescriptionManager}. The same nodes as {@link #getXML()} are
+	 * written, handles, names and signatures are written once in a string
+	 * table and referred to by index from the node records.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException
+	 */
+	public synchronized void persist(DataOutputStream out) throws IOException {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream records = new DataOutputStream(bytes);
+		persistChildren(records, strings, fPackageMap);
+		records.flush();
+		out.writeUTF(ApiPlugin.PLUGIN_ID);
+		out.writeUTF(BINARY_KIND);
+		out.writeInt(BINARY_VERSION);
+		out.writeUTF(getJavaProject().getElementName());
+		out.writeLong(fPackageTimeStamp);
+		out.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			out.writeUTF(string);
+		}
+		bytes.writeTo(out);
+	}
+
+	/**
+	 * Writes the count of the persisted nodes in the given map followed by
+	 * their records.
+	 *
+	 * @param out the stream to write to
+	 * @param strings the string table, by index
+	 * @param elementMap elements to persist
+	 * @throws IOException
+	 */
+	private void persistChildren(DataOutputStream out, Map<String, Integer> strings, Map<IElementDescriptor, ManifestNode> elementMap) throws IOException {
+		List<ManifestNode> nodes = new ArrayList<>(elementMap.size());
+		for (ManifestNode node : elementMap.values()) {
+			if (isPersisted(node)) {
+				nodes.add(node);
+			}
+		}
+		out.writeInt(nodes.size());
+		for (ManifestNode node : nodes) {
+			persistNode(out, strings, node);
+		}
+	}
+
+	/**
+	 * Writes the record of the given node and of its persisted children.
+	 *
+	 * @param out the stream to write to
+	 * @param strings the string table, by index
+	 * @param node the node to persist
+	 * @throws IOException
+	 */
+	private void persistNode(DataOutputStream out, Map<String, Integer> strings, ManifestNode node) throws IOException {
+		int kind = node.element.getElementType();
+		out.writeByte(kind);
+		out.writeInt(node.visibility);
+		out.writeInt(node.restrictions);
+		switch (kind) {
+			case IElementDescriptor.PACKAGE -> {
+				IPackageFragment[] fragments = ((PackageNode) node).fFragments;
+				out.writeInt(fragments.length);
+				for (IPackageFragment fragment : fragments) {
+					out.writeInt(indexOf(strings, fragment.getHandleIdentifier()));
+				}
+				persistChildren(out, strings, node.children);
+			}
+			case IElementDescriptor.TYPE -> {
+				TypeNode type = (TypeNode) node;
+				out.writeInt(indexOf(strings, type.fType.getHandleIdentifier()));
+				out.writeLong(type.fTimeStamp);
+				persistChildren(out, strings, node.children);
+			}
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) node.element;
+				out.writeInt(indexOf(strings, method.getName()));
+				out.writeInt(indexOf(strings, method.getSignature()));
+			}
+			case IElementDescriptor.FIELD -> {
+				IFieldDescriptor field = (IFieldDescriptor) node.element;
+				out.writeInt(indexOf(strings, field.getName()));
+			}
+			default -> { /**/ }
+		}
+	}
+
+	/**
+	 * Returns whether the given node is persisted, following the same rules
+	 * as the XML form.
+	 *
+	 * @param node the node
+	 * @return <code>true</code> if the node is persisted
+	 */
+	private static boolean isPersisted(ManifestNode node) {
+		if (node instanceof PackageNode || node instanceof TypeNode) {
+			return node.hasApiVisibility(node);
+		}
+		int kind = node.element.getElementType();
+		return (kind == IElementDescriptor.METHOD || kind == IElementDescriptor.FIELD) && !RestrictionModifiers.isUnrestricted(node.restrictions);
+	}
+
+	/**
+	 * Returns the index of the given string in the string table, adding it if
+	 * needed.
+	 *
+	 * @param strings the string table
+	 * @param string the string
+	 * @return the index of the string
+	 */
+	private static int indexOf(Map<String, Integer> strings, String string) {
+		return strings.computeIfAbsent(string, s -> Integer.valueOf(strings.size())).intValue();
+	}
+
 	/**
 	 * Cleans this API description so it will be re-populated with fresh data.
 	 */
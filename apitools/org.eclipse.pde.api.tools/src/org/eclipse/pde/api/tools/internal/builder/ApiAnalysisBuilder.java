@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -181,6 +181,18 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
 
+	/**
+	 * In case the API analysis should use more threads, specify VM property:
+	 * {@code -Dorg.eclipse.pde.api.tools.parallelAnalysis=true}. The API usage
+	 * scan of a project then runs concurrently with its compatibility checks
+	 * and, when running as a job, the builder holds no scheduling rule: the
+	 * analysis jobs of projects without build dependencies between them run
+	 * concurrently, dependent projects are analyzed one after the other.
+	 *
+	 * @since 1.3.100
+	 */
+	static final boolean PARALLEL_ANALYSIS = Boolean.getBoolean("org.eclipse.pde.api.tools.parallelAnalysis"); //$NON-NLS-1$
+
 	/**
 	 * Cleans up markers associated with API Tools on the given resource.
 	 *
@@ -354,7 +366,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
 		// TODO probably we don't need even this and can return null if we are running as job
-		// if(isRunningAsJob()) return null;
+		if (PARALLEL_ANALYSIS && isRunningAsJob()) {
+			// the analysis job has its own rule, see ApiAnalysisJobRule
+			return null;
+		}
 		return currentproject;
 	}
 
@@ -559,7 +574,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			this.projects = projects;
 			// Intentionally not using project as rule to allow run in parallel with build
 			// locking entire workspace
-			setRule(new ApiAnalysisJobRule(project));
+			setRule(new ApiAnalysisJobRule(project, projects));
 		}
 
 		@Override
@@ -618,8 +633,14 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 		private final IProject project;
 
-		public ApiAnalysisJobRule(IProject project) {
+		/**
+		 * The projects the project requires
+		 */
+		private final Set<IProject> required;
+
+		public ApiAnalysisJobRule(IProject project, IProject[] required) {
 			this.project = project;
+			this.required = new HashSet<>(Arrays.asList(required));
 		}
 
 		@Override
@@ -633,6 +654,9 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				return false;
 			}
 			ApiAnalysisJobRule other = (ApiAnalysisJobRule) rule;
+			if (PARALLEL_ANALYSIS && (required.contains(other.project) || other.required.contains(project))) {
+				return true;
+			}
 			return project.equals(other.project);
 		}
 
@@ -1310,7 +1334,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	protected synchronized IApiAnalyzer getAnalyzer() {
 		if (this.analyzer == null) {
-			this.analyzer = new BaseApiAnalyzer();
+			this.analyzer = new BaseApiAnalyzer(PARALLEL_ANALYSIS);
 		}
 		return this.analyzer;
 	}
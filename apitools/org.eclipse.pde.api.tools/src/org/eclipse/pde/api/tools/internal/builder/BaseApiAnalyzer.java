@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.jar.JarFile;
 
 import org.eclipse.core.resources.IFile;
@@ -76,6 +78,7 @@ import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiFilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
 import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.model.WorkspaceBaseline;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
@@ -140,9 +143,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * The backing list of problems found so far
+	 * The backing list of problems found so far, the API usage scan may add
+	 * problems concurrently with the other checks
 	 */
-	private ArrayList<IApiProblem> fProblems = new ArrayList<>(25);
+	private List<IApiProblem> fProblems = Collections.synchronizedList(new ArrayList<>(25));
 
 	/**
 	 * List of pending deltas for which the @since tags should be checked
@@ -175,15 +179,37 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private boolean fContinueOnResolutionError = false;
 
+	/**
+	 * Whether the API usage scan runs concurrently with the compatibility and
+	 * version checks
+	 */
+	private final boolean fParallel;
+
 	/**
 	 * Constructs an API analyzer
 	 */
 	public BaseApiAnalyzer() {
+		this(false);
+	}
+
+	/**
+	 * Constructs an API analyzer
+	 *
+	 * @param parallel whether the API usage scan of a component runs
+	 *            concurrently with its compatibility and version checks
+	 * @since 1.3.100
+	 */
+	public BaseApiAnalyzer(boolean parallel) {
+		fParallel = parallel;
 	}
 
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
+		ForkJoinTask<?> usage = null;
+		// class files of the component are parsed once for the comparison and
+		// the usage scan
+		ClassFileCache.begin(component);
 		try {
 			fJavaProject = getJavaProject(component);
 			this.fFilterStore = filterStore;
@@ -234,6 +260,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (isNested) {
 				return;
 			}
+			if (fParallel) {
+				// usage checks only add problems, they run while comparing
+				usage = forkApiUsage(bcontext, component, state, localMonitor);
+			}
 			boolean checkfilters = false;
 			if (baseline != null) {
 				IApiComponent reference = baseline.getApiComponent(component.getSymbolicName());
@@ -285,7 +315,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			}
 
 			// usage checks
-			checkApiUsage(bcontext, component, localMonitor.split(1));
+			if (usage != null) {
+				usage.join();
+				localMonitor.split(1);
+			} else {
+				checkApiUsage(bcontext, component, state, localMonitor.split(1));
+			}
 			// tag validation
 			checkTagValidation(bcontext, component, localMonitor.split(1));
 			if (checkfilters) {
@@ -305,9 +340,36 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Trapped OperationCanceledException"); //$NON-NLS-1$
 			}
+		} finally {
+			if (usage != null) {
+				// never leave the scan adding problems once the analysis is over
+				usage.quietlyJoin();
+			}
+			ClassFileCache.end(component);
 		}
 	}
 
+	/**
+	 * Starts the API usage scan of the given component in the common fork join
+	 * pool. The scan only reports to the given monitor whether it is canceled.
+	 *
+	 * @param context the current build context
+	 * @param component component being built
+	 * @param state the build state to record member dependencies in or
+	 *            <code>null</code>
+	 * @param monitor progress monitor of the analysis
+	 * @return the running scan
+	 */
+	private ForkJoinTask<?> forkApiUsage(final IBuildContext context, final IApiComponent component, final BuildState state, final IProgressMonitor monitor) {
+		final IProgressMonitor usageMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		return ForkJoinPool.commonPool().submit(() -> checkApiUsage(context, component, state, usageMonitor));
+	}
+
 
 	private boolean checkIfNested(IApiComponent component) {
 		if (!ApiPlugin.isRunningInFramework()) {
@@ -1265,13 +1327,19 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 *
 	 * @param context the current build context
 	 * @param component component being built
+	 * @param state the build state to record member dependencies in or
+	 *            <code>null</code>
 	 * @param monitor progress monitor
 	 */
-	private void checkApiUsage(final IBuildContext context, final IApiComponent component, IProgressMonitor monitor) {
+	private void checkApiUsage(final IBuildContext context, final IApiComponent component, final BuildState state, IProgressMonitor monitor) {
 		if (ignoreApiUsageScan()) {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Ignoring API usage scan"); //$NON-NLS-1$
 			}
+			if (state != null) {
+				// the references of the changed types are not known
+				state.clearMemberDependencies();
+			}
 			return;
 		}
 		IApiTypeContainer scope = null;
@@ -1286,6 +1354,16 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, MessageFormat.format(BuilderMessages.checking_api_usage, component.getSymbolicName()), 2);
 		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		Map<String, Set<String>> references = null;
+		if (state != null && component instanceof ProjectComponent) {
+			if (!context.hasTypes()) {
+				state.initMemberDependencies();
+			}
+			if (state.hasMemberDependencies()) {
+				references = new HashMap<>();
+				analyzer.setMemberReferences(references);
+			}
+		}
 		try {
 			long start = System.currentTimeMillis();
 			IApiProblem[] illegal = analyzer.analyze(component, scope, localMonitor.split(2));
@@ -1296,13 +1374,41 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			for (IApiProblem element : illegal) {
 				addProblem(element);
 			}
+			if (references != null) {
+				if (monitor.isCanceled()) {
+					state.clearMemberDependencies();
+				} else {
+					recordMemberDependencies(state, component, references);
+				}
+			}
 		} catch (CoreException ce) {
+			if (references != null) {
+				state.clearMemberDependencies();
+			}
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				ApiPlugin.log(ce);
 			}
 		}
 	}
 
+	/**
+	 * Records the members referenced by each of the scanned root types in the
+	 * build state, along with the current API description of the type, so the
+	 * incremental builder can find the types using a changed member.
+	 *
+	 * @param state the build state
+	 * @param component the component being built
+	 * @param references map of scanned root types to referenced member keys
+	 * @throws CoreException if the API description cannot be read
+	 */
+	private void recordMemberDependencies(BuildState state, IApiComponent component, Map<String, Set<String>> references) throws CoreException {
+		IApiDescription description = component.getApiDescription();
+		for (Map.Entry<String, Set<String>> entry : references.entrySet()) {
+			String typeName = entry.getKey();
+			state.setMemberDependencies(typeName, entry.getValue(), BuildState.computeTypeDescription(description, typeName));
+		}
+	}
+
 	/**
 	 * Returns the collection of type names to be built
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,8 +44,16 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
 import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.core.build.IBuildEntry;
@@ -59,7 +67,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 34;
 
 	private Map<String, Set<IDelta>> compatibleChanges;
 	private Map<String, Set<IDelta>> breakingChanges;
@@ -78,11 +86,28 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Map of the root types of the project to the keys of the members they
+	 * reference (see {@link #getMemberKey(IReference)}), or <code>null</code>
+	 * if the references have not been recorded for all the types
+	 *
+	 * @since 1.3.100
+	 */
+	private Map<String, Set<String>> memberReferences;
+	/**
+	 * Map of the root types of the project to the API description of the type,
+	 * its members and its member types, as a map of element key to encoded
+	 * visibility and restrictions. Recorded along with
+	 * {@link #memberReferences}.
+	 *
+	 * @since 1.3.100
+	 */
+	private Map<String, Map<String, Integer>> typeDescriptions;
 
 	/**
 	 * Constructor
 	 */
-	BuildState() {
+	public BuildState() {
 		this.compatibleChanges = new LinkedHashMap<>();
 		this.breakingChanges = new LinkedHashMap<>();
 		this.manifestChanges = new LinkedHashMap<>();
@@ -157,6 +182,9 @@ public class BuildState {
 					}
 					state.setBuildPropertiesState(map);
 				}
+				if (in.readBoolean()) {
+					readMemberDependencies(state, in);
+				}
 			}
 			return state;
 		}
@@ -216,6 +244,101 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		// the member dependencies are recorded by the API usage scan, which
+		// may run concurrently
+		synchronized (state) {
+			out.writeBoolean(state.memberReferences != null);
+			if (state.memberReferences != null) {
+				writeMemberDependencies(state, out);
+			}
+		}
+	}
+
+	/**
+	 * Reads the member references and type descriptions from the build state.
+	 * Type names and member keys are written once in a string table and then
+	 * referred to by index.
+	 *
+	 * @param state the state to read into
+	 * @param in the input stream to read from
+	 * @throws IOException
+	 */
+	private static void readMemberDependencies(BuildState state, DataInputStream in) throws IOException {
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		state.initMemberDependencies();
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			String typeName = strings[in.readInt()];
+			int size = in.readInt();
+			Set<String> keys = new HashSet<>(size);
+			for (int j = 0; j < size; j++) {
+				keys.add(strings[in.readInt()]);
+			}
+			state.memberReferences.put(typeName, keys);
+		}
+		count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			String typeName = strings[in.readInt()];
+			int size = in.readInt();
+			Map<String, Integer> description = new HashMap<>(size);
+			for (int j = 0; j < size; j++) {
+				String key = strings[in.readInt()];
+				description.put(key, Integer.valueOf(in.readInt()));
+			}
+			state.typeDescriptions.put(typeName, description);
+		}
+	}
+
+	/**
+	 * Writes the member references and type descriptions to the build state.
+	 * The caller must hold the lock of the state.
+	 *
+	 * @param state the state to write
+	 * @param out the stream to write to
+	 * @throws IOException
+	 */
+	private static void writeMemberDependencies(BuildState state, DataOutputStream out) throws IOException {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		for (Entry<String, Set<String>> entry : state.memberReferences.entrySet()) {
+			indexOf(strings, entry.getKey());
+			for (String key : entry.getValue()) {
+				indexOf(strings, key);
+			}
+		}
+		for (Entry<String, Map<String, Integer>> entry : state.typeDescriptions.entrySet()) {
+			indexOf(strings, entry.getKey());
+			for (String key : entry.getValue().keySet()) {
+				indexOf(strings, key);
+			}
+		}
+		out.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			out.writeUTF(string);
+		}
+		out.writeInt(state.memberReferences.size());
+		for (Entry<String, Set<String>> entry : state.memberReferences.entrySet()) {
+			out.writeInt(strings.get(entry.getKey()).intValue());
+			out.writeInt(entry.getValue().size());
+			for (String key : entry.getValue()) {
+				out.writeInt(strings.get(key).intValue());
+			}
+		}
+		out.writeInt(state.typeDescriptions.size());
+		for (Entry<String, Map<String, Integer>> entry : state.typeDescriptions.entrySet()) {
+			out.writeInt(strings.get(entry.getKey()).intValue());
+			out.writeInt(entry.getValue().size());
+			for (Entry<String, Integer> value : entry.getValue().entrySet()) {
+				out.writeInt(strings.get(value.getKey()).intValue());
+				out.writeInt(value.getValue().intValue());
+			}
+		}
+	}
+
+	private static int indexOf(Map<String, Integer> strings, String string) {
+		return strings.computeIfAbsent(string, s -> Integer.valueOf(strings.size())).intValue();
 	}
 
 	/**
@@ -381,6 +504,202 @@ public class BuildState {
 		this.reexportedComponents = null;
 	}
 
+	/**
+	 * Removes the recorded member references and description of the given
+	 * removed type.
+	 *
+	 * @param typeName the slash or dot qualified name of the removed type
+	 * @since 1.3.100
+	 */
+	public synchronized void removeMemberDependencies(String typeName) {
+		if (this.memberReferences != null) {
+			String rootName = getRootTypeName(typeName);
+			this.memberReferences.remove(rootName);
+			this.typeDescriptions.remove(rootName);
+		}
+	}
+
+	/**
+	 * Starts recording the member references and type descriptions of all the
+	 * types of the project, discarding any previous recording. Used when the
+	 * whole project is analyzed.
+	 *
+	 * @since 1.3.100
+	 */
+	public synchronized void initMemberDependencies() {
+		this.memberReferences = new HashMap<>();
+		this.typeDescriptions = new HashMap<>();
+	}
+
+	/**
+	 * Discards the recorded member references and type descriptions, for
+	 * example when the references of some types could not be recorded. The
+	 * incremental builder falls back to type level dependencies until the
+	 * next full build.
+	 *
+	 * @since 1.3.100
+	 */
+	public synchronized void clearMemberDependencies() {
+		this.memberReferences = null;
+		this.typeDescriptions = null;
+	}
+
+	/**
+	 * Returns if the member references and type descriptions of all the types
+	 * of the project are known
+	 *
+	 * @return <code>true</code> if the member dependencies are recorded
+	 * @since 1.3.100
+	 */
+	public synchronized boolean hasMemberDependencies() {
+		return this.memberReferences != null;
+	}
+
+	/**
+	 * Records the members referenced by the given root type and the current
+	 * API description of the type. Does nothing if the member dependencies
+	 * are not being recorded.
+	 *
+	 * @param typeName the qualified name of the root type
+	 * @param keys the keys of the referenced members
+	 * @param description the API description of the type, as a map of element
+	 *            key to encoded annotations, see
+	 *            {@link #encodeAnnotations(int, int)}
+	 * @since 1.3.100
+	 */
+	public synchronized void setMemberDependencies(String typeName, Set<String> keys, Map<String, Integer> description) {
+		if (this.memberReferences == null) {
+			return;
+		}
+		this.memberReferences.put(typeName, keys);
+		if (description.isEmpty()) {
+			this.typeDescriptions.remove(typeName);
+		} else {
+			this.typeDescriptions.put(typeName, description);
+		}
+	}
+
+	/**
+	 * Returns the recorded API description of the given root type, or
+	 * <code>null</code> if the type was not recorded
+	 *
+	 * @param typeName the qualified name of the root type
+	 * @return the recorded description or <code>null</code>
+	 * @since 1.3.100
+	 */
+	public synchronized Map<String, Integer> getTypeDescription(String typeName) {
+		if (this.memberReferences == null || !this.memberReferences.containsKey(typeName)) {
+			return null;
+		}
+		Map<String, Integer> description = this.typeDescriptions.get(typeName);
+		return description == null ? Collections.emptyMap() : description;
+	}
+
+	/**
+	 * Returns the root types that reference one of the given types or members.
+	 * Members are matched by name only, so references made through a sub type
+	 * or with a different signature form are never missed.
+	 *
+	 * @param types qualified names of the types whose every member is
+	 *            considered changed
+	 * @param members names of the changed fields and methods
+	 * @return the referencing root types, never <code>null</code>
+	 * @since 1.3.100
+	 */
+	public synchronized Set<String> getMemberDependents(Set<String> types, Set<String> members) {
+		Set<String> dependents = new HashSet<>();
+		if (this.memberReferences == null) {
+			return dependents;
+		}
+		for (Entry<String, Set<String>> entry : this.memberReferences.entrySet()) {
+			for (String key : entry.getValue()) {
+				int index = key.indexOf('#');
+				String type = index < 0 ? key : key.substring(0, index);
+				if (types.contains(type) || (index > -1 && members.contains(key.substring(index + 1)))) {
+					dependents.add(entry.getKey());
+					break;
+				}
+			}
+		}
+		return dependents;
+	}
+
+	/**
+	 * Returns the key of the member referenced by the given reference: the
+	 * qualified type name for a type reference, or the type name and the member
+	 * name separated by <code>#</code>
+	 *
+	 * @param reference the reference
+	 * @return the key of the referenced member
+	 * @since 1.3.100
+	 */
+	public static String getMemberKey(IReference reference) {
+		if (reference.getReferenceType() == IReference.T_TYPE_REFERENCE) {
+			return reference.getReferencedTypeName();
+		}
+		return reference.getReferencedTypeName() + '#' + reference.getReferencedMemberName();
+	}
+
+	/**
+	 * Returns the current API description of the given root type, its members
+	 * and its member types, as recorded by
+	 * {@link #setMemberDependencies(String, Set, Map)}
+	 *
+	 * @param description the API description of the component of the type
+	 * @param typeName the qualified name of the root type
+	 * @return the description of the type, empty if the type is not described
+	 * @since 1.3.100
+	 */
+	public static Map<String, Integer> computeTypeDescription(IApiDescription description, String typeName) {
+		final Map<String, Integer> result = new HashMap<>();
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				String key = switch (element.getElementType())
+					{
+					case IElementDescriptor.TYPE -> ((IReferenceTypeDescriptor) element).getQualifiedName();
+					case IElementDescriptor.FIELD -> ((IFieldDescriptor) element).getEnclosingType().getQualifiedName() + '#' + ((IFieldDescriptor) element).getName();
+					case IElementDescriptor.METHOD -> ((IMethodDescriptor) element).getEnclosingType().getQualifiedName() + '#' + ((IMethodDescriptor) element).getName() + ((IMethodDescriptor) element).getSignature();
+					default -> null;
+					};
+				if (key == null) {
+					// the type is not described, only its package was found
+					return false;
+				}
+				result.put(key, Integer.valueOf(encodeAnnotations(annotations.getVisibility(), annotations.getRestrictions())));
+				return true;
+			}
+		}, Util.getType(typeName), null);
+		return result;
+	}
+
+	/**
+	 * Encodes the given visibility and restrictions as one value of a type
+	 * description
+	 *
+	 * @param visibility the visibility
+	 * @param restrictions the restrictions
+	 * @return the encoded annotations
+	 * @since 1.3.100
+	 */
+	public static int encodeAnnotations(int visibility, int restrictions) {
+		return visibility << 16 | (restrictions & 0xFFFF);
+	}
+
+	/**
+	 * Returns the qualified name of the root type of the given slash or dot
+	 * qualified type name
+	 *
+	 * @param typeName the type name
+	 * @return the dot qualified root type name
+	 * @since 1.3.100
+	 */
+	public static String getRootTypeName(String typeName) {
+		String name = typeName.replace('/', '.');
+		int index = name.indexOf('$');
+		return index < 0 ? name : name.substring(0, index);
+	}
+
 	/**
 	 * Sets the current list if re-exported {@link IApiComponent}s for this
 	 * build state
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.pde.api.tools.internal.builder;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
@@ -44,9 +46,14 @@ import org.eclipse.pde.api.tools.internal.TypeAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.IApiMarkerConstants;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.osgi.framework.Version;
@@ -66,6 +73,8 @@ public class IncrementalApiBuilder {
 	private static final int STRUCTURAL = 0x0001;
 	private static final int DESCRIPTION = 0x0002;
 
+	private static final String[] NO_TYPES = new String[0];
+
 	static class Change {
 		int changeKind; // STUCTURAL | DESCRIPTION
 		int fileKind; // JAVA | CLASS
@@ -246,7 +255,7 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
-			buildContext(project, state, visitor.changes, depprojects);
+			buildContext(project, state, buildstate, visitor.changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
 			// do nothing, but don't forward it
@@ -390,9 +399,10 @@ public class IncrementalApiBuilder {
 	 *
 	 * @param project the current project being built
 	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
 	 * @param list of changes
 	 */
-	void buildContext(final IProject project, State state, List<Change> changes, HashSet<IProject> depprojects) {
+	void buildContext(final IProject project, State state, BuildState buildstate, List<Change> changes, HashSet<IProject> depprojects) {
 		StringSet structural = null;
 		StringSet description = null;
 		for (Change change : changes) {
@@ -448,20 +458,191 @@ public class IncrementalApiBuilder {
 		if (changes.size() == 1 && structural != null && description != null) {
 			String[] types = structural.values;
 			if (types.length > 0) {
-				addDependents(project, state, types, STRUCTURAL | DESCRIPTION);
+				addDependents(project, state, buildstate, types, STRUCTURAL | DESCRIPTION);
 			}
 		} else {
 			if (structural != null) {
 				String[] types = structural.values;
 				if (types.length > 0) {
-					addDependents(project, state, types, STRUCTURAL);
+					addDependents(project, state, buildstate, types, STRUCTURAL);
 				}
 			}
 			if (description != null) {
 				String[] types = description.values;
 				if (types.length > 0) {
-					addDependents(project, state, types, DESCRIPTION);
+					addDependents(project, state, buildstate, types, DESCRIPTION);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the dependent files from the current build context to either the
+	 * structural or description dependents. Dependents are found from the
+	 * member dependencies recorded in the API tools build state when possible,
+	 * so only the types referencing a changed type, or a member whose API
+	 * description changed, are analyzed again. Other dependents are found from
+	 * the current JDT build state.
+	 *
+	 * @param project the current project being built
+	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
+	 * @param types dot and $ qualified names of base types that changed
+	 * @param kind mask of STRUCTURAL or DESCRIPTION
+	 */
+	private void addDependents(final IProject project, State state, BuildState buildstate, String[] types, int kind) {
+		String[] structural = NO_TYPES;
+		String[] description = NO_TYPES;
+		if ((STRUCTURAL & kind) > 0) {
+			structural = addMemberDependents(project, state, buildstate, types, STRUCTURAL);
+		}
+		if ((DESCRIPTION & kind) > 0) {
+			description = addMemberDependents(project, state, buildstate, types, DESCRIPTION);
+		}
+		if (kind == (STRUCTURAL | DESCRIPTION) && structural.length == types.length && description.length == types.length) {
+			// look up the JDT build state only once
+			addTypeDependents(project, state, types, kind);
+			return;
+		}
+		if (structural.length > 0) {
+			addTypeDependents(project, state, structural, STRUCTURAL);
+		}
+		if (description.length > 0) {
+			addTypeDependents(project, state, description, DESCRIPTION);
+		}
+	}
+
+	/**
+	 * Adds the types referencing the given changed types to the dependents of
+	 * the given kind, using the member dependencies recorded in the API tools
+	 * build state. For a structural change these are the types referencing the
+	 * changed type, one of its member types, or a field or method with the
+	 * name of one of their members. For a description change these are the
+	 * types referencing a type or member whose API description has changed
+	 * since the last build.
+	 *
+	 * @param project the current project being built
+	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
+	 * @param types names of the types that changed
+	 * @param kind one of STRUCTURAL or DESCRIPTION
+	 * @return the types whose dependents could not be found from the API tools
+	 *         build state, never <code>null</code>
+	 */
+	private String[] addMemberDependents(final IProject project, State state, BuildState buildstate, String[] types, int kind) {
+		if (buildstate == null || !buildstate.hasMemberDependencies()) {
+			return types;
+		}
+		IApiComponent component = this.workspaceBaseline.getApiComponent(project);
+		if (component == null) {
+			return types;
+		}
+		IApiDescription description = null;
+		try {
+			description = component.getApiDescription();
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+			return types;
+		}
+		List<String> remaining = new ArrayList<>();
+		Set<String> changedtypes = new HashSet<>();
+		Set<String> changedmembers = new HashSet<>();
+		for (String type : types) {
+			if (type == null) {
+				continue;
+			}
+			String rootname = BuildState.getRootTypeName(type);
+			Map<String, Integer> previous = buildstate.getTypeDescription(rootname);
+			if (previous == null) {
+				// not known from the last build
+				remaining.add(type);
+				continue;
+			}
+			if (kind == STRUCTURAL) {
+				try {
+					IApiTypeRoot root = component.findTypeRoot(rootname);
+					if (root == null) {
+						remaining.add(type);
+						continue;
+					}
+					collectStructure(root.getStructure(), changedtypes, changedmembers);
+				} catch (CoreException e) {
+					ApiPlugin.log(e);
+					remaining.add(type);
+				}
+			} else {
+				collectDescriptionChanges(previous, BuildState.computeTypeDescription(description, rootname), changedtypes, changedmembers);
+			}
+		}
+		if (!changedtypes.isEmpty() || !changedmembers.isEmpty()) {
+			for (String dependent : buildstate.getMemberDependents(changedtypes, changedmembers)) {
+				String typeLocator = state.typeLocators.get(dependent.replace('.', '/'));
+				if (typeLocator == null) {
+					continue;
 				}
+				IFile file = project.getFile(typeLocator);
+				if (ApiPlugin.DEBUG_BUILDER) {
+					System.out.println("ApiAnalysisBuilder:   adding source file referencing changed members " + file.getName()); //$NON-NLS-1$
+				}
+				addDependentTypeToContext(file, kind);
+			}
+		}
+		return remaining.toArray(new String[remaining.size()]);
+	}
+
+	/**
+	 * Collects the given structurally changed type, its member types and the
+	 * names of all their fields and methods. Which members changed is not
+	 * known, and a member may be referenced through a sub type, so every
+	 * reference to a field or method with one of these names is considered.
+	 * Constructors are only referenced through their declaring type.
+	 *
+	 * @param type the changed type or <code>null</code>
+	 * @param types collects the changed types
+	 * @param members collects the names of the fields and methods
+	 * @throws CoreException if a member type cannot be read
+	 */
+	public static void collectStructure(IApiType type, Set<String> types, Set<String> members) throws CoreException {
+		if (type == null) {
+			return;
+		}
+		types.add(type.getName());
+		for (IApiField field : type.getFields()) {
+			members.add(field.getName());
+		}
+		for (IApiMethod method : type.getMethods()) {
+			if (!method.isConstructor() && !method.isClassInitializer()) {
+				members.add(method.getName());
+			}
+		}
+		for (IApiType member : type.getMemberTypes()) {
+			collectStructure(member, types, members);
+		}
+	}
+
+	/**
+	 * Collects the types and members whose recorded API description differs
+	 * between the two given descriptions of a type. A type is collected when
+	 * its own description changed, a field or method by its name only.
+	 *
+	 * @param previous the description recorded in the last build
+	 * @param current the current description
+	 * @param types collects the changed types
+	 * @param members collects the names of the changed fields and methods
+	 */
+	public static void collectDescriptionChanges(Map<String, Integer> previous, Map<String, Integer> current, Set<String> types, Set<String> members) {
+		Set<String> keys = new HashSet<>(previous.keySet());
+		keys.addAll(current.keySet());
+		for (String key : keys) {
+			if (Objects.equals(previous.get(key), current.get(key))) {
+				continue;
+			}
+			int index = key.indexOf('#');
+			if (index < 0) {
+				types.add(key);
+			} else {
+				int end = key.indexOf('(', index);
+				members.add(end < 0 ? key.substring(index + 1) : key.substring(index + 1, end));
 			}
 		}
 	}
@@ -476,7 +657,7 @@ public class IncrementalApiBuilder {
 	 * @param types dot and $ qualified names of base types that changed
 	 * @param kind mask of STRUCTURAL or DESCRIPTION
 	 */
-	private void addDependents(final IProject project, State state, String[] types, int kind) {
+	private void addTypeDependents(final IProject project, State state, String[] types, int kind) {
 		StringSet packages = new StringSet(16);
 		StringSet typenames = new StringSet(16);
 		for (String type : types) {
@@ -549,6 +730,9 @@ public class IncrementalApiBuilder {
 		String[] types = this.context.getRemovedTypes();
 		for (String type : types) {
 			state.cleanup(type);
+			if (type.indexOf('$') < 0) {
+				state.removeMemberDependencies(type);
+			}
 		}
 		subMonitor.split(1);
 		IResource resource = project.findMember(ApiAnalysisBuilder.MANIFEST_PATH);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -696,6 +696,14 @@ public class Reference implements IReference {
 		this.fStatus = value;
 	}
 
+	/**
+	 * @return <code>false</code> if this reference has been flagged as not to
+	 *         be resolved, <code>true</code> otherwise
+	 */
+	public boolean getResolveStatus() {
+		return this.fStatus;
+	}
+
 	/**
 	 * Returns the string representation for the given reference kind or
 	 * <code>UKNOWN_KIND</code> if the kind cannot be determined.
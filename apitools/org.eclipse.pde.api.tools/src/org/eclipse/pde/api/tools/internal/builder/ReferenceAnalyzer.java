@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,11 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -95,6 +98,13 @@ public class ReferenceAnalyzer {
 						return;
 					}
 					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
+					if (fMemberReferences != null) {
+						Set<String> keys = new HashSet<>();
+						for (IReference ref : references) {
+							keys.add(BuildState.getMemberKey(ref));
+						}
+						fMemberReferences.put(type.getName(), keys);
+					}
 					// keep potential matches
 					for (IReference ref : references) {
 						if (fMonitor.isCanceled()) {
@@ -141,6 +151,12 @@ public class ReferenceAnalyzer {
 	 */
 	List<IReference> fReferences = new LinkedList<>();
 
+	/**
+	 * Map of the visited root types to the keys of the members they reference,
+	 * or <code>null</code> if the references are not recorded
+	 */
+	Map<String, Set<String>> fMemberReferences = null;
+
 	/**
 	 * Problem detectors indexed by the log base 2 of each reference kind they
 	 * are interested in. Provides a fast way to hand references off to
@@ -267,6 +283,18 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Sets the map to record the keys of the members referenced by each
+	 * analyzed root type into, see {@link BuildState#getMemberKey(IReference)}
+	 *
+	 * @param references the map to record into or <code>null</code> to not
+	 *            record references
+	 * @since 1.3.100
+	 */
+	public void setMemberReferences(Map<String, Set<String>> references) {
+		fMemberReferences = references;
+	}
+
 	/**
 	 * Returns the collection of problem detectors for the given reference kind
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -247,9 +248,10 @@ public class ReferenceExtractor extends ClassVisitor {
 		public ClassFileMethodVisitor(MethodVisitor mv, String name, int argumentcount) {
 			super(Util.LATEST_OPCODES_ASM, mv);
 			this.argumentcount = argumentcount;
-			this.linePositionTracker = new LinePositionTracker();
+			// methods are visited one after the other, reuse the trackers
+			this.linePositionTracker = ReferenceExtractor.this.fLinePositionTracker;
 			this.lastLineNumber = -1;
-			this.labelsToLocalMarkers = new HashMap<>();
+			this.labelsToLocalMarkers = ReferenceExtractor.this.fLabelsToLocalMarkers;
 			this.methodName = name;
 		}
 
@@ -259,7 +261,8 @@ public class ReferenceExtractor extends ClassVisitor {
 			this.argumentcount = 0;
 			ReferenceExtractor.this.exitMember();
 			this.linePositionTracker.computeLineNumbers();
-			this.labelsToLocalMarkers = null;
+			this.linePositionTracker.clear();
+			this.labelsToLocalMarkers.clear();
 		}
 
 		@Override
@@ -279,8 +282,8 @@ public class ReferenceExtractor extends ClassVisitor {
 				case Opcodes.GETFIELD -> IReference.REF_GETFIELD;
 				default -> -1;
 			};
-			if (refType != -1) {
-				Reference reference = ReferenceExtractor.this.addFieldReference(Type.getObjectType(owner), name, refType);
+			if (refType != -1 && isTracked(refType)) {
+				Reference reference = ReferenceExtractor.this.addFieldReference(owner, name, refType);
 				if (reference != null) {
 					this.linePositionTracker.addLocation(reference);
 					if (refType == IReference.REF_GETFIELD || refType == IReference.REF_PUTFIELD) {
@@ -320,18 +323,17 @@ public class ReferenceExtractor extends ClassVisitor {
 
 		@Override
 		public void visitMethodInsn(int opcode, String owner, String name, String desc, boolean inf) {
-			Type declaringType = Type.getObjectType(owner);
 			int kind = -1;
 			int flags = 0;
 			switch (opcode) {
 				case Opcodes.INVOKESPECIAL -> {
 					kind = ("<init>".equals(name) ? IReference.REF_CONSTRUCTORMETHOD : IReference.REF_SPECIALMETHOD); //$NON-NLS-1$
 					if (kind == IReference.REF_CONSTRUCTORMETHOD) {
-						if (!implicitConstructor && this.methodName.equals("<init>") && !fSuperStack.isEmpty() && (fSuperStack.peek()).equals(declaringType.getClassName())) { //$NON-NLS-1$
+						if (!implicitConstructor && this.methodName.equals("<init>") && !fSuperStack.isEmpty() && (fSuperStack.peek()).equals(getTypeName(owner))) { //$NON-NLS-1$
 							implicitConstructor = true;
 							kind = IReference.REF_SUPER_CONSTRUCTORMETHOD;
-						} else {
-							Reference reference = ReferenceExtractor.this.addTypeReference(declaringType, IReference.REF_INSTANTIATE);
+						} else if (isTracked(IReference.REF_INSTANTIATE)) {
+							Reference reference = ReferenceExtractor.this.addTypeReference(owner, IReference.REF_INSTANTIATE);
 							if (reference != null) {
 								this.linePositionTracker.addLocation(reference);
 							}
@@ -341,7 +343,7 @@ public class ReferenceExtractor extends ClassVisitor {
 				case Opcodes.INVOKESTATIC -> {
 					kind = IReference.REF_STATICMETHOD;
 					// check for reference to a class literal
-					if (name.equals("forName")) { //$NON-NLS-1$
+					if (name.equals("forName") && isTracked(IReference.REF_CONSTANTPOOL)) { //$NON-NLS-1$
 						if (ReferenceExtractor.this.processName(owner).equals("java.lang.Class")) { //$NON-NLS-1$
 							if (this.stringLiteral != null) {
 								try {
@@ -362,7 +364,7 @@ public class ReferenceExtractor extends ClassVisitor {
 				case Opcodes.INVOKEVIRTUAL -> {
 					kind = IReference.REF_VIRTUALMETHOD;
 					// try to determine if this is a default method
-					if (fVersion >= Opcodes.V1_8) {
+					if (fVersion >= Opcodes.V1_8 && isTracked(IReference.REF_VIRTUALMETHOD)) {
 						IApiMember member = ReferenceExtractor.this.getMember();
 						if (member != null) {
 							try {
@@ -402,8 +404,8 @@ public class ReferenceExtractor extends ClassVisitor {
 				}
 				default -> { /**/ }
 			}
-			if (kind != -1) {
-				Reference reference = ReferenceExtractor.this.addMethodReference(declaringType, name, desc, kind, flags);
+			if (kind != -1 && isTracked(kind)) {
+				Reference reference = ReferenceExtractor.this.addMethodReference(owner, name, desc, kind, flags);
 				if (reference != null) {
 					this.linePositionTracker.addLocation(reference);
 					if (kind == IReference.REF_STATICMETHOD) {
@@ -416,11 +418,13 @@ public class ReferenceExtractor extends ClassVisitor {
 
 		@Override
 		public void visitInvokeDynamicInsn(String name, String desc, Handle bsm, Object... bsmArgs) {
+			if (!isTracked(IReference.REF_VIRTUALMETHOD)) {
+				return;
+			}
 			for (Object arg : bsmArgs) {
 				if (arg instanceof Handle) {
 					Handle handle = (Handle) arg;
-					Type declaringType = Type.getObjectType(handle.getOwner());
-					Reference reference = ReferenceExtractor.this.addMethodReference(declaringType, handle.getName(), handle.getDesc(), IReference.REF_VIRTUALMETHOD, 0);
+					Reference reference = ReferenceExtractor.this.addMethodReference(handle.getOwner(), handle.getName(), handle.getDesc(), IReference.REF_VIRTUALMETHOD, 0);
 					if (reference != null) {
 						this.linePositionTracker.addLocation(reference);
 					}
@@ -708,6 +712,18 @@ public class ReferenceExtractor extends ClassVisitor {
 			this.labelsAndLocations.add(label);
 		}
 
+		/**
+		 * Clears the tracker so it can be used for another method
+		 *
+		 * @since 1.3.100
+		 */
+		void clear() {
+			this.labelsAndLocations.clear();
+			this.lineInfos.clear();
+			this.catchLabelInfos.clear();
+			this.lineMap.clear();
+		}
+
 		public void computeLineNumbers() {
 
 			if (this.lineInfos.size() < 1 || this.labelsAndLocations.size() < 1) {
@@ -907,6 +923,25 @@ public class ReferenceExtractor extends ClassVisitor {
 	 */
 	FieldTracker fieldtracker = null;
 
+	/**
+	 * Qualified type names by internal name, shared with the extractors of
+	 * member types, so each referenced type name is computed once and the
+	 * references to a type share the same name. An empty name marks an
+	 * internal name that is not a reference type.
+	 *
+	 * @since 1.3.100
+	 */
+	HashMap<String, String> fTypeNames = new HashMap<>();
+
+	/**
+	 * Line number tracker and local variable markers of the method being
+	 * visited, cleared at the end of each method
+	 *
+	 * @since 1.3.100
+	 */
+	final LinePositionTracker fLinePositionTracker = new LinePositionTracker();
+	final HashMap<Label, List<LocalLineNumberMarker>> fLabelsToLocalMarkers = new HashMap<>();
+
 	/**
 	 * The version for the class being visited
 	 *
@@ -1032,6 +1067,38 @@ public class ReferenceExtractor extends ClassVisitor {
 		return true;
 	}
 
+	/**
+	 * Returns whether references of the given kind are extracted. Used to
+	 * discard references before they are created.
+	 *
+	 * @param kind the reference kind
+	 * @return <code>true</code> if references of the kind are extracted
+	 * @since 1.3.100
+	 */
+	boolean isTracked(int kind) {
+		return (kind & fReferenceKinds) != 0;
+	}
+
+	/**
+	 * Returns the qualified name of the type with the given internal name or
+	 * of the element type of the given array descriptor.
+	 *
+	 * @param internalName internal name of a class or descriptor of an array
+	 *            as found in the owner of a member instruction
+	 * @return the qualified name of the type or <code>null</code> if it is
+	 *         not a reference type
+	 * @since 1.3.100
+	 */
+	String getTypeName(String internalName) {
+		String name = fTypeNames.get(internalName);
+		if (name == null) {
+			Type rtype = this.resolveType(Type.getObjectType(internalName).getDescriptor());
+			name = rtype == null ? Util.EMPTY_STRING : rtype.getClassName();
+			fTypeNames.put(internalName, name);
+		}
+		return name.isEmpty() ? null : name;
+	}
+
 	/**
 	 * Returns the full internal name (if available) from the given simple name.
 	 * The returned name has been modified to be '.' separated
@@ -1059,6 +1126,9 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * @return reference added, or <code>null</code> if none
 	 */
 	protected Reference addTypeReference(Type type, int kind) {
+		if (!isTracked(kind)) {
+			return null;
+		}
 		Type rtype = this.resolveType(type.getDescriptor());
 		if (rtype != null) {
 			return addReference(Reference.typeReference(getMember(), rtype.getClassName(), kind));
@@ -1077,6 +1147,9 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * @return reference added, or <code>null</code> if none
 	 */
 	protected Reference addFieldReference(Type declaringType, String name, int kind) {
+		if (!isTracked(kind)) {
+			return null;
+		}
 		Type rtype = this.resolveType(declaringType.getDescriptor());
 		if (rtype != null) {
 			return addReference(Reference.fieldReference(getMember(), rtype.getClassName(), name, kind));
@@ -1084,6 +1157,48 @@ public class ReferenceExtractor extends ClassVisitor {
 		return null;
 	}
 
+	/**
+	 * Adds a reference to the type with the given internal name from the
+	 * current member.
+	 *
+	 * @param owner internal name of the referenced type
+	 * @param kind kind of reference
+	 * @return reference added, or <code>null</code> if none
+	 * @see #addTypeReference(Type, int)
+	 * @since 1.3.100
+	 */
+	Reference addTypeReference(String owner, int kind) {
+		if (!isTracked(kind)) {
+			return null;
+		}
+		String typeName = getTypeName(owner);
+		if (typeName != null) {
+			return addReference(Reference.typeReference(getMember(), typeName, kind));
+		}
+		return null;
+	}
+
+	/**
+	 * Adds a reference to the given field from the current member.
+	 *
+	 * @param owner internal name of the type declaring the field
+	 * @param name of the field being referenced
+	 * @param kind kind of reference
+	 * @return reference added, or <code>null</code> if none
+	 * @see #addFieldReference(Type, String, int)
+	 * @since 1.3.100
+	 */
+	Reference addFieldReference(String owner, String name, int kind) {
+		if (!isTracked(kind)) {
+			return null;
+		}
+		String typeName = getTypeName(owner);
+		if (typeName != null) {
+			return addReference(Reference.fieldReference(getMember(), typeName, name, kind));
+		}
+		return null;
+	}
+
 	/**
 	 * Adds a reference to the given method from the current member. Discards
 	 * the reference if the method is defined in the class file being scanned.
@@ -1098,6 +1213,9 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * @return reference added, or <code>null</code> if none
 	 */
 	protected Reference addMethodReference(Type declaringType, String name, String signature, int kind, int flags) {
+		if (!isTracked(kind)) {
+			return null;
+		}
 		Type rtype = this.resolveType(declaringType.getDescriptor());
 		if (rtype != null) {
 			return this.addReference(Reference.methodReference(getMember(), rtype.getClassName(), name, signature, kind, flags));
@@ -1105,6 +1223,29 @@ public class ReferenceExtractor extends ClassVisitor {
 		return null;
 	}
 
+	/**
+	 * Adds a reference to the given method from the current member.
+	 *
+	 * @param owner internal name of the type declaring the method
+	 * @param name of the method being referenced
+	 * @param signature signature of the method
+	 * @param kind kind of reference
+	 * @param flags the flags for the reference
+	 * @return reference added, or <code>null</code> if none
+	 * @see #addMethodReference(Type, String, String, int, int)
+	 * @since 1.3.100
+	 */
+	Reference addMethodReference(String owner, String name, String signature, int kind, int flags) {
+		if (!isTracked(kind)) {
+			return null;
+		}
+		String typeName = getTypeName(owner);
+		if (typeName != null) {
+			return this.addReference(Reference.methodReference(getMember(), typeName, name, signature, kind, flags));
+		}
+		return null;
+	}
+
 	/**
 	 * Adds a reference to the given target member from the given line number in
 	 * the class file being scanned. If the target member is contained in the
@@ -1306,8 +1447,14 @@ public class ReferenceExtractor extends ClassVisitor {
 	private Set<Reference> processInnerClass(IApiType type, int refkinds) throws CoreException {
 		HashSet<Reference> refs = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(type, refs, refkinds, this.fieldtracker);
-		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) type.getTypeRoot()).getContents());
-		reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		extractor.fTypeNames = this.fTypeNames;
+		ClassNode node = ClassFileCache.getClassNode(type.getTypeRoot());
+		if (node != null) {
+			ClassFileCache.accept(node, extractor);
+		} else {
+			ClassReader reader = new ClassReader(((AbstractApiTypeRoot) type.getTypeRoot()).getContents());
+			reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		}
 		return refs;
 	}
 
@@ -1350,7 +1497,7 @@ public class ReferenceExtractor extends ClassVisitor {
 			}
 			this.enterMember(method);
 			// record potential method override reference
-			if ((access & (Opcodes.ACC_PROTECTED | Opcodes.ACC_PUBLIC)) > 0) {
+			if ((access & (Opcodes.ACC_PROTECTED | Opcodes.ACC_PUBLIC)) > 0 && isTracked(IReference.REF_OVERRIDE)) {
 				try {
 					IApiType def = null;
 					if (fVersion >= Opcodes.V1_8) {
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.lang.ref.SoftReference;
+
+import org.eclipse.pde.api.tools.internal.BoundedConcurrentCache;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+
+/**
+ * Cache of reference resolutions for one {@link IApiBaseline}, shared by all
+ * the {@link ReferenceResolver} batches run against it.
+ * <p>
+ * Resolutions are keyed by the referencing component and the referenced
+ * type or member, so a popular target is only looked up once per referencing
+ * component for the life time of the baseline (or until the cache is
+ * flushed). References known not to resolve are cached as well.
+ * </p>
+ * <p>
+ * Resolved members are held through soft references: a member pins its type
+ * structure and component, the cache must not keep them alive when memory
+ * runs low. A cleared resolution is resolved again.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public final class ReferenceResolutionCache {
+
+	/**
+	 * Maximum number of resolutions kept
+	 */
+	static final int DEFAULT_CACHE_SIZE = 50000;
+
+	/**
+	 * Marker for references that do not resolve
+	 */
+	static final Object UNRESOLVED = new Object();
+
+	private final BoundedConcurrentCache<String, Object> fResolutions;
+
+	/**
+	 * Constructor
+	 */
+	public ReferenceResolutionCache() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param size the maximum number of resolutions kept
+	 */
+	public ReferenceResolutionCache(int size) {
+		fResolutions = new BoundedConcurrentCache<>(size, null);
+	}
+
+	/**
+	 * Returns the cached resolution for the given key
+	 *
+	 * @param key the reference key
+	 * @return the resolved {@link IApiMember}, {@link #UNRESOLVED} or
+	 *         <code>null</code> if the reference has not been resolved yet or
+	 *         if its resolution has been cleared
+	 */
+	Object get(String key) {
+		Object value = fResolutions.get(key);
+		if (value instanceof SoftReference<?>) {
+			return ((SoftReference<?>) value).get();
+		}
+		return value;
+	}
+
+	/**
+	 * Records the resolution of the references with the given key
+	 *
+	 * @param key the reference key
+	 * @param resolved the resolved member or <code>null</code> if the
+	 *            reference did not resolve
+	 */
+	void put(String key, IApiMember resolved) {
+		fResolutions.put(key, resolved == null ? UNRESOLVED : new SoftReference<>(resolved));
+	}
+
+	/**
+	 * Removes all the cached resolutions
+	 */
+	public void flush() {
+		fResolutions.flush();
+	}
+
+	/**
+	 * @return the hit and miss counts of the cache
+	 */
+	public BoundedConcurrentCache.Statistics getStatistics() {
+		return fResolutions.getStatistics();
+	}
+}
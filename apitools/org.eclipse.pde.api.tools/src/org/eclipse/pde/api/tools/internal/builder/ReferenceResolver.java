@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,11 @@ import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
 
 /**
@@ -40,6 +43,12 @@ public final class ReferenceResolver {
 
 	/**
 	 * Resolves retained references.
+	 * <p>
+	 * References are grouped by referencing component and referenced type or
+	 * member, each group is resolved once. When the baseline of the
+	 * referencing component has a {@link ReferenceResolutionCache}, groups
+	 * already resolved by previous calls are served from it.
+	 * </p>
 	 *
 	 * @param references list of {@link IReference} to resolve
 	 * @param progress monitor
@@ -78,6 +87,12 @@ public final class ReferenceResolver {
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			if (!references.isEmpty()) {
+				ReferenceResolutionCache cache = getResolutionCache(references.get(0));
+				if (cache != null) {
+					System.out.println("Reference resolver: resolution cache " + cache.getStatistics()); //$NON-NLS-1$
+				}
+			}
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
@@ -97,11 +112,24 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something bad happens
 	 */
 	private static void resolveReferenceSets(Map<String, List<IReference>> map, IProgressMonitor monitor) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
+		Reference ref = null;
+		for (Map.Entry<String, List<IReference>> entry : map.entrySet()) {
+			List<IReference> refs = entry.getValue();
+			ref = (Reference) refs.get(0);
+			// a reference flagged as not resolvable says nothing about the
+			// other references with the same key
+			ReferenceResolutionCache cache = ref.getResolveStatus() ? getResolutionCache(ref) : null;
+			Object cached = cache != null ? cache.get(entry.getKey()) : null;
+			IApiMember resolved = null;
+			if (cached == null) {
+				ref.resolve();
+				resolved = ref.getResolvedReference();
+				if (cache != null) {
+					cache.put(entry.getKey(), resolved);
+				}
+			} else if (cached != ReferenceResolutionCache.UNRESOLVED) {
+				resolved = (IApiMember) cached;
+			}
 			if (resolved != null) {
 				for (IReference ref2 : refs) {
 					((Reference) ref2).setResolution(resolved);
@@ -110,12 +138,32 @@ public final class ReferenceResolver {
 		}
 	}
 
+	/**
+	 * Returns the resolution cache of the baseline of the component the given
+	 * reference comes from
+	 *
+	 * @param reference
+	 * @return the resolution cache or <code>null</code> if the baseline does
+	 *         not cache resolutions
+	 * @throws CoreException
+	 */
+	private static ReferenceResolutionCache getResolutionCache(IReference reference) throws CoreException {
+		IApiComponent component = reference.getMember().getApiComponent();
+		if (component != null) {
+			IApiBaseline baseline = component.getBaseline();
+			if (baseline instanceof ApiBaseline) {
+				return ((ApiBaseline) baseline).getReferenceResolutionCache();
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Creates a unique string key for a given reference. The key is of the form
 	 * "component X references type/member"
 	 *
 	 * <pre>
-	 * [component_id]#[type_name](#[member_name]#[member_signature])
+	 * [component_id]#[component_version]#[type_name](#[member_name]#[member_signature])
 	 * </pre>
 	 *
 	 * @param reference reference
@@ -123,7 +171,10 @@ public final class ReferenceResolver {
 	 */
 	private static String createSignatureKey(IReference reference) {
 		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
+		IApiComponent component = reference.getMember().getApiComponent();
+		buffer.append(component.getSymbolicName());
+		buffer.append("#"); //$NON-NLS-1$
+		buffer.append(component.getVersion());
 		buffer.append("#"); //$NON-NLS-1$
 		buffer.append(reference.getReferencedTypeName());
 		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2019 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -984,6 +984,34 @@ public class ClassFileComparator {
 		return new Delta();
 	}
 
+	/**
+	 * Returns the change(s) between the type descriptor and its equivalent in
+	 * the current baseline, reusing the delta computed by an earlier
+	 * comparison of the same types if it is available from the
+	 * {@link DeltaCache}.
+	 *
+	 * @return the changes in the type descriptor or <code>null</code>
+	 * @since 1.3.100
+	 */
+	public IDelta getCachedDelta(IProgressMonitor monitor) {
+		DeltaCache cache = DeltaCache.getDefault();
+		if (cache == null) {
+			return getDelta(monitor);
+		}
+		byte[] key = cache.computeKey(this.type1, this.type2, this.component, this.component2, this.apiBaseline1, this.apiBaseline2, this.visibilityModifiers);
+		if (key != null) {
+			IDelta cached = cache.get(key);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		IDelta result = getDelta(monitor);
+		if (key != null && result != null && isStatusOk()) {
+			cache.put(key, result);
+		}
+		return result;
+	}
+
 	/**
 	 * Returns the change(s) between the type descriptor and its equivalent in
 	 * the current baseline.
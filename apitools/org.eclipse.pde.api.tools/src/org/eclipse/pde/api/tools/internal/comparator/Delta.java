@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -330,6 +330,17 @@ public class Delta implements IDelta {
 		return this.typeName;
 	}
 
+	/**
+	 * Returns the arguments this delta was created with, unlike
+	 * {@link #getArguments()} this does not default to the type name
+	 *
+	 * @return the arguments or <code>null</code>
+	 * @since 1.3.100
+	 */
+	String[] getDatas() {
+		return this.datas;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -0,0 +1,552 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.comparator;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.ISaveParticipant;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.CRCVisitor;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Cache of the deltas computed by the {@link ClassFileComparator}, saved in
+ * the state location of the API tools plug-in so that unchanged types are not
+ * compared again by later builds or comparisons.
+ * <p>
+ * A delta is keyed by a digest of everything the comparison depends on, for
+ * both compared types:
+ * <ul>
+ * <li>the visibility modifiers of the comparison and the ids and versions of
+ * both components</li>
+ * <li>the CRC and length of the class file of the type, of its member types,
+ * of its super types and of the exceptions thrown by its methods, following
+ * the super types of all these types. The CRC is computed once for each type
+ * root and content stamp, see {@link AbstractApiTypeRoot#getContentCRC()}, so
+ * only these fixed size values are digested for each comparison.</li>
+ * <li>the API description of each of these types, as a {@link CRCVisitor} CRC
+ * and the resolved annotations of the type</li>
+ * </ul>
+ * Types of system library components are identified by their name and the
+ * version of the library rather than by their class files.
+ * </p>
+ * <p>
+ * The cache holds a bounded number of deltas, evicted in least recently used
+ * order. The bound can be set with the
+ * <code>org.eclipse.pde.api.tools.deltaCacheSize</code> system property, a
+ * size of <code>0</code> disables the cache.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public final class DeltaCache implements ISaveParticipant {
+
+	/**
+	 * System property setting the maximum number of cached deltas
+	 */
+	public static final String SIZE_PROPERTY = "org.eclipse.pde.api.tools.deltaCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * Default maximum number of cached deltas
+	 */
+	private static final int DEFAULT_SIZE = 20000;
+
+	/**
+	 * Name of the file the cache is saved to in the state location
+	 */
+	static final String CACHE_FILE_NAME = "api_delta_cache.dat"; //$NON-NLS-1$
+
+	/**
+	 * Kind written in the header of the cache file
+	 */
+	static final String KIND = "DELTA_CACHE"; //$NON-NLS-1$
+
+	/**
+	 * Version of the cache file format, also digested in every key so keys
+	 * computed differently by another version never match
+	 */
+	static final int VERSION = 2;
+
+	/**
+	 * Length of a key in bytes
+	 */
+	static final int KEY_LENGTH = 32;
+
+	/**
+	 * Marker of a cached {@link ApiComparator#NO_DELTA}
+	 */
+	private static final byte NO_DELTA = 0;
+
+	/**
+	 * Marker of a root delta, created without attributes
+	 */
+	private static final byte ROOT_DELTA = 1;
+
+	/**
+	 * Marker of a delta with attributes
+	 */
+	private static final byte DELTA = 2;
+
+	private static DeltaCache fgDefault = null;
+	private static boolean fgInitialized = false;
+
+	private final int fSize;
+	private final File fFile;
+	private final LinkedHashMap<ByteBuffer, byte[]> fEntries;
+	private boolean fModified = false;
+	private long fHits = 0;
+	private long fMisses = 0;
+
+	private DeltaCache(int size, File file) {
+		fSize = size;
+		fFile = file;
+		fEntries = new LinkedHashMap<>(Math.min(size, 1024), 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, byte[]> eldest) {
+				return size() > fSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the delta cache, restoring it from the state location the first
+	 * time.
+	 *
+	 * @return the delta cache or <code>null</code> if it is disabled
+	 */
+	public static synchronized DeltaCache getDefault() {
+		if (!fgInitialized) {
+			fgInitialized = true;
+			int size = Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE).intValue();
+			if (size > 0) {
+				File file = null;
+				if (ApiPlugin.isRunningInFramework()) {
+					file = ApiPlugin.getDefault().getStateLocation().append(CACHE_FILE_NAME).toFile();
+				}
+				fgDefault = new DeltaCache(size, file);
+				fgDefault.restore();
+				if (file != null) {
+					ApiPlugin.getDefault().addSaveParticipant(fgDefault);
+				}
+			}
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Saves the delta cache if it was modified and releases it
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			fgDefault.save();
+			if (fgDefault.fFile != null) {
+				ApiPlugin.getDefault().removeSaveParticipant(fgDefault);
+			}
+			if (ApiPlugin.DEBUG_API_COMPARATOR) {
+				System.out.println(fgDefault);
+			}
+			fgDefault = null;
+		}
+		fgInitialized = false;
+	}
+
+	/**
+	 * Computes the key of the comparison of the given types.
+	 *
+	 * @param type the first type
+	 * @param type2 the second type
+	 * @param component the component of the first type
+	 * @param component2 the component of the second type
+	 * @param baseline the baseline of the first type
+	 * @param baseline2 the baseline of the second type
+	 * @param visibilityModifiers the visibility modifiers of the comparison
+	 * @return the key or <code>null</code> if the comparison cannot be cached
+	 */
+	public byte[] computeKey(IApiType type, IApiType type2, IApiComponent component, IApiComponent component2, IApiBaseline baseline, IApiBaseline baseline2, int visibilityModifiers) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			update(digest, VERSION);
+			update(digest, visibilityModifiers);
+			update(digest, Util.getDeltaComponentVersionsId(component2));
+			update(digest, Util.getComponentVersionsId(component));
+			update(digest, component.hasApiDescription() ? 1 : 0);
+			if (!digestType(digest, type, component, baseline, new HashSet<>())) {
+				return null;
+			}
+			// separates the closures of the two types
+			update(digest, -1);
+			if (!digestType(digest, type2, component2, baseline2, new HashSet<>())) {
+				return null;
+			}
+			return digest.digest();
+		} catch (NoSuchAlgorithmException | CoreException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Digests the given type and the types it depends on
+	 *
+	 * @return <code>false</code> if the type cannot be digested
+	 */
+	private boolean digestType(MessageDigest digest, IApiType type, IApiComponent component, IApiBaseline baseline, Set<String> visited) throws CoreException {
+		if (type == null || !visited.add(type.getName())) {
+			return true;
+		}
+		update(digest, type.getName());
+		IApiComponent owner = type.getApiComponent();
+		if (owner == null) {
+			return false;
+		}
+		if (owner.isSystemComponent()) {
+			update(digest, Util.getComponentVersionsId(owner));
+			return true;
+		}
+		IApiTypeRoot root = type.getTypeRoot();
+		if (!(root instanceof AbstractApiTypeRoot)) {
+			return false;
+		}
+		update(digest, ((AbstractApiTypeRoot) root).getContentCRC());
+		IApiDescription description = owner.getApiDescription();
+		CRCVisitor visitor = new CRCVisitor();
+		description.accept(visitor, type.getHandle(), null);
+		update(digest, Long.toString(visitor.getValue()));
+		IApiAnnotations annotations = description.resolveAnnotations(type.getHandle());
+		if (annotations != null) {
+			update(digest, annotations.getVisibility());
+			update(digest, annotations.getRestrictions());
+		} else {
+			update(digest, -1);
+		}
+		for (IApiType member : type.getMemberTypes()) {
+			if (!digestType(digest, member, owner, baseline, visited)) {
+				return false;
+			}
+		}
+		if (!digestType(digest, type.getSuperclass(), owner, baseline, visited)) {
+			return false;
+		}
+		for (IApiType superinterface : type.getSuperInterfaces()) {
+			if (!digestType(digest, superinterface, owner, baseline, visited)) {
+				return false;
+			}
+		}
+		for (IApiMethod method : type.getMethods()) {
+			String[] exceptions = method.getExceptionNames();
+			if (exceptions == null) {
+				continue;
+			}
+			for (String exception : exceptions) {
+				if (visited.contains(exception)) {
+					continue;
+				}
+				// resolved the same way the comparator checks if an exception
+				// is checked
+				IApiTypeRoot exceptionRoot = baseline == null ? null : Util.getClassFile(baseline.resolvePackage(component, Signatures.getPackageName(exception)), exception);
+				if (exceptionRoot == null) {
+					visited.add(exception);
+					update(digest, exception);
+				} else if (!digestType(digest, exceptionRoot.getStructure(), component, baseline, visited)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void update(MessageDigest digest, int value) {
+		digest.update((byte) (value >>> 24));
+		digest.update((byte) (value >>> 16));
+		digest.update((byte) (value >>> 8));
+		digest.update((byte) value);
+	}
+
+	private static void update(MessageDigest digest, long value) {
+		update(digest, (int) (value >>> 32));
+		update(digest, (int) value);
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value == null) {
+			update(digest, -1);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			update(digest, bytes.length);
+			digest.update(bytes);
+		}
+	}
+
+	/**
+	 * Returns the cached delta for the given key
+	 *
+	 * @param key a key computed by {@link #computeKey}
+	 * @return the cached delta or <code>null</code> if none
+	 */
+	public IDelta get(byte[] key) {
+		byte[] encoded;
+		synchronized (this) {
+			encoded = fEntries.get(ByteBuffer.wrap(key));
+			if (encoded == null) {
+				fMisses++;
+				return null;
+			}
+			fHits++;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+			return readDelta(in);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Caches the given delta for the given key. Deltas that cannot be encoded
+	 * are ignored.
+	 *
+	 * @param key a key computed by {@link #computeKey}
+	 * @param delta the delta computed for the key
+	 */
+	public void put(byte[] key, IDelta delta) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			if (!writeDelta(out, delta)) {
+				return;
+			}
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			return;
+		}
+		synchronized (this) {
+			fEntries.put(ByteBuffer.wrap(key.clone()), bytes.toByteArray());
+			fModified = true;
+		}
+	}
+
+	/**
+	 * Writes the given delta and its children
+	 *
+	 * @return <code>false</code> if the delta cannot be encoded
+	 */
+	private static boolean writeDelta(DataOutputStream out, IDelta delta) throws IOException {
+		if (delta == ApiComparator.NO_DELTA) {
+			out.writeByte(NO_DELTA);
+			return true;
+		}
+		if (!(delta instanceof Delta)) {
+			return false;
+		}
+		Delta d = (Delta) delta;
+		if (d.getTypeName() == null) {
+			out.writeByte(ROOT_DELTA);
+		} else {
+			out.writeByte(DELTA);
+			writeString(out, d.getComponentVersionId());
+			out.writeInt(d.getElementType());
+			out.writeInt(d.getKind());
+			out.writeInt(d.getFlags());
+			out.writeInt(d.getCurrentRestrictions());
+			out.writeInt(d.getPreviousRestrictions());
+			out.writeInt(d.getOldModifiers());
+			out.writeInt(d.getNewModifiers());
+			writeString(out, d.getTypeName());
+			writeString(out, d.getKey());
+			String[] datas = d.getDatas();
+			if (datas == null) {
+				out.writeInt(-1);
+			} else {
+				out.writeInt(datas.length);
+				for (String data : datas) {
+					writeString(out, data);
+				}
+			}
+		}
+		IDelta[] children = d.getChildren();
+		out.writeInt(children.length);
+		for (IDelta child : children) {
+			if (!writeDelta(out, child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static IDelta readDelta(DataInputStream in) throws IOException {
+		byte marker = in.readByte();
+		if (marker == NO_DELTA) {
+			return ApiComparator.NO_DELTA;
+		}
+		Delta delta;
+		if (marker == ROOT_DELTA) {
+			delta = new Delta();
+		} else {
+			String componentId = readString(in);
+			int elementType = in.readInt();
+			int kind = in.readInt();
+			int flags = in.readInt();
+			int restrictions = in.readInt();
+			int previousRestrictions = in.readInt();
+			int oldModifiers = in.readInt();
+			int newModifiers = in.readInt();
+			String typeName = readString(in);
+			String key = readString(in);
+			int length = in.readInt();
+			String[] datas = null;
+			if (length >= 0) {
+				datas = new String[length];
+				for (int i = 0; i < length; i++) {
+					datas[i] = readString(in);
+				}
+			}
+			delta = new Delta(componentId, elementType, kind, flags, restrictions, previousRestrictions, oldModifiers, newModifiers, typeName, key, datas);
+		}
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			delta.add(readDelta(in));
+		}
+		return delta;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	/**
+	 * Restores the cache from its file, an invalid file is ignored
+	 */
+	private synchronized void restore() {
+		if (fFile == null || !fFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (!ApiPlugin.PLUGIN_ID.equals(in.readUTF()) || !KIND.equals(in.readUTF()) || in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				byte[] key = new byte[KEY_LENGTH];
+				in.readFully(key);
+				byte[] encoded = new byte[in.readInt()];
+				in.readFully(encoded);
+				fEntries.put(ByteBuffer.wrap(key), encoded);
+			}
+		} catch (IOException e) {
+			fEntries.clear();
+			if (ApiPlugin.DEBUG_API_COMPARATOR) {
+				System.out.println("Discarded invalid delta cache " + fFile + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * Saves the cache to its file if it was modified
+	 */
+	synchronized void save() {
+		if (fFile == null || !fModified) {
+			return;
+		}
+		try {
+			Util.atomicWrite(fFile, out -> {
+				out.writeUTF(ApiPlugin.PLUGIN_ID);
+				out.writeUTF(KIND);
+				out.writeInt(VERSION);
+				out.writeInt(fEntries.size());
+				for (Map.Entry<ByteBuffer, byte[]> entry : fEntries.entrySet()) {
+					out.write(entry.getKey().array());
+					out.writeInt(entry.getValue().length);
+					out.write(entry.getValue());
+				}
+			});
+			fModified = false;
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to save the delta cache", e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Removes all the cached deltas
+	 */
+	public synchronized void clear() {
+		fModified |= !fEntries.isEmpty();
+		fEntries.clear();
+	}
+
+	@Override
+	public void doneSaving(ISaveContext context) {
+		// nothing to do
+	}
+
+	@Override
+	public void prepareToSave(ISaveContext context) throws CoreException {
+		// nothing to do
+	}
+
+	@Override
+	public void rollback(ISaveContext context) {
+		// nothing to do
+	}
+
+	@Override
+	public void saving(ISaveContext context) throws CoreException {
+		if (context.getKind() != ISaveContext.PROJECT_SAVE) {
+			save();
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Delta cache [entries: ").append(fEntries.size()).append('/').append(fSize); //$NON-NLS-1$
+		buffer.append(", hits: ").append(fHits); //$NON-NLS-1$
+		buffer.append(", misses: ").append(fMisses).append(']'); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
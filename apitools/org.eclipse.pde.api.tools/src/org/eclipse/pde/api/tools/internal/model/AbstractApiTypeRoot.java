@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.pde.api.tools.internal.model;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.zip.CRC32;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -32,6 +33,16 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 
 	private IApiType fType;
 
+	/**
+	 * CRC and length of the contents, <code>-1</code> if not computed yet
+	 */
+	private long fContentCRC = -1L;
+
+	/**
+	 * Content stamp {@link #fContentCRC} was computed for
+	 */
+	private long fContentCRCStamp;
+
 	/**
 	 * Constructor
 	 *
@@ -44,6 +55,39 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 
 	public abstract byte[] getContents() throws CoreException;
 
+	/**
+	 * Returns a stamp of the contents of this type root that changes when the
+	 * contents change, used to discard parsed class files that are out of
+	 * date. Type roots whose contents never change return <code>0</code>.
+	 *
+	 * @return the stamp of the contents
+	 * @since 1.3.100
+	 */
+	public long getContentStamp() {
+		return 0L;
+	}
+
+	/**
+	 * Returns the CRC of the contents of this type root in the low 32 bits and
+	 * the length of the contents in the high 32 bits. The contents are only
+	 * read again once their {@link #getContentStamp() stamp} changed.
+	 *
+	 * @return the CRC and length of the contents
+	 * @throws CoreException if the contents cannot be read
+	 * @since 1.3.100
+	 */
+	public synchronized long getContentCRC() throws CoreException {
+		long stamp = getContentStamp();
+		if (fContentCRC == -1L || fContentCRCStamp != stamp) {
+			byte[] contents = getContents();
+			CRC32 crc = new CRC32();
+			crc.update(contents);
+			fContentCRC = ((long) contents.length << 32) | crc.getValue();
+			fContentCRCStamp = stamp;
+		}
+		return fContentCRC;
+	}
+
 	@Override
 	public IApiType getStructure() throws CoreException {
 		// if exists return
@@ -59,9 +103,22 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 			type = (IApiType) cache.getElementInfo(baseline.getName(), comp.getSymbolicName(), this.getTypeName(), IApiElement.TYPE);
 		}
 		if (type == null) {
-			type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			byte[] contents = getContents();
+			TypeStructureIndex index = null;
+			if (comp != null && comp.getBaseline() instanceof ApiBaseline) {
+				index = ((ApiBaseline) comp.getBaseline()).getTypeStructureIndex();
+			}
+			if (index != null) {
+				type = index.lookup(getTypeName(), contents, comp, this);
+			}
 			if (type == null) {
-				return null;
+				type = TypeStructureBuilder.buildTypeStructure(contents, getApiComponent(), this);
+				if (type == null) {
+					return null;
+				}
+				if (index != null) {
+					index.record(getTypeName(), contents, type);
+				}
 			}
 			Set<IApiComponent> apiComponentMultiple = Collections.emptySet();
 			if (comp != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.file.Files;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -52,16 +54,19 @@ import org.eclipse.jdt.launching.VMStandin;
 import org.eclipse.jdt.launching.environments.ExecutionEnvironmentDescription;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironmentsManager;
+import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.pde.api.tools.internal.AnyValue;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.CoreMessages;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolutionCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -138,7 +143,8 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 * <p>
 	 * Map of <code>componentId -> {@link IApiComponent}</code>
 	 * </p>
-	 * This map is not supposed to be modified except on creation / disposal.
+	 * This map is never modified once published: components are added or
+	 * replaced by publishing a modified copy, see {@link #fComponentsLock}.
 	 */
 	private volatile Map<String, IApiComponent> fComponentsById;
 	/**
@@ -154,6 +160,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 * This map is not supposed to be modified except on creation / disposal.
 	 */
 	private volatile Map<String, IApiComponent> fComponentsByProjectNames;
+	/**
+	 * Serializes the copies of the component mappings, readers do not lock
+	 */
+	private final Object fComponentsLock = new Object();
 	/**
 	 * Cache of system package names
 	 */
@@ -169,6 +179,35 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 	private volatile boolean restored;
 
+	/**
+	 * Location of the persisted type structure index of this baseline or
+	 * <code>null</code> if its type structures are not persisted
+	 */
+	private volatile File fTypeStructureIndexLocation;
+
+	/**
+	 * The type structure index, lazily opened from
+	 * {@link #fTypeStructureIndexLocation}
+	 */
+	private volatile TypeStructureIndex fTypeStructureIndex;
+
+	/**
+	 * Snapshots of bundles of this baseline to complete when this baseline is
+	 * disposed, see {@link BaselineSnapshot#update()}
+	 */
+	private final List<BaselineSnapshot> fSnapshots = new ArrayList<>(1);
+
+	/**
+	 * Reference resolutions made against this baseline, lazily created
+	 */
+	private volatile ReferenceResolutionCache fReferenceResolutionCache;
+
+	/**
+	 * Execution environments required by the components added so far, the
+	 * system library is only resolved again when this set grows
+	 */
+	private final Set<String> fRequiredEnvironments = new HashSet<>();
+
 	/**
 	 * Constructs a new API baseline with the given name.
 	 *
@@ -327,9 +366,12 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 		// clean up previous system library
 		if (!fSystemLibraryComponentList.isEmpty() && fComponentsById != null) {
-			for (IApiComponent comp : fSystemLibraryComponentList) {
-				fComponentsById.remove(comp.getSymbolicName());
-
+			synchronized (fComponentsLock) {
+				Map<String, IApiComponent> componentsById = new LinkedHashMap<>(fComponentsById);
+				for (IApiComponent comp : fSystemLibraryComponentList) {
+					componentsById.remove(comp.getSymbolicName());
+				}
+				fComponentsById = componentsById;
 			}
 		}
 		if (fSystemPackageNames != null) {
@@ -350,6 +392,41 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private void clearComponentsCache() {
 		fComponentsProvidingPackageCache.clear();
+		flushReferenceResolutionCache();
+	}
+
+	/**
+	 * Returns the cache of the reference resolutions made against this
+	 * baseline, creating it if needed
+	 *
+	 * @return the resolution cache or <code>null</code> if resolutions against
+	 *         this baseline must not be cached
+	 */
+	public ReferenceResolutionCache getReferenceResolutionCache() {
+		ReferenceResolutionCache cache = fReferenceResolutionCache;
+		if (cache == null && !isDisposed()) {
+			synchronized (this) {
+				if (fReferenceResolutionCache == null) {
+					fReferenceResolutionCache = new ReferenceResolutionCache();
+				}
+				cache = fReferenceResolutionCache;
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Flushes the cached reference resolutions, to be called whenever the
+	 * components or packages visible from a component may have changed
+	 */
+	protected void flushReferenceResolutionCache() {
+		ReferenceResolutionCache cache = fReferenceResolutionCache;
+		if (cache != null) {
+			if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
+				System.out.println("Flushing resolution cache of " + getName() + ": " + cache.getStatistics()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			cache.flush();
+		}
 	}
 
 	/**
@@ -358,50 +435,71 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 * @param component
 	 */
 	protected void addComponent(IApiComponent component) {
-		if (isDisposed() || component == null) {
-			return;
-		}
-		if (fComponentsById == null) {
-			fComponentsById = new LinkedHashMap<>();
-		}
-		if (fAllComponentsById == null) {
-			fAllComponentsById = new HashMap<>();
+		if (component != null) {
+			addComponents(Collections.singletonList(component));
 		}
+	}
 
-		IApiComponent comp = fComponentsById.get(component.getSymbolicName());
-
-		// if more than 1 components, store all of them
-		if (comp != null) {
-			if (fAllComponentsById.containsKey(component.getSymbolicName())) {
-				Set<IApiComponent> allComponents = fAllComponentsById.get(component.getSymbolicName());
-				if (!allComponents.contains(component)) {
-					allComponents.add(component);
-				}
-			} else {
-				TreeSet<IApiComponent> allComponents = new TreeSet<>(
-						(comp1, comp2) -> {
-					if (comp2.getVersion().equals(comp1.getVersion())) {
-						if (comp2.getVersion().contains("JavaSE")) { //$NON-NLS-1$
-							ApiPlugin.logInfoMessage("Multiple locations for the same Java = " //$NON-NLS-1$
-									+ comp1.getLocation() + comp2.getLocation());
+	/**
+	 * Adds the given components to the component mappings. The mappings are
+	 * copied and replaced rather than modified, so that concurrent readers
+	 * always see a consistent set of components.
+	 *
+	 * @param components the components to add
+	 */
+	private void addComponents(Collection<? extends IApiComponent> components) {
+		if (isDisposed() || components.isEmpty()) {
+			return;
+		}
+		synchronized (fComponentsLock) {
+			Map<String, IApiComponent> componentsById = fComponentsById == null ? new LinkedHashMap<>() : new LinkedHashMap<>(fComponentsById);
+			Map<String, Set<IApiComponent>> allComponentsById = fAllComponentsById == null ? new HashMap<>() : new HashMap<>(fAllComponentsById);
+			Map<String, IApiComponent> componentsByProjectNames = fComponentsByProjectNames;
+			boolean projectNamesCopied = false;
+			for (IApiComponent component : components) {
+				String id = component.getSymbolicName();
+				IApiComponent comp = componentsById.get(id);
+
+				// if more than 1 components, store all of them
+				if (comp != null) {
+					Set<IApiComponent> versions = allComponentsById.get(id);
+					if (versions != null) {
+						if (!versions.contains(component)) {
+							TreeSet<IApiComponent> allComponents = new TreeSet<>((SortedSet<IApiComponent>) versions);
+							allComponents.add(component);
+							allComponentsById.put(id, allComponents);
 						}
-						return 0;
+					} else {
+						TreeSet<IApiComponent> allComponents = new TreeSet<>(
+								(comp1, comp2) -> {
+							if (comp2.getVersion().equals(comp1.getVersion())) {
+								if (comp2.getVersion().contains("JavaSE")) { //$NON-NLS-1$
+									ApiPlugin.logInfoMessage("Multiple locations for the same Java = " //$NON-NLS-1$
+											+ comp1.getLocation() + comp2.getLocation());
+								}
+								return 0;
+							}
+							return new Version(comp2.getVersion()).compareTo(new Version(comp1.getVersion()));
+						});
+						allComponents.add(comp);
+						allComponents.add(component);
+						allComponentsById.put(id, allComponents);
 					}
-					return new Version(comp2.getVersion()).compareTo(new Version(comp1.getVersion()));
-				});
-				allComponents.add(comp);
-				allComponents.add(component);
-				fAllComponentsById.put(component.getSymbolicName(), allComponents);
-			}
-		}
+				}
 
-		fComponentsById.put(component.getSymbolicName(), component);
-		if (component instanceof ProjectComponent) {
-			ProjectComponent projectApiComponent = (ProjectComponent) component;
-			if (this.fComponentsByProjectNames == null) {
-				this.fComponentsByProjectNames = new HashMap<>();
+				componentsById.put(id, component);
+				if (component instanceof ProjectComponent) {
+					ProjectComponent projectApiComponent = (ProjectComponent) component;
+					if (!projectNamesCopied) {
+						componentsByProjectNames = componentsByProjectNames == null ? new HashMap<>() : new HashMap<>(componentsByProjectNames);
+						projectNamesCopied = true;
+					}
+					componentsByProjectNames.put(projectApiComponent.getJavaProject().getProject().getName(), component);
+				}
 			}
-			this.fComponentsByProjectNames.put(projectApiComponent.getJavaProject().getProject().getName(), component);
+			fComponentsById = componentsById;
+			fAllComponentsById = allComponentsById;
+			fComponentsByProjectNames = componentsByProjectNames;
 		}
 	}
 
@@ -411,6 +509,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			return;
 		}
 		HashSet<String> ees = new HashSet<>();
+		List<IApiComponent> bundles = new ArrayList<>(components.length);
 		for (IApiComponent apiComponent : components) {
 			BundleComponent component = (BundleComponent) apiComponent;
 			if (component.isSourceComponent()) {
@@ -418,11 +517,143 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			}
 			BundleDescription description = component.getBundleDescription();
 			getState().addBundle(description);
-			addComponent(component);
+			bundles.add(component);
 			ees.addAll(Arrays.asList(component.getExecutionEnvironments()));
 		}
+		addComponents(bundles);
+		fRequiredEnvironments.addAll(ees);
 		resolveSystemLibrary(ees);
 		getState().resolve();
+		flushReferenceResolutionCache();
+	}
+
+	/**
+	 * Replaces components of this baseline without rebuilding it: the removed
+	 * components are taken out of the state and disposed, the added ones are
+	 * put in, and the state is resolved incrementally. Only the package
+	 * resolutions that may be affected are dropped from the cache, that is the
+	 * ones for packages exported by a removed or added component and the ones
+	 * made from a component whose resolution changed.
+	 * <p>
+	 * A changed bundle is replaced by passing its current component as
+	 * removed and the new one as added.
+	 * </p>
+	 *
+	 * @param removed the components to remove from this baseline
+	 * @param added the components to add to this baseline
+	 * @throws CoreException if the state cannot be updated
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	public void updateApiComponents(IApiComponent[] removed, IApiComponent[] added) throws CoreException {
+		if (isDisposed() || (removed.length == 0 && added.length == 0)) {
+			return;
+		}
+		State state = getState();
+		Set<String> packages = new HashSet<>();
+		Set<IApiComponent> sources = new HashSet<>();
+		List<IApiComponent> disposable = new ArrayList<>(removed.length);
+		if (removed.length > 0 && fComponentsById != null) {
+			synchronized (fComponentsLock) {
+				Map<String, IApiComponent> componentsById = new LinkedHashMap<>(fComponentsById);
+				Map<String, Set<IApiComponent>> allComponentsById = new HashMap<>(fAllComponentsById);
+				Map<String, IApiComponent> componentsByProjectNames = fComponentsByProjectNames == null ? null : new HashMap<>(fComponentsByProjectNames);
+				for (IApiComponent apiComponent : removed) {
+					BundleComponent component = (BundleComponent) apiComponent;
+					String id = component.getSymbolicName();
+					IApiComponent current = componentsById.get(id);
+					Set<IApiComponent> versions = allComponentsById.get(id);
+					if (current != component && (versions == null || versions.stream().noneMatch(c -> c == component))) {
+						// not a component of this baseline
+						continue;
+					}
+					BundleDescription description = component.getBundleDescription();
+					if (description != null) {
+						collectExportedPackages(description, packages);
+						state.removeBundle(description);
+					}
+					if (versions != null) {
+						versions = new TreeSet<>((SortedSet<IApiComponent>) versions);
+						versions.remove(component);
+						if (versions.size() > 1) {
+							allComponentsById.put(id, versions);
+						} else {
+							allComponentsById.remove(id);
+						}
+					}
+					if (current == component) {
+						if (versions != null && !versions.isEmpty()) {
+							componentsById.put(id, versions.iterator().next());
+						} else {
+							componentsById.remove(id);
+						}
+					}
+					if (componentsByProjectNames != null && component instanceof ProjectComponent) {
+						componentsByProjectNames.remove(((ProjectComponent) component).getJavaProject().getProject().getName());
+					}
+					sources.add(component);
+					disposable.add(component);
+				}
+				fComponentsById = componentsById;
+				fAllComponentsById = allComponentsById;
+				fComponentsByProjectNames = componentsByProjectNames;
+			}
+		}
+		HashSet<String> ees = new HashSet<>();
+		List<IApiComponent> bundles = new ArrayList<>(added.length);
+		for (IApiComponent apiComponent : added) {
+			BundleComponent component = (BundleComponent) apiComponent;
+			if (component.isSourceComponent()) {
+				continue;
+			}
+			BundleDescription description = component.getBundleDescription();
+			state.addBundle(description);
+			bundles.add(component);
+			collectExportedPackages(description, packages);
+			ees.addAll(Arrays.asList(component.getExecutionEnvironments()));
+		}
+		addComponents(bundles);
+		if (fRequiredEnvironments.addAll(ees)) {
+			// clears all the package resolutions
+			resolveSystemLibrary(new HashSet<>(fRequiredEnvironments));
+		}
+		StateDelta delta = state.resolve(true);
+		Set<BundleDescription> changed = new HashSet<>();
+		for (BundleDelta bundleDelta : delta.getChanges()) {
+			changed.add(bundleDelta.getBundle());
+		}
+		for (String packageName : packages) {
+			fComponentsProvidingPackageCache.remove(packageName);
+		}
+		for (Map<IApiComponent, IApiComponent[]> componentsForPackage : fComponentsProvidingPackageCache.values()) {
+			componentsForPackage.keySet().removeIf(component -> sources.contains(component) || (component instanceof BundleComponent && changed.contains(((BundleComponent) component).getBundleDescription())));
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Updated baseline " + getName() + ": " + removed.length + " removed, " + added.length + " added, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ changed.size() + " re-resolved bundles, " + packages.size() + " invalidated packages"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		flushReferenceResolutionCache();
+		for (IApiComponent component : disposable) {
+			ApiModelCache.getCache().removeElementInfo(component);
+			component.dispose();
+		}
+	}
+
+	/**
+	 * Adds the names of the packages exported by the given bundle to the given
+	 * set
+	 *
+	 * @param description the bundle
+	 * @param packages the set to add the package names to
+	 */
+	private static void collectExportedPackages(BundleDescription description, Set<String> packages) {
+		for (ExportPackageDescription pkg : description.getExportPackages()) {
+			String pkgName = pkg.getName();
+			if (pkgName.equals(".")) { //$NON-NLS-1$
+				// translate . to default package
+				pkgName = Util.DEFAULT_PACKAGE_NAME;
+			}
+			packages.add(pkgName);
+		}
 	}
 
 	/**
@@ -817,6 +1048,75 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		return this.getName().hashCode();
 	}
 
+	/**
+	 * Sets the location used to persist the type structures of this baseline
+	 *
+	 * @param location the index file or <code>null</code> to not persist type
+	 *            structures
+	 */
+	public void setTypeStructureIndexLocation(File location) {
+		fTypeStructureIndexLocation = location;
+	}
+
+	/**
+	 * Returns the persistent index of the type structures of this baseline,
+	 * opening it if needed
+	 *
+	 * @return the index or <code>null</code> if type structures of this
+	 *         baseline are not persisted
+	 */
+	public TypeStructureIndex getTypeStructureIndex() {
+		TypeStructureIndex index = fTypeStructureIndex;
+		if (index == null && fTypeStructureIndexLocation != null) {
+			synchronized (this) {
+				if (fTypeStructureIndex == null && fTypeStructureIndexLocation != null) {
+					fTypeStructureIndex = new TypeStructureIndex(fTypeStructureIndexLocation);
+				}
+				index = fTypeStructureIndex;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Writes the type structures built since the last save to the persistent
+	 * index, if any
+	 */
+	public void saveTypeStructureIndex() {
+		TypeStructureIndex index = fTypeStructureIndex;
+		if (index != null) {
+			index.save();
+		}
+	}
+
+	/**
+	 * Deletes the persisted type structures of this baseline, if any
+	 */
+	public void deleteTypeStructureIndex() {
+		TypeStructureIndex index = fTypeStructureIndex;
+		if (index != null) {
+			index.delete();
+		} else if (fTypeStructureIndexLocation != null) {
+			try {
+				Files.deleteIfExists(fTypeStructureIndexLocation.toPath());
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Adds a snapshot of bundles of this baseline, completed with the API
+	 * descriptions created meanwhile when this baseline is disposed
+	 *
+	 * @param snapshot the snapshot
+	 */
+	void addSnapshot(BaselineSnapshot snapshot) {
+		synchronized (fSnapshots) {
+			fSnapshots.add(snapshot);
+		}
+	}
+
 	@Override
 	public void dispose() {
 		if (fState == null) {
@@ -844,7 +1144,20 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			components = getAlreadyLoadedApiComponents();
 			disposed = true;
 		}
+		List<BaselineSnapshot> snapshots;
+		synchronized (fSnapshots) {
+			snapshots = new ArrayList<>(fSnapshots);
+			fSnapshots.clear();
+		}
+		for (BaselineSnapshot snapshot : snapshots) {
+			snapshot.update();
+		}
 		clearCachedElements();
+		TypeStructureIndex index = fTypeStructureIndex;
+		if (index != null) {
+			// release the mapped index file so that it can be deleted
+			index.close();
+		}
 		if (ApiPlugin.isRunningInFramework()) {
 			JavaRuntime.removeVMInstallChangedListener(this);
 		}
@@ -852,16 +1165,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			component2.dispose();
 		}
 		clearComponentsCache();
-		if (fComponentsById != null) {
-			fComponentsById.clear();
+		// the published mappings may still be read, drop them without clearing
+		synchronized (fComponentsLock) {
 			fComponentsById = null;
-		}
-		if (fAllComponentsById != null) {
-			fAllComponentsById.clear();
 			fAllComponentsById = null;
-		}
-		if (fComponentsByProjectNames != null) {
-			fComponentsByProjectNames.clear();
 			fComponentsByProjectNames = null;
 		}
 		if (fSystemPackageNames != null) {
@@ -894,6 +1201,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	void clearCachedElements() {
 		ApiModelCache.getCache().removeElementInfo(this);
+		flushReferenceResolutionCache();
 	}
 
 	/**
@@ -947,6 +1255,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	public void clearPackage(String packageName) {
 		fComponentsProvidingPackageCache.remove(packageName);
+		flushReferenceResolutionCache();
 	}
 
 	@Override
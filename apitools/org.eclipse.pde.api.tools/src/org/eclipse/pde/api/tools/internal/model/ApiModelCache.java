@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,7 @@ package org.eclipse.pde.api.tools.internal.model;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.BoundedConcurrentCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -31,38 +30,49 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * Cache used for {@link IApiElement}s. Lookups do not lock, so the
+	 * builder, the comparator and the search engine can share the cache from
+	 * several threads without serializing on it.
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	static class Cache<K, V> extends BoundedConcurrentCache<K, V> {
 
 		/**
 		 * Constructor
 		 *
 		 * @param size
-		 * @param overflow
+		 * @param statistics
 		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
+		public Cache(int size, Statistics statistics) {
+			super(size, statistics);
 		}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
-		}
-
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+		/**
+		 * Constructor
+		 *
+		 * @param size
+		 * @param statistics
+		 * @param admission
+		 */
+		public Cache(int size, Statistics statistics, boolean admission) {
+			super(size, statistics, admission);
 		}
-
 	}
 
 	static final int DEFAULT_CACHE_SIZE = 1000;
 	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	/**
+	 * Hit, miss and eviction counts of all the type caches, traced when the
+	 * caches are flushed
+	 */
+	final BoundedConcurrentCache.Statistics fStatistics = new BoundedConcurrentCache.Statistics();
+	/**
+	 * Caches of caches do not filter admissions, a nested cache that is
+	 * created to be filled must be kept
+	 */
+	final Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache = new Cache<>((DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW) / 150, null, false);
+	final Cache<String, Cache<String, ApiType>> fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW, null, false);
 
 	/**
 	 * Constructor - no instantiation
@@ -109,9 +119,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -119,16 +126,8 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.computeIfAbsent(baseline.getName(), k -> new Cache<>((DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW) / 2, null, false));
+					Cache<String, IApiElement> typecache = compcache.computeIfAbsent(id, k -> new Cache<>(DEFAULT_CACHE_SIZE * 2 + DEFAULT_OVERFLOW, fStatistics));
 					ApiType type = (ApiType) element;
 					if (type.isMemberType() || isMemberType(type.getName()) /*
 																			 * cache
@@ -146,15 +145,8 @@ public final class ApiModelCache {
 																			 * as
 																			 * well
 																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
 						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.computeIfAbsent(key, k -> new Cache<>(DEFAULT_CACHE_SIZE + DEFAULT_OVERFLOW, fStatistics));
 						mcache.put(type.getName(), type);
 					} else {
 						typecache.put(element.getName(), element);
@@ -214,25 +206,21 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
+					Cache<String, ApiType> mcache = this.fMemberTypeCache
+							.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (mcache != null) {
+						return mcache.get(identifier);
 					}
 				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.get(componentid);
+						if (typecache != null && identifier != null) {
+							IApiElement ele = typecache.get(identifier);
+							if (ele != null) {
+								return ele;
 							}
+
 						}
 					}
 				}
@@ -241,7 +229,7 @@ public final class ApiModelCache {
 			default:
 				break;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		if (componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
 			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
@@ -292,41 +280,35 @@ public final class ApiModelCache {
 				if (componentid != null && identifier != null) {
 					boolean removed = true;
 					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (isMemberType(identifier)) {
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
+						if (mcache != null) {
+							return mcache.remove(identifier) != null;
 						}
+					} else {
+						this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
 					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.get(componentid);
+						if (typecache != null) {
+							removed &= typecache.remove(identifier) != null;
+							if (typecache.isEmpty()) {
+								removed &= compcache.remove(componentid) != null;
 							}
-
+							if (compcache.isEmpty()) {
+								removed &= fRootCache.remove(baselineid) != null;
+							}
+							return removed;
 						}
-					} else {
-						return false;
+
 					}
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
 				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
+				if (componentid != null) {
 					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
 					if (compcache != null) {
 						boolean removed = compcache.remove(componentid) != null;
@@ -340,10 +322,8 @@ public final class ApiModelCache {
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				traceStatistics(baselineid);
+				return fRootCache.remove(baselineid) != null;
 			}
 			default:
 				break;
@@ -368,26 +348,22 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				traceStatistics(baseline.getName());
+				return fRootCache.remove(baseline.getName()) != null;
 			}
 			default:
 				break;
@@ -399,9 +375,8 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
+		traceStatistics(null);
+		fRootCache.flush();
 		flushMemberCache();
 	}
 
@@ -409,8 +384,31 @@ public final class ApiModelCache {
 	 * Flushes the cache of member types
 	 */
 	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
+		this.fMemberTypeCache.flush();
+	}
+
+	/**
+	 * Returns the hit, miss and eviction counts of the type caches since the
+	 * creation of this cache or the last {@link BoundedConcurrentCache.Statistics#reset()}
+	 *
+	 * @return the statistics of the type caches
+	 */
+	public BoundedConcurrentCache.Statistics getStatistics() {
+		return fStatistics;
+	}
+
+	/**
+	 * Prints the statistics of the type caches if tracing is enabled
+	 *
+	 * @param baselineid the id of the baseline being removed or
+	 *            <code>null</code> if all caches are flushed
+	 */
+	private void traceStatistics(String baselineid) {
+		if (ApiPlugin.DEBUG_MODEL_CACHE) {
+			StringBuilder buffer = new StringBuilder("API model cache "); //$NON-NLS-1$
+			buffer.append(baselineid == null ? "flushed" : "removing baseline " + baselineid); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append(" - ").append(fStatistics); //$NON-NLS-1$
+			System.out.println(buffer.toString());
 		}
 	}
 
@@ -420,13 +418,6 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
-		}
-		return empty;
+		return fRootCache.isEmpty() && this.fMemberTypeCache.isEmpty();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,10 @@ package org.eclipse.pde.api.tools.internal.model;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -70,7 +73,7 @@ public class ApiModelFactory {
 	/**
 	 * @return a viable int id for a bundle
 	 */
-	private static long getBundleID() {
+	static long getBundleID() {
 		return fNextId++;
 	}
 
@@ -245,64 +248,141 @@ public class ApiModelFactory {
 	 */
 	public static IApiComponent[] addComponents(IApiBaseline baseline, String installLocation, IProgressMonitor monitor) throws CoreException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.configuring_baseline, 50);
-		IApiComponent[] result = null;
 		try {
-			// Acquire the service
-			ITargetPlatformService service = null;
-			ApiPlugin plugin = ApiPlugin.getDefault();
-			if (plugin != null) {
-				service = ApiPlugin.getDefault().acquireService(ITargetPlatformService.class);
-				subMonitor.split(1);
-				ITargetLocation container = service.newProfileLocation(installLocation, null);
-				ITargetDefinition definition = service.newTarget();
-				subMonitor.subTask(Messages.resolving_target_definition);
-				container.resolve(definition, subMonitor.split(30));
+			List<String> locations = getBundleLocations(installLocation, subMonitor);
+			if (locations == null) {
+				return NO_COMPONENTS;
+			}
+			List<IApiComponent> components = new ArrayList<>();
+			subMonitor.setWorkRemaining(locations.size());
+			for (String location : locations) {
 				subMonitor.split(1);
-				TargetBundle[] bundles = container.getBundles();
-				List<IApiComponent> components = new ArrayList<>();
-				if (bundles.length > 0) {
-					subMonitor.setWorkRemaining(bundles.length);
-					for (TargetBundle bundle : bundles) {
-						subMonitor.split(1);
-						if (!bundle.isSourceBundle()) {
-							IApiComponent component = ApiModelFactory.newApiComponent(baseline, URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
-							if (component != null) {
-								subMonitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
-								components.add(component);
-							}
-						}
-					}
-				}
-				result = components.toArray(new IApiComponent[components.size()]);
-			} else {
-				// The target platform service is unavailable (OSGi isn't
-				// running), add components by searching the plug-ins directory
-				File dir = new File(installLocation);
-				if (dir.exists()) {
-					File[] files = dir.listFiles();
-					if (files == null) {
-						return NO_COMPONENTS;
-					}
-					List<IApiComponent> components = new ArrayList<>();
-					for (File bundle : files) {
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, bundle.getAbsolutePath());
-						if (component != null) {
-							components.add(component);
-						}
-					}
-					result = components.toArray(new IApiComponent[components.size()]);
+				IApiComponent component = ApiModelFactory.newApiComponent(baseline, location);
+				if (component != null) {
+					subMonitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
+					components.add(component);
 				}
 			}
-			if (result != null) {
-				baseline.addApiComponents(result);
-				return result;
-			}
-			return NO_COMPONENTS;
+			IApiComponent[] result = components.toArray(new IApiComponent[components.size()]);
+			baseline.addApiComponents(result);
+			return result;
+		} finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Brings the components of the given baseline up to date with the plug-ins
+	 * currently found in the given install location, without rebuilding the
+	 * baseline. Components whose bundle has not changed since they were
+	 * created are kept, new and changed bundles get new components and the
+	 * components of the bundles that are gone are removed.
+	 *
+	 * @param baseline the baseline to refresh
+	 * @param installLocation location of an installation that components are
+	 *            collected from
+	 * @param monitor progress monitor or <code>null</code>, the caller is
+	 *            responsible for calling {@link IProgressMonitor#done()}
+	 * @return the components that were added to the baseline, possibly empty,
+	 *         never <code>null</code>
+	 * @throws CoreException If problems occur getting components or modifying
+	 *             the baseline
+	 * @see BundleComponent#hasChangedOnDisk()
+	 */
+	public static IApiComponent[] refreshComponents(IApiBaseline baseline, String installLocation, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.configuring_baseline, 50);
+		try {
+			List<String> locations = getBundleLocations(installLocation, subMonitor);
+			return refreshComponents((ApiBaseline) baseline, locations == null ? Collections.emptyList() : locations, subMonitor);
 		} finally {
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * Returns the locations of the plug-ins of the given install location,
+	 * resolving it with the target platform service when OSGi is running or
+	 * listing its files otherwise.
+	 *
+	 * @param installLocation location of an installation
+	 * @param subMonitor progress monitor
+	 * @return the plug-in locations or <code>null</code> if the install
+	 *         location does not exist
+	 */
+	static List<String> getBundleLocations(String installLocation, SubMonitor subMonitor) throws CoreException {
+		List<String> locations = new ArrayList<>();
+		ApiPlugin plugin = ApiPlugin.getDefault();
+		if (plugin != null) {
+			// Acquire the service
+			ITargetPlatformService service = ApiPlugin.getDefault().acquireService(ITargetPlatformService.class);
+			subMonitor.split(1);
+			ITargetLocation container = service.newProfileLocation(installLocation, null);
+			ITargetDefinition definition = service.newTarget();
+			subMonitor.subTask(Messages.resolving_target_definition);
+			container.resolve(definition, subMonitor.split(30));
+			subMonitor.split(1);
+			for (TargetBundle bundle : container.getBundles()) {
+				if (!bundle.isSourceBundle()) {
+					locations.add(URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
+				}
+			}
+		} else {
+			// The target platform service is unavailable (OSGi isn't
+			// running), add components by searching the plug-ins directory
+			File dir = new File(installLocation);
+			File[] files = dir.exists() ? dir.listFiles() : null;
+			if (files == null) {
+				return null;
+			}
+			for (File bundle : files) {
+				locations.add(bundle.getAbsolutePath());
+			}
+		}
+		return locations;
+	}
+
+	/**
+	 * Replaces the components of the given baseline with the ones at the given
+	 * locations, keeping the components whose bundle is unchanged
+	 *
+	 * @param baseline the baseline to refresh
+	 * @param locations the locations of all the bundles of the baseline
+	 * @param subMonitor progress monitor
+	 * @return the components that were added to the baseline
+	 * @throws CoreException if the baseline cannot be updated
+	 */
+	private static IApiComponent[] refreshComponents(ApiBaseline baseline, List<String> locations, SubMonitor subMonitor) throws CoreException {
+		Map<String, IApiComponent> current = new HashMap<>();
+		for (IApiComponent component : baseline.getApiComponents()) {
+			if (component instanceof BundleComponent && !(component instanceof ProjectComponent)) {
+				current.put(component.getLocation(), component);
+			}
+		}
+		List<IApiComponent> removed = new ArrayList<>();
+		List<IApiComponent> added = new ArrayList<>();
+		subMonitor.setWorkRemaining(locations.size() + 1);
+		for (String location : locations) {
+			subMonitor.split(1);
+			IApiComponent existing = current.remove(location);
+			if (existing != null && !((BundleComponent) existing).hasChangedOnDisk()) {
+				continue;
+			}
+			IApiComponent component = ApiModelFactory.newApiComponent(baseline, location);
+			if (existing != null) {
+				removed.add(existing);
+			}
+			if (component != null) {
+				subMonitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
+				added.add(component);
+			}
+		}
+		removed.addAll(current.values());
+		IApiComponent[] result = added.toArray(new IApiComponent[added.size()]);
+		baseline.updateApiComponents(removed.toArray(new IApiComponent[removed.size()]), result);
+		subMonitor.split(1);
+		return result;
+	}
+
 	public static IApiBaseline newApiBaselineFromTarget(String name, ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
 		IApiBaseline baseline = new ApiBaseline(name);
 
@@ -336,6 +416,46 @@ public class ApiModelFactory {
 		}
 	}
 
+	/**
+	 * Brings the components of the given baseline up to date with the bundles
+	 * of the given target definition, without rebuilding the baseline. Only
+	 * the components of the bundles that were added, removed or changed since
+	 * the baseline was created are replaced. The definition is only resolved
+	 * if it is not resolved already.
+	 *
+	 * @param baseline the baseline to refresh, derived from the definition
+	 * @param definition the target definition
+	 * @param monitor progress monitor or <code>null</code>
+	 * @return the components that were added to the baseline, possibly empty,
+	 *         never <code>null</code>
+	 * @throws CoreException if the definition cannot be resolved or the
+	 *             baseline cannot be updated
+	 * @see #isDerivedFromTarget(IApiBaseline, ITargetDefinition)
+	 */
+	public static IApiComponent[] refreshBaselineFromTarget(IApiBaseline baseline, ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.configuring_baseline, 50);
+		try {
+			if (!definition.isResolved()) {
+				IStatus result = definition.resolve(subMonitor.split(30));
+				if (!result.isOK()) {
+					throw new CoreException(result);
+				}
+			}
+			subMonitor.split(1);
+			List<String> locations = new ArrayList<>();
+			for (TargetBundle bundle : definition.getBundles()) {
+				if (!bundle.isSourceBundle()) {
+					locations.add(URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
+				}
+			}
+			IApiComponent[] added = refreshComponents((ApiBaseline) baseline, locations, subMonitor);
+			baseline.setLocation(generateTargetLocation(definition));
+			return added;
+		} finally {
+			subMonitor.done();
+		}
+	}
+
 	/**
 	 * Create predictable location description for a target definition. Form is
 	 * <code>target:/targetSeq/definitionLocation</code>. A location must be
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
 
 /**
  * Base implementation of {@link IApiType}
@@ -58,6 +59,7 @@ public class ApiType extends ApiMember implements IApiType {
 	private static final IApiMethod[] EMPTY_METHODS = new IApiMethod[0];
 	private static final IApiField[] EMPTY_FIELDS = new IApiField[0];
 	private static final IApiType[] EMPTY_TYPES = new IApiType[0];
+	private static final String[] EMPTY_NAMES = new String[0];
 
 	/*
 	 * Use to tag fEnclosingMethodName and fEnclosingMethodSignature when there
@@ -158,8 +160,13 @@ public class ApiType extends ApiMember implements IApiType {
 	public List<IReference> extractReferences(int referenceMask, IProgressMonitor monitor) throws CoreException {
 		HashSet<Reference> references = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(this, references, referenceMask);
-		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getContents());
-		reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		ClassNode node = ClassFileCache.getClassNode(fStorage);
+		if (node != null) {
+			ClassFileCache.accept(node, extractor);
+		} else {
+			ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getContents());
+			reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		}
 		return new LinkedList<>(references);
 	}
 
@@ -628,6 +635,41 @@ public class ApiType extends ApiMember implements IApiType {
 		return name;
 	}
 
+	/**
+	 * @return the name of the enclosing type as found in the class file or
+	 *         <code>null</code> if none
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
+	/**
+	 * @return the name of the enclosing method as read from the class file,
+	 *         <code>null</code> if it has not been set
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName;
+	}
+
+	/**
+	 * @return the signature of the enclosing method as read from the class
+	 *         file, <code>null</code> if it has not been set
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature;
+	}
+
+	/**
+	 * @return the simple names of the member types of this type, never
+	 *         <code>null</code>
+	 */
+	String[] getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return EMPTY_NAMES;
+		}
+		return fMemberTypes.keySet().toArray(new String[fMemberTypes.size()]);
+	}
+
 	@Override
 	public IApiType getEnclosingType() throws CoreException {
 		if (fEnclosingType != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,14 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private static final Map<Path, FileSystem> JRTS = new ConcurrentHashMap<>();
 
+	/**
+	 * Whether plain archives are read through a {@link MappedArchive} rather
+	 * than the zip file system, <code>true</code> unless the
+	 * <code>org.eclipse.pde.api.tools.mappedArchives</code> system property is
+	 * set to <code>false</code>.
+	 */
+	private static final boolean MAPPED_ACCESS = Boolean.parseBoolean(System.getProperty("org.eclipse.pde.api.tools.mappedArchives", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/**
 	 * {@link IApiTypeRoot} implementation within an archive
 	 */
@@ -100,9 +108,21 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				MappedArchive mapped = archive.getMappedArchive();
+				if (mapped != null) {
+					byte[] contents = mapped.getContents(getName());
+					if (contents == null) {
+						// closed concurrently, the archive is mapped again
+						mapped = archive.getMappedArchive();
+						contents = mapped == null ? null : mapped.getContents(getName());
+					}
+					fContents = contents;
+				}
+				if (fContents == null) {
+					Path location = archive.getLocation();
+					Path classLocation = location.resolve(getName());
+					fContents = Files.readAllBytes(classLocation);
+				}
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
 			}
@@ -131,6 +151,17 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * The mapped archive, or <code>null</code> if not yet opened or if
+	 * {@link #fMappingUnsupported}.
+	 */
+	private volatile MappedArchive fMappedArchive;
+
+	/**
+	 * Whether this archive has to be read through the zip file system
+	 */
+	private volatile boolean fMappingUnsupported = !MAPPED_ACCESS;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -172,6 +203,34 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		}
 	}
 
+	/**
+	 * Returns the memory mapped view of this archive, opening it on first use.
+	 *
+	 * @return the mapped archive or <code>null</code> if this archive must be
+	 *         read through the zip file system
+	 */
+	MappedArchive getMappedArchive() {
+		MappedArchive archive = fMappedArchive;
+		if (archive != null || fMappingUnsupported) {
+			return archive;
+		}
+		synchronized (this) {
+			if (fMappedArchive == null && !fMappingUnsupported) {
+				if (fLocation.endsWith("jrt-fs.jar")) { //$NON-NLS-1$
+					fMappingUnsupported = true;
+				} else {
+					try {
+						fMappedArchive = MappedArchive.open(Path.of(fLocation));
+					} catch (IOException e) {
+						// let the zip file system report the problem
+					}
+					fMappingUnsupported = fMappedArchive == null;
+				}
+			}
+			return fMappedArchive;
+		}
+	}
+
 	/**
 	 * @see org.eclipse.pde.api.tools.internal.AbstractApiTypeContainer#accept(org.eclipse.pde.api.tools.internal.provisional.ApiTypeContainerVisitor)
 	 */
@@ -210,7 +269,13 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		// release the mapping so that the archive is not kept locked, it is
+		// reopened on demand
+		MappedArchive archive = fMappedArchive;
+		fMappedArchive = null;
+		if (archive != null) {
+			archive.close();
+		}
 	}
 
 	/**
@@ -252,6 +317,15 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
 			fPackages = new TreeMap<>();
+			MappedArchive mapped = getMappedArchive();
+			if (mapped != null) {
+				for (String name : mapped.getEntryNames()) {
+					if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+						addClassFile(name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.'), name);
+					}
+				}
+				return;
+			}
 			try {
 				Path location = getLocation();
 				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
@@ -263,9 +337,7 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 							// which we must strip.
 							String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
 									name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
-							String pkg = Signatures.getPackageName(className);
-							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
-							fileNames.put(className, name);
+							addClassFile(className, name);
 						}
 					});
 				}
@@ -275,6 +347,18 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		}
 	}
 
+	/**
+	 * Adds the given class file to the cache of packages and types
+	 *
+	 * @param className the qualified name of the type
+	 * @param name the path of the class file in the archive
+	 */
+	private void addClassFile(String className, String name) {
+		String pkg = Signatures.getPackageName(className);
+		Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
+		fileNames.put(className, name);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof ArchiveApiTypeContainer) {
@@ -0,0 +1,527 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Snapshot of the bundles of a baseline saved on disk, so that the headless
+ * and Ant entry points of API tools loading the same baseline one after the
+ * other do not read all its bundles again.
+ * <p>
+ * For every bundle archive of the baseline, the snapshot holds the manifest,
+ * the names of the packages and the contents of the .api_description file,
+ * which are otherwise read from the archive to create the component and its
+ * API description. The package names and .api_description file are only
+ * added once the API description of the bundle has been created, they are
+ * not read for bundles whose API description is never used. An entry is
+ * only used if the archive still has the last modification time and length it
+ * had when the entry was saved. Bundle directories are always read from disk.
+ * The list of bundles of an install location is reused as long as the install
+ * location, its <code>plugins</code> and <code>dropins</code> directories and
+ * its <code>bundles.info</code> file are unchanged.
+ * </p>
+ * <p>
+ * Snapshots are saved in the directory given by the
+ * <code>org.eclipse.pde.api.tools.baselineSnapshots</code> system property,
+ * they are not used if the property is not set.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public final class BaselineSnapshot {
+
+	/**
+	 * System property setting the directory the snapshots are saved in
+	 */
+	public static final String DIRECTORY_PROPERTY = "org.eclipse.pde.api.tools.baselineSnapshots"; //$NON-NLS-1$
+
+	/**
+	 * Kind written in the header of snapshot files
+	 */
+	static final String KIND = "BASELINE_SNAPSHOT"; //$NON-NLS-1$
+
+	/**
+	 * Version of the snapshot file format
+	 */
+	static final int VERSION = 2;
+
+	/**
+	 * Files and directories of an install location that change when bundles
+	 * are added to or removed from it
+	 */
+	private static final String[] INSTALL_STAMPS = new String[] {
+			"", //$NON-NLS-1$
+			"plugins", //$NON-NLS-1$
+			"dropins", //$NON-NLS-1$
+			"configuration/org.eclipse.equinox.simpleconfigurator/bundles.info" //$NON-NLS-1$
+	};
+
+	/**
+	 * The contents of a bundle archive saved in a snapshot
+	 */
+	static final class Entry {
+		final long timestamp;
+		final long length;
+		/**
+		 * <code>null</code> if the archive is not a bundle
+		 */
+		final Map<String, String> manifest;
+		/**
+		 * <code>null</code> if the API description of the bundle was not
+		 * created yet, the package names and .api_description file are then
+		 * read from the archive
+		 */
+		final Set<String> packages;
+		final String apiDescription;
+
+		Entry(long timestamp, long length, Map<String, String> manifest, Set<String> packages, String apiDescription) {
+			this.timestamp = timestamp;
+			this.length = length;
+			this.manifest = manifest;
+			this.packages = packages;
+			this.apiDescription = apiDescription;
+		}
+
+		/**
+		 * Returns if the archive at the given location is unchanged
+		 */
+		boolean isValid(File file) {
+			return file.isFile() && file.lastModified() == timestamp && file.length() == length;
+		}
+	}
+
+	private final String fKey;
+	private final long[] fStamps;
+	private final List<String> fLocations;
+	private final Map<String, Entry> fEntries = new LinkedHashMap<>();
+
+	/**
+	 * Components of the bundles whose package names and .api_description
+	 * file are not in this snapshot yet, by location
+	 */
+	private final Map<String, BundleComponent> fPending = new HashMap<>();
+
+	/**
+	 * Directory this snapshot is saved in, <code>null</code> until saved
+	 */
+	private File fDirectory;
+
+	private BaselineSnapshot(String key, long[] stamps, List<String> locations) {
+		fKey = key;
+		fStamps = stamps;
+		fLocations = locations;
+	}
+
+	/**
+	 * Returns the directory snapshots are saved in
+	 *
+	 * @return the directory or <code>null</code> if snapshots are disabled
+	 */
+	static File getSnapshotDirectory() {
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+		if (directory == null || directory.isEmpty()) {
+			return null;
+		}
+		return new File(directory);
+	}
+
+	/**
+	 * Adds the components of the bundles of the given install location to the
+	 * given baseline, like
+	 * {@link ApiModelFactory#addComponents(IApiBaseline, String, IProgressMonitor)}
+	 * but restoring the bundles from the snapshot of the install location when
+	 * they are unchanged and saving the snapshot afterwards.
+	 *
+	 * @param baseline the baseline to add the components to
+	 * @param installLocation location of an installation that components are
+	 *            collected from
+	 * @param monitor progress monitor or <code>null</code>, the caller is
+	 *            responsible for calling {@link IProgressMonitor#done()}
+	 * @return the components that were added to the baseline, possibly empty,
+	 *         never <code>null</code>
+	 * @throws CoreException If problems occur getting components or modifying
+	 *             the baseline
+	 */
+	public static IApiComponent[] addComponents(IApiBaseline baseline, String installLocation, IProgressMonitor monitor) throws CoreException {
+		File directory = getSnapshotDirectory();
+		if (directory == null) {
+			return ApiModelFactory.addComponents(baseline, installLocation, monitor);
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.configuring_baseline, 50);
+		try {
+			File install = new File(installLocation).getAbsoluteFile();
+			String key = "install:" + install.getPath(); //$NON-NLS-1$
+			long[] stamps = new long[INSTALL_STAMPS.length];
+			for (int i = 0; i < stamps.length; i++) {
+				stamps[i] = new File(install, INSTALL_STAMPS[i]).lastModified();
+			}
+			BaselineSnapshot snapshot = read(directory, key);
+			List<String> locations;
+			if (snapshot != null && snapshot.fLocations != null && Arrays.equals(snapshot.fStamps, stamps)) {
+				locations = snapshot.fLocations;
+			} else {
+				locations = ApiModelFactory.getBundleLocations(installLocation, subMonitor);
+				if (locations == null) {
+					return ApiModelFactory.NO_COMPONENTS;
+				}
+			}
+			return addComponents(baseline, directory, snapshot, new BaselineSnapshot(key, stamps, locations), locations, null, subMonitor);
+		} finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Adds the components of the bundles at the given locations to the given
+	 * baseline, restoring the bundles from the snapshot with the given name
+	 * when they are unchanged and saving the snapshot afterwards.
+	 *
+	 * @param baseline the baseline to add the components to
+	 * @param name the name of the snapshot, for example the location of the
+	 *            file listing the bundles
+	 * @param locations the locations of the bundles
+	 * @param monitor progress monitor or <code>null</code>, the caller is
+	 *            responsible for calling {@link IProgressMonitor#done()}
+	 * @return the components that were added to the baseline, possibly empty,
+	 *         never <code>null</code>
+	 * @throws CoreException If problems occur getting components or modifying
+	 *             the baseline
+	 */
+	public static IApiComponent[] addComponents(IApiBaseline baseline, String name, List<String> locations, IProgressMonitor monitor) throws CoreException {
+		return addComponents(baseline, name, locations, null, monitor);
+	}
+
+	/**
+	 * Adds the components of the bundles at the given locations to the given
+	 * baseline with the given bundle ids, restoring the bundles from the
+	 * snapshot with the given name when they are unchanged and saving the
+	 * snapshot afterwards.
+	 *
+	 * @param baseline the baseline to add the components to
+	 * @param name the name of the snapshot, for example the location of the
+	 *            file listing the bundles
+	 * @param locations the locations of the bundles
+	 * @param bundleIds the ids of the bundles in the order of their
+	 *            locations, or <code>null</code> to generate them
+	 * @param monitor progress monitor or <code>null</code>, the caller is
+	 *            responsible for calling {@link IProgressMonitor#done()}
+	 * @return the components that were added to the baseline, possibly empty,
+	 *         never <code>null</code>
+	 * @throws CoreException If problems occur getting components or modifying
+	 *             the baseline
+	 */
+	public static IApiComponent[] addComponents(IApiBaseline baseline, String name, List<String> locations, long[] bundleIds, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.configuring_baseline, 50);
+		try {
+			File directory = getSnapshotDirectory();
+			String key = "bundles:" + name; //$NON-NLS-1$
+			BaselineSnapshot snapshot = directory == null ? null : read(directory, key);
+			return addComponents(baseline, directory, snapshot, new BaselineSnapshot(key, new long[0], null), locations, bundleIds, subMonitor);
+		} finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Creates the components of the bundles at the given locations, restoring
+	 * the unchanged ones from the given snapshot, adds them to the given
+	 * baseline and saves the updated snapshot if it differs. The package names
+	 * and .api_description files of the bundles read from disk are added to
+	 * the snapshot once their API descriptions have been created, when the
+	 * baseline is disposed.
+	 */
+	private static IApiComponent[] addComponents(IApiBaseline baseline, File directory, BaselineSnapshot snapshot, BaselineSnapshot updated, List<String> locations, long[] bundleIds, SubMonitor subMonitor) throws CoreException {
+		List<IApiComponent> components = new ArrayList<>();
+		subMonitor.setWorkRemaining(locations.size() + 2);
+		int restored = 0;
+		int read = 0;
+		for (int i = 0; i < locations.size(); i++) {
+			subMonitor.split(1);
+			String location = locations.get(i);
+			File file = new File(location);
+			Entry entry = snapshot == null ? null : snapshot.fEntries.get(location);
+			if (entry != null && !entry.isValid(file)) {
+				entry = null;
+			}
+			if (entry != null && entry.manifest == null) {
+				// not a bundle
+				updated.fEntries.put(location, entry);
+				restored++;
+				continue;
+			}
+			BundleComponent component = new BundleComponent(baseline, location, bundleIds == null ? ApiModelFactory.getBundleID() : bundleIds[i]);
+			if (entry != null) {
+				component.restore(new HashMap<>(entry.manifest), entry.packages, entry.apiDescription);
+				updated.fEntries.put(location, entry);
+				restored++;
+			} else if (directory != null && file.isFile()) {
+				// stamped before reading so that a concurrent change is noticed
+				// next time
+				long timestamp = file.lastModified();
+				long length = file.length();
+				Map<String, String> manifest = component.getManifest();
+				entry = new Entry(timestamp, length, manifest == null ? null : new HashMap<>(manifest), null, null);
+				updated.fEntries.put(location, entry);
+				read++;
+				if (manifest == null) {
+					continue;
+				}
+			}
+			if (entry != null && entry.packages == null) {
+				component.recordSnapshot();
+				updated.fPending.put(location, component);
+			}
+			if (component.isValidBundle()) {
+				subMonitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
+				components.add(component);
+			}
+		}
+		IApiComponent[] result = components.toArray(new IApiComponent[components.size()]);
+		baseline.addApiComponents(result);
+		subMonitor.split(1);
+		if (directory == null) {
+			return result;
+		}
+		if (ApiPlugin.DEBUG_MODEL_CACHE) {
+			System.out.println("Baseline snapshot " + updated.fKey + ": " + restored + " bundles restored, " + read + " bundles read"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		updated.fDirectory = directory;
+		if (snapshot == null || read > 0 || snapshot.fEntries.size() != updated.fEntries.size() || !Arrays.equals(snapshot.fStamps, updated.fStamps) || (updated.fLocations != null && !updated.fLocations.equals(snapshot.fLocations))) {
+			updated.write(directory);
+		}
+		if (!updated.fPending.isEmpty() && baseline instanceof ApiBaseline) {
+			((ApiBaseline) baseline).addSnapshot(updated);
+		}
+		subMonitor.split(1);
+		return result;
+	}
+
+	/**
+	 * Adds the package names and .api_description files of the bundles whose
+	 * API description was created since this snapshot was saved, and saves
+	 * this snapshot again if any was added. Called when the baseline of the
+	 * bundles is disposed.
+	 */
+	void update() {
+		int completed = 0;
+		for (Map.Entry<String, BundleComponent> pending : fPending.entrySet()) {
+			BundleComponent component = pending.getValue();
+			Set<String> packages = component.getSnapshotPackages();
+			Entry entry = fEntries.get(pending.getKey());
+			if (packages != null && entry != null && entry.packages == null) {
+				fEntries.put(pending.getKey(), new Entry(entry.timestamp, entry.length, entry.manifest, new HashSet<>(packages), component.getSnapshotApiDescription()));
+				completed++;
+			}
+		}
+		fPending.clear();
+		if (ApiPlugin.DEBUG_MODEL_CACHE) {
+			System.out.println("Baseline snapshot " + fKey + ": " + completed + " API descriptions added"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if (completed > 0 && fDirectory != null) {
+			write(fDirectory);
+		}
+	}
+
+	/**
+	 * Returns the file of the snapshot with the given key
+	 */
+	private static File getFile(File directory, String key) {
+		return new File(directory, Util.getDigestFileName(key, ".snapshot")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Reads the snapshot with the given key
+	 *
+	 * @return the snapshot or <code>null</code> if there is no valid snapshot
+	 */
+	static BaselineSnapshot read(File directory, String key) {
+		File file = getFile(directory, key);
+		if (!file.isFile()) {
+			return null;
+		}
+		// a corrupt snapshot is discarded rather than failing the run, the
+		// counts are checked against the file length before allocating
+		long max = file.length();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (!ApiPlugin.PLUGIN_ID.equals(in.readUTF()) || !KIND.equals(in.readUTF()) || in.readInt() != VERSION || !key.equals(readString(in, max))) {
+				return null;
+			}
+			long[] stamps = new long[readCount(in, max)];
+			for (int i = 0; i < stamps.length; i++) {
+				stamps[i] = in.readLong();
+			}
+			List<String> locations = null;
+			int count = readCount(in, max);
+			if (count >= 0) {
+				locations = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					locations.add(readString(in, max));
+				}
+			}
+			BaselineSnapshot snapshot = new BaselineSnapshot(key, stamps, locations);
+			count = readCount(in, max);
+			for (int i = 0; i < count; i++) {
+				String location = readString(in, max);
+				long timestamp = in.readLong();
+				long length = in.readLong();
+				Map<String, String> manifest = null;
+				Set<String> packages = null;
+				String apiDescription = null;
+				int size = readCount(in, max);
+				if (size >= 0) {
+					manifest = new HashMap<>();
+					for (int j = 0; j < size; j++) {
+						manifest.put(readString(in, max), readString(in, max));
+					}
+					size = readCount(in, max);
+					if (size >= 0) {
+						packages = new HashSet<>();
+						for (int j = 0; j < size; j++) {
+							packages.add(readString(in, max));
+						}
+						apiDescription = readString(in, max);
+					}
+				}
+				snapshot.fEntries.put(location, new Entry(timestamp, length, manifest, packages, apiDescription));
+			}
+			return snapshot;
+		} catch (IOException | RuntimeException e) {
+			if (ApiPlugin.DEBUG_MODEL_CACHE) {
+				System.out.println("Discarded invalid baseline snapshot " + file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Saves this snapshot in the given directory. The snapshot is written to a
+	 * temporary file first, so that concurrent runs never read a partial
+	 * snapshot.
+	 */
+	void write(File directory) {
+		File file = getFile(directory, fKey);
+		try {
+			Util.atomicWrite(file, out -> {
+				out.writeUTF(ApiPlugin.PLUGIN_ID);
+				out.writeUTF(KIND);
+				out.writeInt(VERSION);
+				writeString(out, fKey);
+				out.writeInt(fStamps.length);
+				for (long stamp : fStamps) {
+					out.writeLong(stamp);
+				}
+				if (fLocations == null) {
+					out.writeInt(-1);
+				} else {
+					out.writeInt(fLocations.size());
+					for (String location : fLocations) {
+						writeString(out, location);
+					}
+				}
+				out.writeInt(fEntries.size());
+				for (Map.Entry<String, Entry> mapEntry : fEntries.entrySet()) {
+					Entry entry = mapEntry.getValue();
+					writeString(out, mapEntry.getKey());
+					out.writeLong(entry.timestamp);
+					out.writeLong(entry.length);
+					if (entry.manifest == null) {
+						out.writeInt(-1);
+						continue;
+					}
+					out.writeInt(entry.manifest.size());
+					for (Map.Entry<String, String> header : entry.manifest.entrySet()) {
+						writeString(out, header.getKey());
+						writeString(out, header.getValue());
+					}
+					if (entry.packages == null) {
+						out.writeInt(-1);
+						continue;
+					}
+					out.writeInt(entry.packages.size());
+					for (String name : entry.packages) {
+						writeString(out, name);
+					}
+					writeString(out, entry.apiDescription);
+				}
+			});
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to save the baseline snapshot " + file, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes a string that may be <code>null</code> or longer than
+	 * {@link DataOutputStream#writeUTF(String)} allows
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}
+	 * from a file of the given length
+	 */
+	private static String readString(DataInputStream in, long max) throws IOException {
+		int length = readCount(in, max);
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads the number of elements or bytes that follow in a file of the given
+	 * length, <code>-1</code> standing for <code>null</code>. No element takes
+	 * less than a byte, so a larger number means the file is corrupt.
+	 */
+	private static int readCount(DataInputStream in, long max) throws IOException {
+		int count = in.readInt();
+		if (count < -1 || count > max) {
+			throw new IOException("Invalid count " + count); //$NON-NLS-1$
+		}
+		return count;
+	}
+}
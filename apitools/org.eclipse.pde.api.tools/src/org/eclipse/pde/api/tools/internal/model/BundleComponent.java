@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,9 +55,9 @@ import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
-import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
 import org.eclipse.pde.api.tools.internal.CompositeApiDescription;
 import org.eclipse.pde.api.tools.internal.FilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
@@ -150,6 +150,27 @@ public class BundleComponent extends Component {
 	 */
 	private long fBundleId;
 
+	/**
+	 * Last modification time and length of the bundle archive when this
+	 * component was created, <code>-1</code> for bundle directories
+	 */
+	private final long fArchiveTimestamp;
+	private final long fArchiveLength;
+
+	/**
+	 * Names of the local packages and contents of the .api_description file
+	 * restored from a {@link BaselineSnapshot}, or kept for it when the API
+	 * description is created, <code>null</code> if not known
+	 */
+	private volatile Set<String> fSnapshotPackages;
+	private volatile String fSnapshotApiDescription;
+
+	/**
+	 * Whether the local package names and the .api_description file are kept
+	 * for a {@link BaselineSnapshot} when the API description is created
+	 */
+	private volatile boolean fRecordSnapshot;
+
 	/**
 	 * Constructs a new API component from the specified location in the file
 	 * system in the given baseline.
@@ -172,6 +193,84 @@ public class BundleComponent extends Component {
 		 * workspace project, and hence can't be an imported binary bundle.
 		 */
 				&& !new File(location).isFile();
+		File file = location == null ? null : new File(location);
+		if (file != null && file.isFile()) {
+			fArchiveTimestamp = file.lastModified();
+			fArchiveLength = file.length();
+		} else {
+			fArchiveTimestamp = -1;
+			fArchiveLength = -1;
+		}
+	}
+
+	/**
+	 * Restores the contents of this component read from its bundle by an
+	 * earlier run, so that the bundle is not opened to create the component
+	 * and its API description. Must be called before this component is
+	 * initialized.
+	 *
+	 * @param manifest the complete manifest of the bundle
+	 * @param packages the names of the packages of the bundle or
+	 *            <code>null</code> if they are not known yet
+	 * @param apiDescription the contents of the .api_description file of the
+	 *            bundle or <code>null</code> if none
+	 * @see BaselineSnapshot
+	 */
+	void restore(Map<String, String> manifest, Set<String> packages, String apiDescription) {
+		fManifest = manifest;
+		fSnapshotApiDescription = apiDescription;
+		fSnapshotPackages = packages;
+	}
+
+	/**
+	 * Keeps the names of the local packages and the contents of the
+	 * .api_description file when the API description of this component is
+	 * created, so that a {@link BaselineSnapshot} can save them without
+	 * reading the bundle again.
+	 */
+	void recordSnapshot() {
+		fRecordSnapshot = true;
+	}
+
+	/**
+	 * Returns the names of the local packages restored from or kept for a
+	 * {@link BaselineSnapshot}
+	 *
+	 * @return the package names or <code>null</code> if they are not known
+	 *         yet
+	 */
+	Set<String> getSnapshotPackages() {
+		return fSnapshotPackages;
+	}
+
+	/**
+	 * Returns the contents of the .api_description file restored from or kept
+	 * for a {@link BaselineSnapshot}. Only meaningful once
+	 * {@link #getSnapshotPackages()} is not <code>null</code>.
+	 *
+	 * @return the contents or <code>null</code> if the bundle has no
+	 *         .api_description file
+	 */
+	String getSnapshotApiDescription() {
+		return fSnapshotApiDescription;
+	}
+
+	/**
+	 * Returns whether the bundle at the location of this component may have
+	 * changed since this component was created. Archives are compared by last
+	 * modification time and length, bundle directories are always reported as
+	 * changed since a change to one of their class files is not visible on the
+	 * directory itself.
+	 *
+	 * @return <code>true</code> if the bundle may have changed or has been
+	 *         deleted, <code>false</code> if it is unchanged
+	 */
+	public boolean hasChangedOnDisk() {
+		if (fArchiveTimestamp == -1) {
+			return true;
+		}
+		File file = new File(fLocation);
+		return !file.isFile() || file.lastModified() != fArchiveTimestamp || file.length() != fArchiveLength;
 	}
 
 	@Override
@@ -416,11 +515,21 @@ public class BundleComponent extends Component {
 	 * @throws CoreException if unable to initialize
 	 */
 	protected IApiDescription createLocalApiDescription() throws CoreException {
-		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
+		CompactApiDescription apiDesc = new CompactApiDescription(getSymbolicName());
 		// first mark all packages as internal
-		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
+		Set<String> packages = getLocalPackageNames();
+		initializeApiDescription(apiDesc, getBundleDescription(), new HashSet<>(packages));
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			String xml;
+			if (fSnapshotPackages != null) {
+				xml = fSnapshotApiDescription;
+			} else {
+				xml = loadApiDescription(new File(fLocation));
+				if (fRecordSnapshot) {
+					fSnapshotApiDescription = xml;
+					fSnapshotPackages = packages;
+				}
+			}
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
@@ -428,6 +537,7 @@ public class BundleComponent extends Component {
 		} catch (IOException e) {
 			abort("Unable to load .api_description file ", e); //$NON-NLS-1$
 		}
+		apiDesc.trimToSize();
 		return apiDesc;
 	}
 
@@ -439,6 +549,9 @@ public class BundleComponent extends Component {
 	 * @throws CoreException
 	 */
 	protected Set<String> getLocalPackageNames() throws CoreException {
+		if (fSnapshotPackages != null) {
+			return new HashSet<>(fSnapshotPackages);
+		}
 		Set<String> names = new HashSet<>();
 		IApiTypeContainer[] containers = getApiTypeContainers();
 		IApiComponent comp = null;
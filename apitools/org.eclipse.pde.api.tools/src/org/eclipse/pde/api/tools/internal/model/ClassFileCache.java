@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.tree.ClassNode;
+
+/**
+ * Cache of parsed class files shared by the consumers of class file bytes
+ * during an analysis: the type structure builder, the reference extractor and
+ * the lookup of enclosing methods. Each class file of the analyzed element is
+ * parsed once into a {@link ClassNode}, including code and line numbers but
+ * not stack map frames, and the node is replayed to every visitor that needs
+ * it. The class files of other elements, like the baseline the analyzed
+ * component is compared with, are not cached: their structure is read without
+ * the code.
+ * <p>
+ * The cache only holds entries while an analysis session is open, see
+ * {@link #begin(IApiElement)} and {@link #end(IApiElement)}. Sessions can be
+ * nested or run concurrently, the cache is discarded when the last one ends.
+ * A cached class file is read again when the stamp of its contents changes,
+ * see {@link AbstractApiTypeRoot#getContentStamp()}. Entries are
+ * evicted in least recently used order to stay within a memory budget, that
+ * can be set in megabytes with the
+ * <code>org.eclipse.pde.api.tools.classFileCacheSize</code> system property.
+ * A budget of <code>0</code> disables the cache.
+ * </p>
+ * <p>
+ * Callers must not modify the returned nodes and replay them with
+ * {@link #accept(ClassNode, ClassVisitor)}.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public final class ClassFileCache {
+
+	/**
+	 * System property setting the memory budget of the cache in megabytes
+	 */
+	public static final String SIZE_PROPERTY = "org.eclipse.pde.api.tools.classFileCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * Default memory budget in megabytes
+	 */
+	private static final int DEFAULT_SIZE = 64;
+
+	/**
+	 * Estimated number of bytes of memory used by a parsed class file for
+	 * each byte of the class file
+	 */
+	private static final int WEIGHT_FACTOR = 8;
+
+	/**
+	 * Key of a cached class file: the type name within its type container. Two
+	 * containers are only the same if they are the same object, the container
+	 * of a workspace component and the one of its version in a baseline have
+	 * different contents.
+	 */
+	static final class Key {
+		final IApiElement container;
+		final String typeName;
+
+		Key(IApiElement container, String typeName) {
+			this.container = container;
+			this.typeName = typeName;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key) {
+				Key other = (Key) obj;
+				return container == other.container && typeName.equals(other.typeName);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(container) * 31 + typeName.hashCode();
+		}
+	}
+
+	/**
+	 * A cached node, the stamp of the contents it was parsed from and its
+	 * estimated weight
+	 */
+	static final class Entry {
+		final ClassNode node;
+		final long stamp;
+		final long weight;
+
+		Entry(ClassNode node, long stamp, long weight) {
+			this.node = node;
+			this.stamp = stamp;
+			this.weight = weight;
+		}
+	}
+
+	private static final Object fgLock = new Object();
+	private static ClassFileCache fgCache = null;
+	private static int fgSessions = 0;
+	/**
+	 * The elements of the open sessions, with their number of sessions
+	 */
+	private static final Map<IApiElement, Integer> fgElements = new IdentityHashMap<>();
+
+	private final long fBudget;
+	private long fWeight = 0;
+	private long fHits = 0;
+	private long fMisses = 0;
+	private final LinkedHashMap<Key, Entry> fEntries = new LinkedHashMap<>(64, 0.75f, true);
+
+	private ClassFileCache(long budget) {
+		fBudget = budget;
+	}
+
+	/**
+	 * Opens an analysis session of the given element, creating the cache if
+	 * this is the only open session. The class files of the element and of its
+	 * children are cached until the session ends. Every call must be matched
+	 * with a call to {@link #end(IApiElement)} with the same element.
+	 *
+	 * @param element the analyzed component or type container
+	 */
+	public static void begin(IApiElement element) {
+		synchronized (fgLock) {
+			if (fgSessions++ == 0) {
+				long budget = Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE).longValue() * 1024 * 1024;
+				fgCache = budget > 0 ? new ClassFileCache(budget) : null;
+			}
+			fgElements.merge(element, Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+		}
+	}
+
+	/**
+	 * Closes an analysis session of the given element, discarding the cache if
+	 * this was the last open session
+	 *
+	 * @param element the element given to {@link #begin(IApiElement)}
+	 */
+	public static void end(IApiElement element) {
+		synchronized (fgLock) {
+			Integer count = fgElements.get(element);
+			if (count == null) {
+				return;
+			}
+			if (count.intValue() == 1) {
+				fgElements.remove(element);
+			} else {
+				fgElements.put(element, Integer.valueOf(count.intValue() - 1));
+			}
+			if (--fgSessions == 0) {
+				if (fgCache != null && ApiPlugin.DEBUG_API_ANALYZER) {
+					System.out.println(fgCache);
+				}
+				fgCache = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the cache if the given type root belongs to an element with an
+	 * open session
+	 *
+	 * @param root the type root
+	 * @return the cache or <code>null</code>
+	 */
+	private static ClassFileCache getCache(IApiTypeRoot root) {
+		synchronized (fgLock) {
+			if (fgCache == null) {
+				return null;
+			}
+			for (IApiElement element = root.getParent(); element != null; element = element.getParent()) {
+				if (fgElements.containsKey(element)) {
+					return fgCache;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the parsed class file of the given type root, reading and
+	 * parsing it if it is not cached.
+	 *
+	 * @param root the type root
+	 * @return the parsed class file or <code>null</code> if no session of an
+	 *         element of the type root is open or the type root cannot be
+	 *         cached
+	 * @throws CoreException if the class file cannot be read
+	 * @throws IllegalArgumentException if the class file cannot be parsed
+	 * @throws ArrayIndexOutOfBoundsException if the class file cannot be
+	 *             parsed
+	 */
+	public static ClassNode getClassNode(IApiTypeRoot root) throws CoreException {
+		return getClassNode(root, null);
+	}
+
+	/**
+	 * Returns the parsed class file of the given type root, parsing the given
+	 * bytes if it is not cached.
+	 *
+	 * @param root the type root
+	 * @param bytes the contents of the type root or <code>null</code> to read
+	 *            them when needed
+	 * @return the parsed class file or <code>null</code> if no session of an
+	 *         element of the type root is open or the type root cannot be
+	 *         cached
+	 * @throws CoreException if the class file cannot be read
+	 * @throws IllegalArgumentException if the class file cannot be parsed
+	 * @throws ArrayIndexOutOfBoundsException if the class file cannot be
+	 *             parsed
+	 */
+	public static ClassNode getClassNode(IApiTypeRoot root, byte[] bytes) throws CoreException {
+		if (!(root instanceof AbstractApiTypeRoot) || root.getParent() == null) {
+			return null;
+		}
+		ClassFileCache cache = getCache(root);
+		if (cache == null) {
+			return null;
+		}
+		Key key = new Key(root.getParent(), root.getTypeName());
+		long stamp = ((AbstractApiTypeRoot) root).getContentStamp();
+		ClassNode node = cache.get(key, stamp);
+		if (node != null) {
+			return node;
+		}
+		byte[] contents = bytes != null ? bytes : ((AbstractApiTypeRoot) root).getContents();
+		node = new ClassNode(Util.LATEST_OPCODES_ASM);
+		new ClassReader(contents).accept(node, ClassReader.SKIP_FRAMES);
+		cache.put(key, new Entry(node, stamp, (long) contents.length * WEIGHT_FACTOR));
+		return node;
+	}
+
+	/**
+	 * Replays the given parsed class file to the given visitor. Replays of the
+	 * same node are serialized, as ASM resets the labels of the code of a node
+	 * when replaying it.
+	 *
+	 * @param node a node returned by {@link #getClassNode(IApiTypeRoot)}
+	 * @param visitor the visitor
+	 */
+	public static void accept(ClassNode node, ClassVisitor visitor) {
+		synchronized (node) {
+			node.accept(visitor);
+		}
+	}
+
+	private synchronized ClassNode get(Key key, long stamp) {
+		Entry entry = fEntries.get(key);
+		if (entry == null || entry.stamp != stamp) {
+			// a changed class file is replaced when parsed again
+			fMisses++;
+			return null;
+		}
+		fHits++;
+		return entry.node;
+	}
+
+	private synchronized void put(Key key, Entry entry) {
+		if (entry.weight > fBudget) {
+			return;
+		}
+		Entry old = fEntries.put(key, entry);
+		if (old != null) {
+			fWeight -= old.weight;
+		}
+		fWeight += entry.weight;
+		for (Iterator<Entry> iterator = fEntries.values().iterator(); fWeight > fBudget && iterator.hasNext();) {
+			Entry eldest = iterator.next();
+			iterator.remove();
+			fWeight -= eldest.weight;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Class file cache [entries: ").append(fEntries.size()); //$NON-NLS-1$
+		buffer.append(", weight: ").append(fWeight).append('/').append(fBudget); //$NON-NLS-1$
+		buffer.append(", hits: ").append(fHits); //$NON-NLS-1$
+		buffer.append(", misses: ").append(fMisses).append(']'); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
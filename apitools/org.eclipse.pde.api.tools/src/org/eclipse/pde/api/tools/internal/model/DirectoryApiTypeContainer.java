@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -93,6 +93,12 @@ public class DirectoryApiTypeContainer extends ApiElement implements IApiTypeCon
 				return null;
 			}
 		}
+
+		@Override
+		public long getContentStamp() {
+			File file = new File(fLocation);
+			return file.lastModified() * 31 + file.length();
+		}
 	}
 
 	/**
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.eclipse.pde.api.tools.internal.BoundedConcurrentCache;
+import org.eclipse.pde.api.tools.internal.util.MappedBuffers;
+
+/**
+ * Read-only view of a zip archive mapped in memory.
+ * <p>
+ * The central directory is read once into a compact table of entry offsets
+ * and sizes, entry contents are then read from the mapped buffer without
+ * opening the archive again. Stored and deflated entries are supported, the
+ * bytes of the most recently read entries are kept in a small cache.
+ * </p>
+ * <p>
+ * Archives that cannot be handled this way (zip64, split archives, archives
+ * larger than 2GB or multi-release jars) are reported by {@link #open(Path)}
+ * returning <code>null</code>, callers then fall back to the zip file system.
+ * </p>
+ * <p>
+ * The mapping keeps the archive locked on some platforms, it is released by
+ * {@link #close()} rather than when the view is garbage collected.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+final class MappedArchive {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+	private static final int END_SIZE = 22;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+	private static final String VERSIONS_DIRECTORY = "META-INF/versions/"; //$NON-NLS-1$
+
+	/**
+	 * Number of decompressed entries cached per archive
+	 */
+	private static final int CONTENTS_CACHE_SIZE = 16;
+
+	private final Path fPath;
+	private final MappedByteBuffer fMapped;
+	/**
+	 * Little endian view of {@link #fMapped}
+	 */
+	private final ByteBuffer fBuffer;
+	/**
+	 * Entry names in central directory order
+	 */
+	private final String[] fNames;
+	/**
+	 * Entry index by name
+	 */
+	private final Map<String, Integer> fIndex;
+	/**
+	 * Per entry: offset of the local header, compressed size, uncompressed
+	 * size and compression method
+	 */
+	private final int[] fOffsets;
+	private final int[] fCompressedSizes;
+	private final int[] fSizes;
+	private final byte[] fMethods;
+	private final BoundedConcurrentCache<String, byte[]> fContents = new BoundedConcurrentCache<>(CONTENTS_CACHE_SIZE, null);
+	/**
+	 * Guards the reads of the mapped buffer against its release
+	 */
+	private final ReadWriteLock fLock = new ReentrantReadWriteLock();
+	private boolean fClosed = false;
+
+	private MappedArchive(Path path, MappedByteBuffer mapped, ByteBuffer buffer, int count) {
+		fPath = path;
+		fMapped = mapped;
+		fBuffer = buffer;
+		fNames = new String[count];
+		fIndex = new HashMap<>(count * 4 / 3 + 1);
+		fOffsets = new int[count];
+		fCompressedSizes = new int[count];
+		fSizes = new int[count];
+		fMethods = new byte[count];
+	}
+
+	/**
+	 * Maps the given archive and reads its central directory.
+	 *
+	 * @param path the archive location
+	 * @return the mapped archive or <code>null</code> if the archive layout is
+	 *         not supported
+	 * @throws IOException if the archive cannot be read
+	 */
+	static MappedArchive open(Path path) throws IOException {
+		MappedByteBuffer mapped;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < END_SIZE || size > Integer.MAX_VALUE) {
+				return null;
+			}
+			// the mapping stays valid once the channel is closed
+			mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		MappedArchive archive = null;
+		try {
+			archive = read(path, mapped);
+			return archive;
+		} finally {
+			if (archive == null) {
+				// unsupported or invalid archive
+				MappedBuffers.unmap(mapped);
+			}
+		}
+	}
+
+	/**
+	 * Reads the central directory of the given mapped archive.
+	 *
+	 * @param path the archive location
+	 * @param mapped the archive contents
+	 * @return the mapped archive or <code>null</code> if the archive layout is
+	 *         not supported
+	 * @throws IOException if the archive is invalid
+	 */
+	private static MappedArchive read(Path path, MappedByteBuffer mapped) throws IOException {
+		ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+		int end = findEnd(buffer);
+		if (end < 0) {
+			return null;
+		}
+		int disk = Short.toUnsignedInt(buffer.getShort(end + 4));
+		int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+		long directorySize = Integer.toUnsignedLong(buffer.getInt(end + 12));
+		long directoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+		if (disk != 0 || count == 0xFFFF || directoryOffset == 0xFFFFFFFFL || directoryOffset + directorySize > end) {
+			// split or zip64 archive
+			return null;
+		}
+		MappedArchive archive = new MappedArchive(path, mapped, buffer, count);
+		int position = (int) directoryOffset;
+		for (int i = 0; i < count; i++) {
+			if (position + CENTRAL_HEADER_SIZE > end || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid central directory in " + path); //$NON-NLS-1$
+			}
+			int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+			long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+			long size = Integer.toUnsignedLong(buffer.getInt(position + 24));
+			int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+			int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+			int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+			long offset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+			if (compressedSize >= Integer.MAX_VALUE || size >= Integer.MAX_VALUE || offset >= Integer.MAX_VALUE) {
+				return null;
+			}
+			byte[] name = new byte[nameLength];
+			buffer.get(position + CENTRAL_HEADER_SIZE, name);
+			String entryName = new String(name, StandardCharsets.UTF_8);
+			if (entryName.startsWith(VERSIONS_DIRECTORY)) {
+				// leave the release specific lookup to the zip file system
+				return null;
+			}
+			archive.fNames[i] = entryName;
+			archive.fIndex.put(entryName, Integer.valueOf(i));
+			archive.fOffsets[i] = (int) offset;
+			archive.fCompressedSizes[i] = (int) compressedSize;
+			archive.fSizes[i] = (int) size;
+			archive.fMethods[i] = (byte) method;
+			position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+		return archive;
+	}
+
+	/**
+	 * Searches the end of central directory record backwards, skipping over a
+	 * possible archive comment.
+	 *
+	 * @param buffer
+	 * @return the position of the record or -1 if there is none
+	 */
+	private static int findEnd(ByteBuffer buffer) {
+		int limit = Math.max(0, buffer.limit() - END_SIZE - 0xFFFF);
+		for (int position = buffer.limit() - END_SIZE; position >= limit; position--) {
+			if (buffer.getInt(position) == END_SIGNATURE) {
+				return position;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the names of all the entries of the archive
+	 */
+	String[] getEntryNames() {
+		return fNames;
+	}
+
+	/**
+	 * Returns the uncompressed contents of the given entry.
+	 *
+	 * @param entryName the entry name
+	 * @return the entry contents or <code>null</code> if this archive has been
+	 *         closed
+	 * @throws IOException if there is no such entry or if it cannot be read
+	 */
+	byte[] getContents(String entryName) throws IOException {
+		Lock lock = fLock.readLock();
+		lock.lock();
+		try {
+			if (fClosed) {
+				return null;
+			}
+			byte[] contents = fContents.get(entryName);
+			if (contents != null) {
+				return contents;
+			}
+			Integer index = fIndex.get(entryName);
+			if (index == null) {
+				throw new ZipException("No entry " + entryName + " in " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			contents = read(index.intValue());
+			fContents.put(entryName, contents);
+			return contents;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the mapping of the archive, waiting for the reads in progress.
+	 * Contents can no longer be read from this archive afterwards.
+	 */
+	void close() {
+		Lock lock = fLock.writeLock();
+		lock.lock();
+		try {
+			if (!fClosed) {
+				fClosed = true;
+				fContents.flush();
+				MappedBuffers.unmap(fMapped);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private byte[] read(int index) throws IOException {
+		int header = fOffsets[index];
+		if (header + LOCAL_HEADER_SIZE > fBuffer.limit() || fBuffer.getInt(header) != LOCAL_HEADER_SIGNATURE) {
+			throw new ZipException("Invalid local header for " + fNames[index] + " in " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		int nameLength = Short.toUnsignedInt(fBuffer.getShort(header + 26));
+		int extraLength = Short.toUnsignedInt(fBuffer.getShort(header + 28));
+		int data = header + LOCAL_HEADER_SIZE + nameLength + extraLength;
+		int compressedSize = fCompressedSizes[index];
+		if (data + compressedSize > fBuffer.limit()) {
+			throw new ZipException("Truncated entry " + fNames[index] + " in " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		byte[] contents = new byte[fSizes[index]];
+		switch (fMethods[index]) {
+			case STORED:
+				fBuffer.get(data, contents);
+				return contents;
+			case DEFLATED:
+				Inflater inflater = new Inflater(true);
+				try {
+					inflater.setInput(fBuffer.slice(data, compressedSize));
+					int read = 0;
+					while (read < contents.length) {
+						int n = inflater.inflate(contents, read, contents.length - read);
+						if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+							break;
+						}
+						read += n;
+					}
+					if (read != contents.length) {
+						throw new ZipException("Invalid size for " + fNames[index] + " in " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					return contents;
+				} catch (DataFormatException e) {
+					throw new ZipException("Invalid deflated data for " + fNames[index] + " in " + fPath + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				} finally {
+					inflater.end();
+				}
+			default:
+				throw new ZipException("Unsupported compression method " + fMethods[index] + " for " + fNames[index] + " in " + fPath); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+}
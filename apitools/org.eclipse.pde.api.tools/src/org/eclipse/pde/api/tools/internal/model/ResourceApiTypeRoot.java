@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,6 +75,11 @@ public class ResourceApiTypeRoot extends AbstractApiTypeRoot {
 		}
 	}
 
+	@Override
+	public long getContentStamp() {
+		return fFile.getModificationStamp();
+	}
+
 	@Override
 	public String getTypeName() {
 		return getName();
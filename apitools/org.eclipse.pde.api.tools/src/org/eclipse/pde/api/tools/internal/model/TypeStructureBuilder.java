@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -257,10 +257,21 @@ public class TypeStructureBuilder extends ClassVisitor {
 	 * @return
 	 */
 	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file) {
-		TypeStructureBuilder visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+		TypeStructureBuilder visitor = null;
 		try {
-			ClassReader classReader = new ClassReader(bytes);
-			classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+			ClassNode node = ClassFileCache.getClassNode(file, bytes);
+			if (node != null) {
+				// the structure is only built from the replayed events
+				visitor = new TypeStructureBuilder(null, component, file);
+				ClassFileCache.accept(node, visitor);
+			} else {
+				// not part of the analyzed component, the code is not needed
+				visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+				ClassReader classReader = new ClassReader(bytes);
+				classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+			}
+		} catch (CoreException e) {
+			return logAndReturn(file, e);
 		} catch (ArrayIndexOutOfBoundsException e) {
 			logAndReturn(file, e);
 			return null;
@@ -286,8 +297,13 @@ public class TypeStructureBuilder extends ClassVisitor {
 			AbstractApiTypeRoot abstractApiTypeRoot = (AbstractApiTypeRoot) typeRoot;
 			EnclosingMethodSetter visitor = new EnclosingMethodSetter(new ClassNode(), currentAnonymousLocalType.getName());
 			try {
-				ClassReader classReader = new ClassReader(abstractApiTypeRoot.getContents());
-				classReader.accept(visitor, ClassReader.SKIP_FRAMES);
+				ClassNode node = ClassFileCache.getClassNode(abstractApiTypeRoot);
+				if (node != null) {
+					ClassFileCache.accept(node, visitor);
+				} else {
+					ClassReader classReader = new ClassReader(abstractApiTypeRoot.getContents());
+					classReader.accept(visitor, ClassReader.SKIP_FRAMES);
+				}
 			} catch (ArrayIndexOutOfBoundsException | CoreException e) {
 				// bytes could not be retrieved for abstractApiTypeRoot
 				ApiPlugin.log(e);
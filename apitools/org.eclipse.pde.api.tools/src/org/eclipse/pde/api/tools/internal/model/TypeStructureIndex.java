@@ -0,0 +1,672 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.MappedBuffers;
+
+/**
+ * Persistent index of {@link ApiType} structures for an API baseline.
+ * <p>
+ * Entries are keyed by the type name and the length and CRC of the class file
+ * contents they were built from, so an entry is only reused for exactly the
+ * same class file. The index file is memory mapped when it is opened and
+ * entries are decoded on demand, types built during the session are added to
+ * the index and written out by {@link #save()}.
+ * </p>
+ * <p>
+ * The file format is:
+ *
+ * <pre>
+ * int magic, int version
+ * int string count, (int length, UTF-8 bytes)*
+ * int entry count, (int type name, int length, long crc, int offset, int size)*
+ * records
+ * </pre>
+ *
+ * where strings are referenced from the index and the records by their
+ * position in the string table, <code>-1</code> denoting <code>null</code>.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public final class TypeStructureIndex {
+
+	/**
+	 * Magic number at the start of an index file
+	 */
+	private static final int MAGIC = 0x41505449;
+
+	/**
+	 * Version of the file format, must be incremented when the format changes
+	 */
+	private static final int VERSION = 1;
+
+	private static final byte ANONYMOUS = 0x01;
+	private static final byte LOCAL = 0x02;
+	private static final byte MEMBER = 0x04;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_INTEGER = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_STRING = 5;
+
+	/**
+	 * Key of an index entry
+	 */
+	static final class Key {
+		final String typeName;
+		final int length;
+		final long crc;
+
+		Key(String typeName, int length, long crc) {
+			this.typeName = typeName;
+			this.length = length;
+			this.crc = crc;
+		}
+
+		static Key of(String typeName, byte[] contents) {
+			CRC32 crc32 = new CRC32();
+			crc32.update(contents);
+			return new Key(typeName, contents.length, crc32.getValue());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key) {
+				Key other = (Key) obj;
+				return this.length == other.length && this.crc == other.crc && this.typeName.equals(other.typeName);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.typeName.hashCode() * 31 + Long.hashCode(this.crc);
+		}
+	}
+
+	/**
+	 * The file backing this index
+	 */
+	private final File fFile;
+
+	/**
+	 * Strings of the string table, in table order
+	 */
+	private final List<String> fStrings = new ArrayList<>();
+
+	/**
+	 * Maps strings to their position in {@link #fStrings}
+	 */
+	private final Map<String, Integer> fStringIds = new ConcurrentHashMap<>();
+
+	/**
+	 * The mapped index file
+	 */
+	static final class Mapping {
+		/**
+		 * The mapped file or <code>null</code> if the file did not exist or
+		 * could not be read
+		 */
+		final ByteBuffer buffer;
+		/**
+		 * Maps keys to <code>{offset, size}</code> of the records in
+		 * {@link #buffer}
+		 */
+		final Map<Key, int[]> entries;
+
+		Mapping(ByteBuffer buffer, Map<Key, int[]> entries) {
+			this.buffer = buffer;
+			this.entries = entries;
+		}
+	}
+
+	private static final Mapping NO_MAPPING = new Mapping(null, Collections.emptyMap());
+
+	/**
+	 * The current mapping of the index file
+	 */
+	private volatile Mapping fMapping = NO_MAPPING;
+
+	/**
+	 * Records added during this session, encoded against the string table
+	 */
+	private final Map<Key, byte[]> fAddedEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * Guards the reads from the mapped file against its release, readers hold
+	 * the read lock while they decode a mapped record
+	 */
+	private final ReadWriteLock fMappingLock = new ReentrantReadWriteLock();
+
+	/**
+	 * Constructor
+	 *
+	 * @param file the file backing the index, it is read if it exists
+	 */
+	public TypeStructureIndex(File file) {
+		fFile = file;
+		map(true);
+	}
+
+	/**
+	 * Returns the type structure for the given class file contents if it is
+	 * available in this index
+	 *
+	 * @param typeName the fully qualified name of the type
+	 * @param contents the class file contents
+	 * @param component the component the type belongs to
+	 * @param typeRoot the type root the contents were read from
+	 * @return the type structure or <code>null</code> if the index has no entry
+	 *         for the given contents
+	 */
+	public IApiType lookup(String typeName, byte[] contents, IApiComponent component, IApiTypeRoot typeRoot) {
+		Key key = Key.of(typeName, contents);
+		ByteBuffer record = null;
+		byte[] added = fAddedEntries.get(key);
+		if (added != null) {
+			record = ByteBuffer.wrap(added);
+			return readRecord(record, component, typeRoot);
+		}
+		Lock lock = fMappingLock.readLock();
+		lock.lock();
+		try {
+			Mapping mapping = fMapping;
+			int[] location = mapping.entries.get(key);
+			if (location == null) {
+				return null;
+			}
+			record = mapping.buffer.duplicate();
+			record.position(location[0]);
+			record.limit(location[0] + location[1]);
+			return readRecord(record, component, typeRoot);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private IApiType readRecord(ByteBuffer record, IApiComponent component, IApiTypeRoot typeRoot) {
+		try {
+			return readType(record, component, typeRoot);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			// corrupted entry, rebuild the structure from the class file
+			ApiPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the given type structure built from the given class file contents
+	 * to this index
+	 *
+	 * @param typeName the fully qualified name of the type
+	 * @param contents the class file contents the type has been built from
+	 * @param type the type structure
+	 */
+	public void record(String typeName, byte[] contents, IApiType type) {
+		if (!(type instanceof ApiType)) {
+			return;
+		}
+		Key key = Key.of(typeName, contents);
+		if (fMapping.entries.containsKey(key)) {
+			return;
+		}
+		try {
+			fAddedEntries.putIfAbsent(key, writeType((ApiType) type));
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if types have been added to this index since
+	 *         it was last saved
+	 */
+	public boolean needsSaving() {
+		return !fAddedEntries.isEmpty();
+	}
+
+	/**
+	 * Writes the index to its backing file if new types have been recorded
+	 * since it has been opened or last saved
+	 */
+	public synchronized void save() {
+		if (!needsSaving()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		if (fMapping == NO_MAPPING) {
+			// closed since it was opened, keep the entries already saved
+			map(false);
+		}
+		File temp = new File(fFile.getParentFile(), fFile.getName() + ".tmp"); //$NON-NLS-1$
+		Map<Key, byte[]> added = new HashMap<>(fAddedEntries);
+		try {
+			Files.createDirectories(temp.getParentFile().toPath());
+			for (Key key : added.keySet()) {
+				stringId(key.typeName);
+			}
+			String[] strings;
+			synchronized (fStrings) {
+				strings = fStrings.toArray(new String[fStrings.size()]);
+			}
+			Mapping mapping = fMapping;
+			Map<Key, int[]> mappedEntries = mapping.entries;
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(strings.length);
+				for (String string : strings) {
+					byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+					out.writeInt(bytes.length);
+					out.write(bytes);
+				}
+				out.writeInt(mappedEntries.size() + added.size());
+				int offset = 0;
+				for (Map.Entry<Key, int[]> entry : mappedEntries.entrySet()) {
+					writeEntry(out, entry.getKey(), offset, entry.getValue()[1]);
+					offset += entry.getValue()[1];
+				}
+				for (Map.Entry<Key, byte[]> entry : added.entrySet()) {
+					writeEntry(out, entry.getKey(), offset, entry.getValue().length);
+					offset += entry.getValue().length;
+				}
+				byte[] buffer = new byte[8192];
+				for (int[] location : mappedEntries.values()) {
+					ByteBuffer record = mapping.buffer.duplicate();
+					record.position(location[0]);
+					int remaining = location[1];
+					while (remaining > 0) {
+						int length = Math.min(remaining, buffer.length);
+						record.get(buffer, 0, length);
+						out.write(buffer, 0, length);
+						remaining -= length;
+					}
+				}
+				for (byte[] record : added.values()) {
+					out.write(record);
+				}
+			}
+			// release the current mapping before replacing the file, a mapped
+			// file cannot be replaced on Windows
+			releaseMapping();
+			Files.move(temp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			return;
+		} finally {
+			try {
+				Files.deleteIfExists(temp.toPath());
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+		// the string table only grows, so records added while saving stay
+		// valid against the table already in memory
+		map(false);
+		fAddedEntries.keySet().removeAll(added.keySet());
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to save type structure index " + fFile.getName() + " (" + fMapping.entries.size() + " types): " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	/**
+	 * Deletes the backing file of this index and forgets all its entries
+	 */
+	public synchronized void delete() {
+		releaseMapping();
+		fAddedEntries.clear();
+		try {
+			Files.deleteIfExists(fFile.toPath());
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Releases the mapping of the backing file. The types recorded since the
+	 * last save are kept, the index is mapped again when it is next saved.
+	 */
+	public synchronized void close() {
+		releaseMapping();
+	}
+
+	/**
+	 * Forgets the entries of the backing file and releases its mapping once
+	 * no reader uses it anymore
+	 */
+	private void releaseMapping() {
+		Lock lock = fMappingLock.writeLock();
+		lock.lock();
+		try {
+			Mapping mapping = fMapping;
+			fMapping = NO_MAPPING;
+			MappedBuffers.unmap(mapping.buffer);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Maps the backing file and reads its entry index. If the file is missing,
+	 * from another format version or corrupted the index starts empty.
+	 *
+	 * @param readStrings if the string table of the file must replace the one
+	 *            in memory
+	 */
+	private void map(boolean readStrings) {
+		if (!fFile.isFile()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		MappedByteBuffer buffer = null;
+		try (FileChannel channel = FileChannel.open(fFile.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				// a single mapping cannot address the file, start over
+				return;
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				MappedBuffers.unmap(buffer);
+				return;
+			}
+			int count = buffer.getInt();
+			List<String> strings = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				byte[] bytes = new byte[buffer.getInt()];
+				buffer.get(bytes);
+				strings.add(new String(bytes, StandardCharsets.UTF_8));
+			}
+			count = buffer.getInt();
+			Map<Key, int[]> entries = new HashMap<>(count * 4 / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				String typeName = strings.get(buffer.getInt());
+				Key key = new Key(typeName, buffer.getInt(), buffer.getLong());
+				entries.put(key, new int[] { buffer.getInt(), buffer.getInt() });
+			}
+			int base = buffer.position();
+			for (int[] location : entries.values()) {
+				location[0] += base;
+			}
+			if (readStrings) {
+				synchronized (fStrings) {
+					fStrings.clear();
+					fStringIds.clear();
+					for (int i = 0; i < strings.size(); i++) {
+						fStrings.add(strings.get(i));
+						fStringIds.put(strings.get(i), Integer.valueOf(i));
+					}
+				}
+			}
+			fMapping = new Mapping(buffer, entries);
+		} catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+			ApiPlugin.log(e);
+			MappedBuffers.unmap(buffer);
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to open type structure index " + fFile.getName() + " (" + fMapping.entries.size() + " types): " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	private void writeEntry(DataOutputStream out, Key key, int offset, int size) throws IOException {
+		out.writeInt(stringId(key.typeName));
+		out.writeInt(key.length);
+		out.writeLong(key.crc);
+		out.writeInt(offset);
+		out.writeInt(size);
+	}
+
+	/**
+	 * Returns the position of the given string in the string table, adding it
+	 * if needed
+	 *
+	 * @param string
+	 * @return the position or <code>-1</code> for <code>null</code>
+	 */
+	private int stringId(String string) {
+		if (string == null) {
+			return -1;
+		}
+		return fStringIds.computeIfAbsent(string, s -> {
+			synchronized (fStrings) {
+				fStrings.add(s);
+				return Integer.valueOf(fStrings.size() - 1);
+			}
+		}).intValue();
+	}
+
+	private String string(ByteBuffer buffer) {
+		int id = buffer.getInt();
+		if (id == -1) {
+			return null;
+		}
+		synchronized (fStrings) {
+			return fStrings.get(id);
+		}
+	}
+
+	private String[] strings(ByteBuffer buffer) {
+		int count = buffer.getInt();
+		if (count == -1) {
+			return null;
+		}
+		String[] strings = new String[count];
+		for (int i = 0; i < count; i++) {
+			strings[i] = string(buffer);
+		}
+		return strings;
+	}
+
+	private void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+		if (strings == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(strings.length);
+		for (String string : strings) {
+			out.writeInt(stringId(string));
+		}
+	}
+
+	/**
+	 * Encodes the given type against the string table
+	 *
+	 * @param type
+	 * @return the encoded record
+	 * @throws IOException
+	 */
+	private byte[] writeType(ApiType type) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(stringId(type.getName()));
+		out.writeInt(stringId(type.getSignature()));
+		out.writeInt(stringId(type.getGenericSignature()));
+		out.writeInt(type.getModifiers());
+		out.writeInt(stringId(type.getEnclosingTypeName()));
+		out.writeInt(stringId(type.getSuperclassName()));
+		writeStrings(out, type.getSuperInterfaceNames());
+		byte kind = 0;
+		if (type.isAnonymous()) {
+			kind |= ANONYMOUS;
+		}
+		if (type.isLocal()) {
+			kind |= LOCAL;
+		}
+		if (type.isMemberType()) {
+			kind |= MEMBER;
+		}
+		out.writeByte(kind);
+		out.writeInt(stringId(type.isLocal() || type.isMemberType() ? type.getSimpleName() : null));
+		out.writeInt(stringId(type.getEnclosingMethodName()));
+		out.writeInt(stringId(type.getEnclosingMethodSignature()));
+		writeStrings(out, type.getMemberTypeNames());
+		IApiField[] fields = type.getFields();
+		out.writeInt(fields.length);
+		for (IApiField field : fields) {
+			out.writeInt(stringId(field.getName()));
+			out.writeInt(stringId(field.getSignature()));
+			out.writeInt(stringId(field.getGenericSignature()));
+			out.writeInt(field.getModifiers());
+			Object value = field.getConstantValue();
+			if (value instanceof Integer) {
+				out.writeByte(VALUE_INTEGER);
+				out.writeInt(((Integer) value).intValue());
+			} else if (value instanceof Long) {
+				out.writeByte(VALUE_LONG);
+				out.writeLong(((Long) value).longValue());
+			} else if (value instanceof Float) {
+				out.writeByte(VALUE_FLOAT);
+				out.writeFloat(((Float) value).floatValue());
+			} else if (value instanceof Double) {
+				out.writeByte(VALUE_DOUBLE);
+				out.writeDouble(((Double) value).doubleValue());
+			} else if (value != null) {
+				out.writeByte(VALUE_STRING);
+				out.writeInt(stringId(value.toString()));
+			} else {
+				out.writeByte(VALUE_NULL);
+			}
+		}
+		IApiMethod[] methods = type.getMethods();
+		out.writeInt(methods.length);
+		for (IApiMethod method : methods) {
+			out.writeInt(stringId(method.getName()));
+			out.writeInt(stringId(method.getSignature()));
+			out.writeInt(stringId(method.getGenericSignature()));
+			out.writeInt(method.getModifiers());
+			writeStrings(out, method.getExceptionNames());
+			out.writeInt(stringId(method.getDefaultValue()));
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes a type from the given record
+	 *
+	 * @param record
+	 * @param component
+	 * @param typeRoot
+	 * @return the decoded type
+	 */
+	private ApiType readType(ByteBuffer record, IApiComponent component, IApiTypeRoot typeRoot) {
+		String name = string(record);
+		String signature = string(record);
+		String genericSignature = string(record);
+		int modifiers = record.getInt();
+		String enclosingName = string(record);
+		ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingName, typeRoot);
+		type.setSuperclassName(string(record));
+		type.setSuperInterfaceNames(strings(record));
+		byte kind = record.get();
+		if ((kind & ANONYMOUS) != 0) {
+			type.setAnonymous();
+		}
+		if ((kind & LOCAL) != 0) {
+			type.setLocal();
+		}
+		if ((kind & MEMBER) != 0) {
+			type.setMemberType();
+		}
+		String simpleName = string(record);
+		if (simpleName != null) {
+			type.setSimpleName(simpleName);
+		}
+		String enclosingMethodName = string(record);
+		String enclosingMethodSignature = string(record);
+		if (enclosingMethodName != null) {
+			// an empty name means the enclosing method attribute is set
+			// without a method
+			type.setEnclosingMethodInfo(enclosingMethodName.isEmpty() ? null : enclosingMethodName,
+					enclosingMethodSignature == null || enclosingMethodSignature.isEmpty() ? null : enclosingMethodSignature);
+		}
+		for (String memberName : strings(record)) {
+			type.addMemberType(name + '$' + memberName, 0);
+		}
+		int count = record.getInt();
+		for (int i = 0; i < count; i++) {
+			String fieldName = string(record);
+			String fieldSignature = string(record);
+			String fieldGenericSignature = string(record);
+			int fieldModifiers = record.getInt();
+			Object value = null;
+			switch (record.get())
+				{
+				case VALUE_INTEGER:
+					value = Integer.valueOf(record.getInt());
+					break;
+				case VALUE_LONG:
+					value = Long.valueOf(record.getLong());
+					break;
+				case VALUE_FLOAT:
+					value = Float.valueOf(record.getFloat());
+					break;
+				case VALUE_DOUBLE:
+					value = Double.valueOf(record.getDouble());
+					break;
+				case VALUE_STRING:
+					value = string(record);
+					break;
+				default:
+					break;
+				}
+			type.addField(fieldName, fieldSignature, fieldGenericSignature, fieldModifiers, value);
+		}
+		count = record.getInt();
+		for (int i = 0; i < count; i++) {
+			String methodName = string(record);
+			String methodSignature = string(record);
+			String methodGenericSignature = string(record);
+			int methodModifiers = record.getInt();
+			ApiMethod method = type.addMethod(methodName, methodSignature, methodGenericSignature, methodModifiers, strings(record));
+			String defaultValue = string(record);
+			if (defaultValue != null) {
+				method.setDefaultValue(defaultValue);
+			}
+		}
+		return type;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolutionCache;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
@@ -81,6 +82,15 @@ public class WorkspaceBaseline extends ApiBaseline {
 		}
 	}
 
+	/**
+	 * Workspace components change with every build, so resolutions against
+	 * the workspace baseline are not cached.
+	 */
+	@Override
+	public ReferenceResolutionCache getReferenceResolutionCache() {
+		return null;
+	}
+
 	@Override
 	public void addApiComponents(IApiComponent[] components) throws CoreException {
 		if (isDisposed()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,8 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.debug.DebugOptions;
@@ -46,13 +48,17 @@ import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
 import org.eclipse.pde.api.tools.internal.JavadocTagManager;
 import org.eclipse.pde.api.tools.internal.SessionManager;
 import org.eclipse.pde.api.tools.internal.WorkspaceDeltaProcessor;
+import org.eclipse.pde.api.tools.internal.comparator.DeltaCache;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemTypes;
 import org.eclipse.pde.api.tools.internal.util.FileManager;
 import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.core.target.TargetEvents;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceReference;
+import org.osgi.service.event.EventHandler;
 import org.osgi.service.prefs.BackingStoreException;
 
 /**
@@ -198,6 +204,7 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 	private static final String WORKSPACE_DELTA_PROCESSOR = PLUGIN_ID + "/debug/workspacedeltaprocessor"; //$NON-NLS-1$
 	private static final String API_ANALYZER_DEBUG = PLUGIN_ID + "/debug/apianalyzer"; //$NON-NLS-1$
 	private static final String USE_REPORT_CONVERTER_DEBUG = PLUGIN_ID + "/debug/usereportconverter"; //$NON-NLS-1$
+	private static final String MODEL_CACHE_DEBUG = PLUGIN_ID + "/debug/modelcache"; //$NON-NLS-1$
 
 	/**
 	 * Constant used for controlling tracing in the report converter
@@ -267,6 +274,10 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 	 * Constant used for controlling tracing in the API tool builder
 	 */
 	public static boolean DEBUG_BUILDER = false;
+	/**
+	 * Constant used for controlling tracing in the API model cache
+	 */
+	public static boolean DEBUG_MODEL_CACHE = false;
 
 	public static String[] AllCompatibilityKeys = new String[] {
 			IApiProblemTypes.API_COMPONENT_REMOVED_TYPE,
@@ -368,6 +379,17 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 	 */
 	private WorkspaceDeltaProcessor deltaProcessor = null;
 
+	/**
+	 * Refreshes the baselines derived from the workspace target when it
+	 * changes
+	 */
+	private final EventHandler targetHandler = event -> {
+		Object data = event.getProperty(IEventBroker.DATA);
+		if (data instanceof ITargetDefinition) {
+			ApiBaselineManager.getManager().workspaceTargetChanged((ITargetDefinition) data);
+		}
+	};
+
 	private static final int RESOLUTION_LOG_BIT = 1;
 	private static final int BASELINE_DISPOSED_LOG_BIT = 2;
 
@@ -585,10 +607,22 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 			deltaProcessor = new WorkspaceDeltaProcessor();
 			JavaCore.addElementChangedListener(deltaProcessor, ElementChangedEvent.POST_CHANGE);
 			ResourcesPlugin.getWorkspace().addResourceChangeListener(deltaProcessor, IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_BUILD);
+			IEventBroker broker = getEventBroker();
+			if (broker != null) {
+				broker.subscribe(TargetEvents.TOPIC_WORKSPACE_TARGET_CHANGED, targetHandler);
+			}
 			checkForEEDescriptionChanges();
 		}
 	}
 
+	/**
+	 * @return the event broker of the service context of this bundle or
+	 *         <code>null</code> if there is none
+	 */
+	private IEventBroker getEventBroker() {
+		return EclipseContextFactory.getServiceContext(fBundleContext).get(IEventBroker.class);
+	}
+
 	/**
 	 * Checks if the current set of installed execution environment description
 	 * fragments differs from the last time this workspace was started. If so, a
@@ -693,7 +727,12 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		try {
+			IEventBroker broker = getEventBroker();
+			if (broker != null) {
+				broker.unsubscribe(targetHandler);
+			}
 			ApiDescriptionManager.shutdown();
+			DeltaCache.shutdown();
 			ApiBaselineManager.getManager().stop();
 			ResourcesPlugin.getWorkspace().removeSaveParticipant(PLUGIN_ID);
 			FileManager.getManager().deleteFiles();
@@ -856,5 +895,6 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 		DEBUG_WORKSPACE_DELTA_PROCESSOR = DEBUG && options.getBooleanOption(WORKSPACE_DELTA_PROCESSOR, false);
 		DEBUG_API_ANALYZER = DEBUG && options.getBooleanOption(API_ANALYZER_DEBUG, false);
 		DEBUG_USE_REPORT_CONVERTER = DEBUG && options.getBooleanOption(USE_REPORT_CONVERTER_DEBUG, false);
+		DEBUG_MODEL_CACHE = DEBUG && options.getBooleanOption(MODEL_CACHE_DEBUG, false);
 	}
 }
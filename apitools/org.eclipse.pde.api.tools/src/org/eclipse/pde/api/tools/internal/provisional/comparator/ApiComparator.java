@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -89,6 +93,10 @@ public class ApiComparator {
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * baseline and the reference.
+	 * <p>
+	 * Equivalent to: compare(referenceBaseline, baseline, visibilityModifiers,
+	 * force, 1, monitor);
+	 * </p>
 	 *
 	 * @param referenceBaseline the given API baseline which is used as the
 	 *            reference
@@ -104,6 +112,36 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 * <p>
+	 * If <code>parallelism</code> is greater than one, the API components of
+	 * the reference baseline are compared concurrently using at most that many
+	 * worker threads. The resulting delta is merged in the order of the
+	 * reference baseline components, so it is identical to the one computed
+	 * by a serial comparison.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the maximum number of API components compared at the
+	 *            same time, values lower than two mean a serial comparison
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -113,41 +151,44 @@ public class ApiComparator {
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
+		if (parallelism > 1 && apiComponents.length > 1) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				List<ForkJoinTask<IDelta[]>> tasks = new ArrayList<>(apiComponents.length);
+				for (IApiComponent apiComponent : apiComponents) {
+					if (apiComponent.isSystemComponent()) {
+						tasks.add(null);
+						continue;
 					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
+					if (baseline.getApiComponent(apiComponent.getSymbolicName()) != null) {
+						apiComponentsIds.add(apiComponent.getSymbolicName());
+					}
+					// sub-tasks must not report on the shared monitor, only
+					// the merging thread below reports progress
+					tasks.add(pool.submit(() -> {
+						if (localmonitor.isCanceled()) {
+							return null;
 						}
+						return compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, null);
+					}));
+				}
+				for (ForkJoinTask<IDelta[]> task : tasks) {
+					apiLoopMonitor.split(1);
+					if (task != null) {
+						addComponentDeltas(globalDelta, task.join());
 					}
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
+			} finally {
+				pool.shutdownNow();
+			}
+		} else {
+			for (IApiComponent apiComponent : apiComponents) {
+				apiLoopMonitor.split(1);
+				if (!apiComponent.isSystemComponent()) {
+					if (baseline.getApiComponent(apiComponent.getSymbolicName()) != null) {
+						apiComponentsIds.add(apiComponent.getSymbolicName());
+					}
+					addComponentDeltas(globalDelta, compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, localmonitor.split(1)));
 				}
 			}
 		}
@@ -167,6 +208,68 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares the given component of the reference baseline with its
+	 * counterpart in the given baseline.
+	 *
+	 * @param apiComponent the component from the reference baseline
+	 * @param referenceBaseline the reference baseline
+	 * @param baseline the baseline to compare with
+	 * @param visibilityModifiers the visibility used for the comparison
+	 * @param force a flag to force the comparison of components with the same
+	 *            versions
+	 * @param monitor
+	 * @return the deltas to add to the global delta in order, never
+	 *         <code>null</code> but possibly containing <code>null</code>
+	 *         entries
+	 */
+	private static IDelta[] compareComponent(final IApiComponent apiComponent, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new IDelta[] { new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
+					null, id, id) };
+		}
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id, versionString,
+				versionString2);
+		IDelta delta = null;
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+						monitor);
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return new IDelta[] { bundleVersionChangesDelta, delta };
+	}
+
+	/**
+	 * Adds the deltas computed by
+	 * {@link #compareComponent(IApiComponent, IApiBaseline, IApiBaseline, int, boolean, IProgressMonitor)}
+	 * to the given global delta
+	 *
+	 * @param globalDelta
+	 * @param deltas
+	 */
+	private static void addComponentDeltas(Delta globalDelta, IDelta[] deltas) {
+		if (deltas == null) {
+			return;
+		}
+		for (IDelta delta : deltas) {
+			if (delta != null && delta != NO_DELTA) {
+				globalDelta.add(delta);
+			}
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -427,7 +530,7 @@ public class ApiComparator {
 			}
 			localmonitor.split(1);
 			ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, component2, referenceBaseline, baseline, visibilityModifiers);
-			IDelta delta = comparator.getDelta(localmonitor.split(1));
+			IDelta delta = comparator.getCachedDelta(localmonitor.split(1));
 			if (ApiPlugin.DEBUG_API_COMPARATOR) {
 				IStatus status = comparator.getStatus();
 				if (status != null) {
@@ -478,7 +581,7 @@ public class ApiComparator {
 		IDelta delta = null;
 		try {
 			ClassFileComparator comparator = new ClassFileComparator(typeRoot, typeRoot2, component, component2, referenceBaseline, baseline, visibilityModifiers);
-			delta = comparator.getDelta(SubMonitor.convert(monitor));
+			delta = comparator.getCachedDelta(SubMonitor.convert(monitor));
 			if (ApiPlugin.DEBUG_API_COMPARATOR) {
 				IStatus status = comparator.getStatus();
 				if (status != null) {
@@ -542,6 +645,39 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * baselines. Nested API components with the same versions are not compared.
+	 * <p>
+	 * If <code>parallelism</code> is greater than one, the API components of
+	 * the scope are compared concurrently using at most that many worker
+	 * threads. The resulting delta is the same as the one computed by a serial
+	 * comparison.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the maximum number of API components compared at the
+	 *            same time, values lower than two mean a serial comparison
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
@@ -549,8 +685,13 @@ public class ApiComparator {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		final Set<IDelta> deltas = new HashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
+				continueOnResolverError, parallelism, localmonitor.split(1));
+		try {
+			scope.accept(visitor);
+			visitor.joinPendingComparisons();
+		} finally {
+			visitor.dispose();
+		}
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -768,7 +909,7 @@ public class ApiComparator {
 									}
 									typeRootBaseLineNames.add(typeName);
 									ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
-									IDelta delta = comparator.getDelta(visitMonitor.split(1));
+									IDelta delta = comparator.getCachedDelta(visitMonitor.split(1));
 									if (ApiPlugin.DEBUG_API_COMPARATOR) {
 										IStatus status = comparator.getStatus();
 										if (status != null) {
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.SubMonitor;
@@ -41,13 +45,74 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean containsErrors = false;
 	SubMonitor monitor;
 
+	/**
+	 * Pool used to compare API components concurrently or <code>null</code>
+	 * if the comparison is serial
+	 */
+	ForkJoinPool pool;
+	/**
+	 * Pending component comparisons in visit order, only used if
+	 * {@link #pool} is not <code>null</code>
+	 */
+	List<ForkJoinTask<IDelta>> pendingComparisons;
+
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param deltas the set to collect the resulting leaf deltas in
+	 * @param baseline the reference baseline
+	 * @param force a flag to force the comparison of components with the same
+	 *            versions
+	 * @param visibilityModifiers the visibility used for the comparison
+	 * @param continueOnResolverError if the comparison should continue even if
+	 *            a component has resolver errors
+	 * @param parallelism the maximum number of API components compared at the
+	 *            same time, values lower than two mean a serial comparison. In
+	 *            the concurrent case {@link #joinPendingComparisons()} must be
+	 *            called once the scope has been visited
+	 * @param monitor
+	 */
+	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final int parallelism, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
 		this.monitor = monitor;
+		if (parallelism > 1) {
+			this.pool = new ForkJoinPool(parallelism);
+			this.pendingComparisons = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * Waits for all the component comparisons started while visiting the
+	 * scope and collects their deltas in visit order. Does nothing for a
+	 * serial comparison.
+	 */
+	public void joinPendingComparisons() {
+		if (this.pendingComparisons == null) {
+			return;
+		}
+		for (ForkJoinTask<IDelta> task : this.pendingComparisons) {
+			this.monitor.checkCanceled();
+			collectDeltas(task.join());
+		}
+		this.pendingComparisons.clear();
+	}
+
+	/**
+	 * Releases the worker threads used for a concurrent comparison
+	 */
+	public void dispose() {
+		if (this.pool != null) {
+			this.pool.shutdownNow();
+			this.pool = null;
+		}
 	}
 
 	@Override
@@ -109,6 +174,23 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.pool != null) {
+			this.pendingComparisons.add(this.pool.submit(() -> compareComponent(referenceComponent, component)));
+		} else {
+			collectDeltas(compareComponent(referenceComponent, component));
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the given component with its reference component
+	 *
+	 * @param referenceComponent the reference component or <code>null</code>
+	 *            if the component has been added
+	 * @param component the component to compare
+	 * @return the delta for the comparison
+	 */
+	IDelta compareComponent(IApiComponent referenceComponent, IApiComponent component) {
 		final Delta globalDelta = new Delta();
 		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
 		if (referenceComponent != null) {
@@ -119,7 +201,16 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				globalDelta.add(bundleVersionChangesDelta);
 			}
 		}
-		globalDelta.accept(new DeltaVisitor() {
+		return globalDelta;
+	}
+
+	/**
+	 * Collects the leaf deltas of the given delta
+	 *
+	 * @param delta
+	 */
+	void collectDeltas(IDelta delta) {
+		delta.accept(new DeltaVisitor() {
 			@Override
 			public void endVisit(IDelta localDelta) {
 				if (localDelta.getChildren().length == 0) {
@@ -127,7 +218,6 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				}
 			}
 		});
-		return false;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,17 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -240,6 +245,9 @@ public final class ApiSearchEngine {
 	/**
 	 * Searches for all of the use of API or internal code from the given
 	 * {@link IApiComponent} within the given {@link IApiBaseline}
+	 * <p>
+	 * Equivalent to: search(baseline, requestor, reporter, 1, monitor);
+	 * </p>
 	 *
 	 * @param baseline the baseline to search within
 	 * @param requestor the requestor to use for the search
@@ -249,6 +257,32 @@ public final class ApiSearchEngine {
 	 * @throws CoreException if the search fails
 	 */
 	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+		search(baseline, requestor, reporter, 1, monitor);
+	}
+
+	/**
+	 * Searches for all of the use of API or internal code from the given
+	 * {@link IApiComponent} within the given {@link IApiBaseline}
+	 * <p>
+	 * If <code>workers</code> is greater than one and the requestor supports it
+	 * (see {@link IApiSearchRequestor#newConcurrentRequestor()}), the elements
+	 * of the scope are searched concurrently, one component per worker at a
+	 * time. Each component is searched with its own requestor and collects its
+	 * references on its own before handing them to the reporter, which must
+	 * then accept results for different components from several threads.
+	 * </p>
+	 *
+	 * @param baseline the baseline to search within
+	 * @param requestor the requestor to use for the search
+	 * @param reporter the reporter to use when reporting any search results to
+	 *            the user
+	 * @param workers the maximum number of components searched at the same
+	 *            time, values lower than two mean a serial search
+	 * @param monitor the monitor to report progress to
+	 * @throws CoreException if the search fails
+	 * @since 1.3.100
+	 */
+	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, int workers, IProgressMonitor monitor) throws CoreException {
 		if (baseline == null || reporter == null || requestor == null) {
 			return;
 		}
@@ -260,6 +294,10 @@ public final class ApiSearchEngine {
 		fRequestorContext = computeContext(requestor);
 		IApiElement[] scopeelements = scope.getApiElements();
 		SubMonitor localmonitor = SubMonitor.convert(monitor, MessageFormat.format(SearchMessages.ApiSearchEngine_searching_projects, fRequestorContext), scopeelements.length * 2 + 1);
+		if (workers > 1 && scopeelements.length > 1 && requestor.newConcurrentRequestor() != null) {
+			searchConcurrently(requestor, scopeelements, reporter, workers, localmonitor);
+			return;
+		}
 		long start = System.currentTimeMillis();
 		long loopstart = 0;
 		String taskname = null;
@@ -299,6 +337,88 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Searches the given scope elements on a dedicated pool of workers. The
+	 * elements are grouped by component so that the references of a component
+	 * are always reported from a single worker.
+	 *
+	 * @param requestor
+	 * @param scopeelements
+	 * @param reporter
+	 * @param workers
+	 * @param localmonitor the monitor of the search, only the calling thread
+	 *            reports progress to it
+	 * @throws CoreException if the search of some elements failed
+	 */
+	private void searchConcurrently(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, int workers, SubMonitor localmonitor) throws CoreException {
+		Map<IApiComponent, List<IApiElement>> groups = new LinkedHashMap<>();
+		for (IApiElement element : scopeelements) {
+			groups.computeIfAbsent(element.getApiComponent(), c -> new ArrayList<>()).add(element);
+		}
+		// workers only check the cancellation of the search
+		IProgressMonitor workermonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return localmonitor.isCanceled();
+			}
+		};
+		long start = System.currentTimeMillis();
+		MultiStatus mstatus = null;
+		ForkJoinPool pool = new ForkJoinPool(workers);
+		try {
+			List<ForkJoinTask<List<CoreException>>> tasks = new ArrayList<>(groups.size());
+			for (List<IApiElement> elements : groups.values()) {
+				IApiSearchRequestor componentrequestor = requestor.newConcurrentRequestor();
+				tasks.add(pool.submit(() -> {
+					List<CoreException> errors = new ArrayList<>(1);
+					for (IApiElement element : elements) {
+						if (workermonitor.isCanceled()) {
+							break;
+						}
+						long loopstart = System.currentTimeMillis();
+						if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+							System.out.println("Searching " + element.getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+						try {
+							searchReferences(componentrequestor, element, reporter, workermonitor);
+						} catch (CoreException ce) {
+							errors.add(ce);
+						}
+						if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+							System.out.println("Searched " + element.getApiComponent().getSymbolicName() + " in " //$NON-NLS-1$ //$NON-NLS-2$
+									+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
+						}
+					}
+					return errors;
+				}));
+			}
+			int index = 0;
+			for (List<IApiElement> elements : groups.values()) {
+				localmonitor.setTaskName(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+						elements.get(0).getApiComponent().getSymbolicName(), fRequestorContext));
+				List<CoreException> errors = tasks.get(index++).join();
+				for (CoreException ce : errors) {
+					if (mstatus == null) {
+						mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+					}
+					mstatus.add(Status.error(ce.getMessage(), ce));
+				}
+				if (localmonitor.isCanceled()) {
+					return;
+				}
+				localmonitor.worked(elements.size() * 2);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		}
+		if (mstatus != null) {
+			throw new CoreException(mstatus);
+		}
+	}
+
 	/**
 	 * Computes the process context (label)
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -134,4 +134,23 @@ public interface IApiSearchRequestor {
 	 *         otherwise
 	 */
 	public boolean includesIllegalUse();
+
+	/**
+	 * Returns a requestor equivalent to this one that can be used to search
+	 * another element at the same time as this requestor is used. The
+	 * {@link ApiSearchEngine} asks for one such requestor per component when
+	 * it searches with several workers.
+	 * <p>
+	 * The default implementation returns <code>null</code>, meaning that this
+	 * requestor does not support concurrent searches and that the elements are
+	 * searched one after the other.
+	 * </p>
+	 *
+	 * @return a new requestor with the same settings as this one, or
+	 *         <code>null</code> if concurrent searches are not supported
+	 * @since 1.3.100
+	 */
+	public default IApiSearchRequestor newConcurrentRequestor() {
+		return null;
+	}
 }
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Search reporter that writes the references of a use scan to a single binary
+ * reference store rather than to a tree of XML files. The metadata, counts and
+ * skipped components are still written as XML.
+ * <p>
+ * The store ({@link #REFERENCES_FILE}) is made of:
+ * <ul>
+ * <li>a header: plug-in id, kind and format version</li>
+ * <li>a sequence of chunks, each holding the references to one referenced
+ * component reported by one call to {@link #reportResults}. A chunk starts
+ * with its own string table, followed by the reference records encoded as
+ * indexes into that table</li>
+ * <li>an index of the chunks by referenced component, giving the offset and
+ * length of each chunk and the referenced root type names it contains</li>
+ * <li>a trailer: the offset of the index and {@link #MAGIC}</li>
+ * </ul>
+ * The store is written sequentially and is only complete once
+ * {@link #reportCounts()} has been called. It is read back by
+ * {@link BinaryUseScanReader}.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public class BinarySearchReporter extends XmlSearchReporter {
+
+	/**
+	 * Name of the binary reference store in the report location
+	 */
+	public static final String REFERENCES_FILE = "references.bin"; //$NON-NLS-1$
+
+	/**
+	 * Kind written in the header of the store
+	 */
+	static final String KIND = "USE_SCAN"; //$NON-NLS-1$
+
+	/**
+	 * Version of the store format
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * Marker written at the very end of a complete store
+	 */
+	static final int MAGIC = 0x55534553;
+
+	/**
+	 * Length of the trailer: index offset and magic
+	 */
+	static final int TRAILER_LENGTH = 12;
+
+	/**
+	 * Index entry of one chunk of the store
+	 */
+	static class Chunk {
+		final String id;
+		final String version;
+		final long offset;
+		final int length;
+		final Set<String> types;
+
+		Chunk(String id, String version, long offset, int length, Set<String> types) {
+			this.id = id;
+			this.version = version;
+			this.offset = offset;
+			this.length = length;
+			this.types = types;
+		}
+	}
+
+	private DataOutputStream fOutput = null;
+	private long fOffset = 0;
+	private final List<Chunk> fChunks = new ArrayList<>();
+	private boolean fClosed = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the absolute path in the local file system to the folder
+	 *            to write the reports to
+	 * @param debug if debugging infos should be written out to the console
+	 */
+	public BinarySearchReporter(String location, boolean debug) {
+		super(location, debug);
+	}
+
+	@Override
+	protected void writeReferences(IReferenceDescriptor[] descriptors) {
+		if (getLocation() == null) {
+			return;
+		}
+		// collate by referenced component, the same way the XML writer
+		// removes duplicate references
+		Map<IComponentDescriptor, Set<IReferenceDescriptor>> collated = new HashMap<>();
+		for (IReferenceDescriptor descriptor : descriptors) {
+			collated.computeIfAbsent(descriptor.getReferencedComponent(), c -> new LinkedHashSet<>()).add(descriptor);
+		}
+		for (Map.Entry<IComponentDescriptor, Set<IReferenceDescriptor>> entry : collated.entrySet()) {
+			IComponentDescriptor component = entry.getKey();
+			try {
+				Set<String> types = new TreeSet<>();
+				byte[] chunk = encodeChunk(entry.getValue(), types);
+				append(component, chunk, types);
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to write references to " + component.getId(), e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Encodes the given references to one referenced component as a chunk
+	 *
+	 * @param references the references to encode
+	 * @param types collects the referenced root type names
+	 * @return the encoded chunk
+	 * @throws IOException
+	 */
+	private byte[] encodeChunk(Set<IReferenceDescriptor> references, Set<String> types) throws IOException {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		ByteArrayOutputStream records = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(records);
+		out.writeInt(references.size());
+		for (IReferenceDescriptor reference : references) {
+			IComponentDescriptor origin = reference.getComponent();
+			out.writeInt(indexOf(strings, origin.getId()));
+			out.writeInt(indexOf(strings, origin.getVersion()));
+			// same visibility grouping as the XML writer
+			int visibility = (reference.getReferenceFlags() & IReference.F_ILLEGAL) > 0 ? VisibilityModifiers.ILLEGAL_API : reference.getVisibility();
+			out.writeInt(visibility);
+			IMemberDescriptor target = reference.getReferencedMember();
+			writeMember(out, strings, target);
+			types.add(getRootTypeName(target));
+			writeMember(out, strings, reference.getMember());
+			out.writeInt(reference.getLineNumber());
+			out.writeInt(reference.getReferenceKind());
+			out.writeInt(reference.getReferenceFlags());
+			String[] messages = reference.getProblemMessages();
+			if (messages == null) {
+				out.writeInt(-1);
+			} else {
+				out.writeInt(messages.length);
+				for (String message : messages) {
+					out.writeInt(indexOf(strings, message));
+				}
+			}
+		}
+		out.flush();
+		ByteArrayOutputStream chunk = new ByteArrayOutputStream(records.size() + strings.size() * 16);
+		DataOutputStream cout = new DataOutputStream(chunk);
+		cout.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			cout.writeUTF(string);
+		}
+		records.writeTo(cout);
+		cout.flush();
+		return chunk.toByteArray();
+	}
+
+	/**
+	 * Writes the given member as its element type followed by the indexes of
+	 * its type name, name and signature
+	 */
+	private static void writeMember(DataOutputStream out, Map<String, Integer> strings, IMemberDescriptor member) throws IOException {
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> {
+				out.writeByte(IElementDescriptor.TYPE);
+				out.writeInt(indexOf(strings, ((IReferenceTypeDescriptor) member).getQualifiedName()));
+				out.writeInt(-1);
+				out.writeInt(-1);
+			}
+			case IElementDescriptor.METHOD -> {
+				out.writeByte(IElementDescriptor.METHOD);
+				out.writeInt(indexOf(strings, member.getEnclosingType().getQualifiedName()));
+				out.writeInt(indexOf(strings, member.getName()));
+				out.writeInt(indexOf(strings, ((IMethodDescriptor) member).getSignature()));
+			}
+			default -> {
+				out.writeByte(IElementDescriptor.FIELD);
+				out.writeInt(indexOf(strings, member.getEnclosingType().getQualifiedName()));
+				out.writeInt(indexOf(strings, member.getName()));
+				out.writeInt(-1);
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the given string in the table, adding it if needed
+	 *
+	 * @return the index or <code>-1</code> for <code>null</code>
+	 */
+	private static int indexOf(Map<String, Integer> strings, String string) {
+		if (string == null) {
+			return -1;
+		}
+		return strings.computeIfAbsent(string, s -> Integer.valueOf(strings.size())).intValue();
+	}
+
+	/**
+	 * Returns the qualified name of the top level type of the given member
+	 *
+	 * @param member
+	 * @return the root type name
+	 */
+	static String getRootTypeName(IMemberDescriptor member) {
+		String name;
+		if (member instanceof IReferenceTypeDescriptor) {
+			name = ((IReferenceTypeDescriptor) member).getQualifiedName();
+		} else {
+			name = member.getEnclosingType().getQualifiedName();
+		}
+		int index = name.indexOf('$');
+		if (index > -1) {
+			return name.substring(0, index);
+		}
+		return name;
+	}
+
+	/**
+	 * Appends the given chunk to the store and records it in the index
+	 */
+	private synchronized void append(IComponentDescriptor component, byte[] chunk, Set<String> types) throws IOException {
+		if (fClosed) {
+			return;
+		}
+		if (fOutput == null) {
+			File root = new File(getLocation());
+			if (!root.exists()) {
+				root.mkdirs();
+			}
+			fOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(new File(root, REFERENCES_FILE))));
+			fOutput.writeUTF(ApiPlugin.PLUGIN_ID);
+			fOutput.writeUTF(KIND);
+			fOutput.writeInt(VERSION);
+			fOffset = fOutput.size();
+		}
+		fOutput.write(chunk);
+		fChunks.add(new Chunk(component.getId(), component.getVersion(), fOffset, chunk.length, types));
+		fOffset += chunk.length;
+	}
+
+	/**
+	 * Writes the index and trailer of the store and closes it
+	 */
+	synchronized void close() {
+		if (fClosed) {
+			return;
+		}
+		fClosed = true;
+		if (fOutput == null) {
+			return;
+		}
+		if (isDebug()) {
+			System.out.println("Writing index of " + fChunks.size() + " reference chunks..."); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		try (DataOutputStream out = fOutput) {
+			out.writeInt(fChunks.size());
+			for (Chunk chunk : fChunks) {
+				out.writeUTF(chunk.id);
+				out.writeBoolean(chunk.version != null);
+				if (chunk.version != null) {
+					out.writeUTF(chunk.version);
+				}
+				out.writeLong(chunk.offset);
+				out.writeInt(chunk.length);
+				out.writeInt(chunk.types.size());
+				for (String type : chunk.types) {
+					out.writeUTF(type);
+				}
+			}
+			out.writeLong(fOffset);
+			out.writeInt(MAGIC);
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to write the index of " + REFERENCES_FILE, e); //$NON-NLS-1$
+		} finally {
+			fOutput = null;
+			fChunks.clear();
+		}
+	}
+
+	@Override
+	public synchronized void reportCounts() {
+		close();
+		super.reportCounts();
+	}
+}
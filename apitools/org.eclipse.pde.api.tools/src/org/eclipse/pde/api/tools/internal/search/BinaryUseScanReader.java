@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.search.BinarySearchReporter.Chunk;
+
+/**
+ * Reads the binary reference store written by a {@link BinarySearchReporter}.
+ * <p>
+ * Only the index of the store is read when the reader is opened, chunks of
+ * references are read on demand, so looking up the references to a single
+ * component or type only reads the matching chunks.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public class BinaryUseScanReader implements AutoCloseable {
+
+	private final File fFile;
+	private RandomAccessFile fInput = null;
+	private List<Chunk> fChunks = null;
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the use scan location containing the store
+	 */
+	public BinaryUseScanReader(File location) {
+		fFile = new File(location, BinarySearchReporter.REFERENCES_FILE);
+	}
+
+	/**
+	 * Returns if the given location contains a binary reference store
+	 *
+	 * @param location the use scan location
+	 * @return <code>true</code> if the location has a binary reference store,
+	 *         <code>false</code> otherwise
+	 */
+	public static boolean isBinaryScan(File location) {
+		return new File(location, BinarySearchReporter.REFERENCES_FILE).isFile();
+	}
+
+	/**
+	 * Opens the store and reads its index
+	 *
+	 * @throws IOException if the store cannot be read or is not complete
+	 */
+	public synchronized void open() throws IOException {
+		if (fInput != null) {
+			return;
+		}
+		RandomAccessFile input = new RandomAccessFile(fFile, "r"); //$NON-NLS-1$
+		try {
+			if (!ApiPlugin.PLUGIN_ID.equals(input.readUTF()) || !BinarySearchReporter.KIND.equals(input.readUTF()) || input.readInt() != BinarySearchReporter.VERSION) {
+				throw new IOException(NLS.bind(SearchMessages.BinaryUseScanReader_invalid_store, fFile.getAbsolutePath()));
+			}
+			long length = input.length();
+			if (length < BinarySearchReporter.TRAILER_LENGTH) {
+				throw new IOException(NLS.bind(SearchMessages.BinaryUseScanReader_invalid_store, fFile.getAbsolutePath()));
+			}
+			input.seek(length - BinarySearchReporter.TRAILER_LENGTH);
+			long indexOffset = input.readLong();
+			if (input.readInt() != BinarySearchReporter.MAGIC) {
+				throw new IOException(NLS.bind(SearchMessages.BinaryUseScanReader_invalid_store, fFile.getAbsolutePath()));
+			}
+			byte[] bytes = new byte[(int) (length - BinarySearchReporter.TRAILER_LENGTH - indexOffset)];
+			input.seek(indexOffset);
+			input.readFully(bytes);
+			DataInputStream index = new DataInputStream(new ByteArrayInputStream(bytes));
+			int count = index.readInt();
+			List<Chunk> chunks = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				String id = index.readUTF();
+				String version = index.readBoolean() ? index.readUTF() : null;
+				long offset = index.readLong();
+				int chunkLength = index.readInt();
+				int typeCount = index.readInt();
+				Set<String> types = new LinkedHashSet<>(typeCount);
+				for (int j = 0; j < typeCount; j++) {
+					types.add(index.readUTF());
+				}
+				chunks.add(new Chunk(id, version, offset, chunkLength, types));
+			}
+			fChunks = chunks;
+			fInput = input;
+		} catch (IOException e) {
+			input.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (fInput != null) {
+			fInput.close();
+			fInput = null;
+			fChunks = null;
+		}
+	}
+
+	/**
+	 * Returns the references to the component with the given id, optionally
+	 * limited to the given root types.
+	 *
+	 * @param componentId the symbolic name of the referenced component
+	 * @param types the qualified names of the referenced top level types or
+	 *            <code>null</code> for all references to the component
+	 * @return the references, never <code>null</code>
+	 * @throws IOException
+	 */
+	public synchronized List<IReferenceDescriptor> getReferences(String componentId, Collection<String> types) throws IOException {
+		open();
+		List<IReferenceDescriptor> references = new ArrayList<>();
+		for (Chunk chunk : fChunks) {
+			if (chunk.id.equals(componentId) && (types == null || containsAny(chunk.types, types))) {
+				for (IReferenceDescriptor reference : readChunk(chunk)) {
+					if (types == null || types.contains(BinarySearchReporter.getRootTypeName(reference.getReferencedMember()))) {
+						references.add(reference);
+					}
+				}
+			}
+		}
+		return references;
+	}
+
+	private static boolean containsAny(Set<String> set, Collection<String> values) {
+		for (String value : values) {
+			if (set.contains(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Visits all the references of the store with the given visitor, in the
+	 * same order as the {@link UseScanParser} visits an XML use scan: by
+	 * referenced component, then by referencing component, then by referenced
+	 * member.
+	 *
+	 * @param monitor progress monitor
+	 * @param visitor the visitor
+	 * @throws IOException
+	 */
+	public synchronized void read(IProgressMonitor monitor, UseScanVisitor visitor) throws IOException {
+		open();
+		Map<String, List<Chunk>> targets = new TreeMap<>();
+		for (Chunk chunk : fChunks) {
+			targets.computeIfAbsent(chunk.id + " (" + chunk.version + ')', k -> new ArrayList<>()).add(chunk); //$NON-NLS-1$
+		}
+		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, targets.size());
+		visitor.visitScan();
+		try {
+			for (List<Chunk> chunks : targets.values()) {
+				Chunk first = chunks.get(0);
+				IComponentDescriptor target = Factory.componentDescriptor(first.id, first.version);
+				if (visitor.visitComponent(target)) {
+					visitReferencingComponents(chunks, visitor, localmonitor);
+				}
+				localmonitor.split(1);
+				visitor.endVisitComponent(target);
+			}
+		} finally {
+			visitor.endVisitScan();
+		}
+	}
+
+	/**
+	 * Visits the references of the given chunks of one referenced component
+	 */
+	private void visitReferencingComponents(List<Chunk> chunks, UseScanVisitor visitor, SubMonitor monitor) throws IOException {
+		// referencing component -> visibility / reference type group ->
+		// referenced member -> references
+		Map<String, Map<Integer, Map<IMemberDescriptor, Set<IReferenceDescriptor>>>> origins = new TreeMap<>();
+		Map<String, IComponentDescriptor> components = new HashMap<>();
+		for (Chunk chunk : chunks) {
+			for (IReferenceDescriptor reference : readChunk(chunk)) {
+				IComponentDescriptor component = reference.getComponent();
+				String key = component.getId() + " (" + component.getVersion() + ')'; //$NON-NLS-1$
+				components.putIfAbsent(key, component);
+				Integer group = Integer.valueOf(reference.getVisibility() << 8 | (reference.getReferenceType() & 0xFF));
+				origins.computeIfAbsent(key, k -> new TreeMap<>()).computeIfAbsent(group, g -> new LinkedHashMap<>()).computeIfAbsent(reference.getReferencedMember(), m -> new LinkedHashSet<>()).add(reference);
+			}
+		}
+		for (Map.Entry<String, Map<Integer, Map<IMemberDescriptor, Set<IReferenceDescriptor>>>> entry : origins.entrySet()) {
+			IComponentDescriptor component = components.get(entry.getKey());
+			if (visitor.visitReferencingComponent(component)) {
+				monitor.subTask(NLS.bind(SearchMessages.UseScanParser_analyzing_references, new String[] { entry.getKey() }));
+				for (Map<IMemberDescriptor, Set<IReferenceDescriptor>> members : entry.getValue().values()) {
+					for (Map.Entry<IMemberDescriptor, Set<IReferenceDescriptor>> member : members.entrySet()) {
+						if (visitor.visitMember(member.getKey())) {
+							for (IReferenceDescriptor reference : member.getValue()) {
+								visitor.visitReference(reference);
+							}
+						}
+						visitor.endVisitMember(member.getKey());
+					}
+				}
+			}
+			visitor.endVisitReferencingComponent(component);
+		}
+	}
+
+	/**
+	 * Reads the references of the given chunk
+	 *
+	 * @param chunk the chunk to read
+	 * @return the references of the chunk
+	 * @throws IOException
+	 */
+	private List<IReferenceDescriptor> readChunk(Chunk chunk) throws IOException {
+		byte[] bytes = new byte[chunk.length];
+		fInput.seek(chunk.offset);
+		fInput.readFully(bytes);
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		IComponentDescriptor target = Factory.componentDescriptor(chunk.id, chunk.version);
+		Map<String, IComponentDescriptor> components = new HashMap<>();
+		int count = in.readInt();
+		List<IReferenceDescriptor> references = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String id = string(strings, in.readInt());
+			String version = string(strings, in.readInt());
+			IComponentDescriptor origin = components.computeIfAbsent(id + ' ' + version, k -> Factory.componentDescriptor(id, version));
+			int visibility = in.readInt();
+			IMemberDescriptor targetMember = readMember(in, strings);
+			IMemberDescriptor originMember = readMember(in, strings);
+			int line = in.readInt();
+			int kind = in.readInt();
+			int flags = in.readInt();
+			int messageCount = in.readInt();
+			String[] messages = null;
+			if (messageCount >= 0) {
+				messages = new String[messageCount];
+				for (int j = 0; j < messageCount; j++) {
+					messages[j] = string(strings, in.readInt());
+				}
+			}
+			references.add(Factory.referenceDescriptor(origin, originMember, line, target, targetMember, kind, flags, visibility, messages));
+		}
+		return references;
+	}
+
+	private static IMemberDescriptor readMember(DataInputStream in, String[] strings) throws IOException {
+		int type = in.readByte();
+		String typeName = string(strings, in.readInt());
+		String name = string(strings, in.readInt());
+		String signature = string(strings, in.readInt());
+		return switch (type)
+			{
+			case IElementDescriptor.TYPE -> Factory.typeDescriptor(typeName);
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(typeName, name, signature);
+			default -> Factory.fieldDescriptor(typeName, name);
+			};
+	}
+
+	private static String string(String[] strings, int index) {
+		return index < 0 ? null : strings[index];
+	}
+}
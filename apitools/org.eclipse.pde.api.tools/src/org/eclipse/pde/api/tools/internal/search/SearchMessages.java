@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ public class SearchMessages extends NLS {
 	public static String ApiSearchEngine_searching_for_use_from;
 	public static String ApiSearchEngine_searching_project;
 	public static String ApiSearchEngine_searching_projects;
+	public static String BinaryUseScanReader_invalid_store;
 	public static String ConsumerReportConvertor_BackLinkToConsumer;
 	public static String ConsumerReportConvertor_ConsumerListHeader;
 	public static String ConsumerReportConvertor_ConsumerTitle;
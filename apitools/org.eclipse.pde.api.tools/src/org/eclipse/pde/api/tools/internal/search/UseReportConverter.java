@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,11 @@ import java.util.Map.Entry;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -41,6 +46,7 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -94,6 +100,7 @@ public class UseReportConverter extends HTMLConvertor {
 		Member currentmember = null;
 		HashMap<IReferenceTypeDescriptor, Type> keys = new HashMap<>();
 		ArrayList<Type> referees = new ArrayList<>();
+		PageWriter pagewriter = null;
 
 		/**
 		 * Returns if the reference should be reported or not
@@ -139,28 +146,21 @@ public class UseReportConverter extends HTMLConvertor {
 
 		@Override
 		public void endVisitComponent(IComponentDescriptor target) {
-			try {
-				long start = 0;
-				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
-					System.out.println("Writing report for bundle: " + target.getId()); //$NON-NLS-1$
-					start = System.currentTimeMillis();
-				}
-				if (this.currentreport.counts.getTotalRefCount() > 0) {
-					writeReferencedMemberPage(this.currentreport, this.referees);
+			Report report = this.currentreport;
+			List<Type> componentreferees = this.referees;
+			// the pages may still be written from the report and referees
+			// while the next component is visited
+			this.keys = new HashMap<>();
+			this.referees = new ArrayList<>();
+			if (report.counts.getTotalRefCount() > 0) {
+				if (this.pagewriter != null) {
+					this.pagewriter.write(target, report, componentreferees);
 				} else {
-					this.reports.remove(this.currentreport);
-				}
-				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
-					System.out.println("done in: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+					writeReport(target, report, componentreferees);
 				}
-			} catch (Exception e) {
-				ApiPlugin.log(e);
-			} finally {
-				// clear any children as we have written them out - keep the
-				// report object to write a sorted index page
-				this.currentreport.children.clear();
-				this.keys.clear();
-				this.referees.clear();
+			} else {
+				this.reports.remove(report);
+				report.children.clear();
 			}
 		}
 
@@ -363,6 +363,58 @@ public class UseReportConverter extends HTMLConvertor {
 		}
 	}
 
+	/**
+	 * Writes the pages of the referenced components on a pool of workers. At
+	 * most two reports per worker are waiting to be written, so the parser
+	 * never gets far ahead of the workers
+	 */
+	final class PageWriter {
+		private final ExecutorService executor;
+		private final Semaphore pending;
+
+		PageWriter(int workers) {
+			this.executor = Executors.newFixedThreadPool(workers);
+			this.pending = new Semaphore(workers * 2);
+		}
+
+		/**
+		 * Queues the pages of the given report to be written, waiting for a
+		 * worker to catch up if too many reports are pending
+		 *
+		 * @param target the referenced component
+		 * @param report the report of the component
+		 * @param referees the listing of referencing bundles
+		 */
+		void write(IComponentDescriptor target, Report report, List<Type> referees) {
+			try {
+				this.pending.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				writeReport(target, report, referees);
+				return;
+			}
+			this.executor.execute(() -> {
+				try {
+					writeReport(target, report, referees);
+				} finally {
+					this.pending.release();
+				}
+			});
+		}
+
+		/**
+		 * Waits for all the queued pages to be written
+		 *
+		 * @throws InterruptedException
+		 */
+		void close() throws InterruptedException {
+			this.executor.shutdown();
+			while (!this.executor.awaitTermination(1, TimeUnit.SECONDS)) {
+				// keep waiting
+			}
+		}
+	}
+
 	/**
 	 * Comparator for use report items
 	 */
@@ -584,6 +636,8 @@ public class UseReportConverter extends HTMLConvertor {
 	SAXParser parser = null;
 	private UseMetadata metadata = null;
 	private int filteredCount = -1;
+	private int parallelism = 1;
+	private final Map<String, Templates> templates = new ConcurrentHashMap<>();
 	Pattern[] topatterns = null;
 	Pattern[] frompatterns = null;
 
@@ -654,6 +708,18 @@ public class UseReportConverter extends HTMLConvertor {
 		return this.hasmissing;
 	}
 
+	/**
+	 * Sets the number of workers writing the pages of the referenced
+	 * components while the use scan is parsed. With a single worker (the
+	 * default) the pages are written by the parsing thread.
+	 *
+	 * @param workers the number of workers
+	 * @since 1.3.100
+	 */
+	public void setParallelism(int workers) {
+		this.parallelism = Math.max(1, workers);
+	}
+
 	/**
 	 * Runs the converter on the given locations
 	 */
@@ -726,10 +792,47 @@ public class UseReportConverter extends HTMLConvertor {
 	protected List<?> parse(IProgressMonitor monitor) throws Exception {
 		UseScanParser lparser = new UseScanParser();
 		Visitor convertor = new Visitor();
-		lparser.parse(getXmlLocation(), monitor, convertor);
+		if (this.parallelism > 1) {
+			convertor.pagewriter = new PageWriter(this.parallelism);
+		}
+		try {
+			lparser.parse(getXmlLocation(), monitor, convertor);
+		} finally {
+			if (convertor.pagewriter != null) {
+				convertor.pagewriter.close();
+			}
+		}
 		return convertor.reports;
 	}
 
+	/**
+	 * Writes the pages of the given report and then drops its children, only
+	 * the report counts are kept to write the index page
+	 *
+	 * @param target the referenced component
+	 * @param report the report of the component
+	 * @param referees the listing of referencing bundles
+	 */
+	void writeReport(IComponentDescriptor target, Report report, List<Type> referees) {
+		try {
+			long start = 0;
+			if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+				System.out.println("Writing report for bundle: " + target.getId()); //$NON-NLS-1$
+				start = System.currentTimeMillis();
+			}
+			writeReferencedMemberPage(report, referees);
+			if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+				System.out.println("done in: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		} catch (Exception e) {
+			ApiPlugin.log(e);
+		} finally {
+			// clear any children as we have written them out - keep the
+			// report object to write a sorted index page
+			report.children.clear();
+		}
+	}
+
 	/**
 	 * Returns the handle to the default parser, caches the handle once it has
 	 * been created
@@ -793,19 +896,46 @@ public class UseReportConverter extends HTMLConvertor {
 	 * @throws TransformerException
 	 */
 	protected void applyXSLT(File xsltFile, File xmlfile, File htmloutput) throws TransformerException, Exception {
+		Transformer former = getTemplates(xsltFile).newTransformer();
+		former.transform(new StreamSource(xmlfile), new StreamResult(htmloutput));
+	}
+
+	/**
+	 * Returns the compiled form of the given XSLT, compiling it on first use
+	 *
+	 * @param xsltFile the XSLT file or <code>null</code> to use the default
+	 *            XSLT
+	 * @return the compiled XSLT
+	 * @throws Exception if the XSLT cannot be found or compiled
+	 */
+	Templates getTemplates(File xsltFile) throws Exception {
+		String key = xsltFile != null ? xsltFile.getAbsolutePath() : DEFAULT_XSLT;
+		Templates compiled = this.templates.get(key);
+		if (compiled != null) {
+			return compiled;
+		}
 		Source xslt = null;
-		if (xsltFile != null) {
-			xslt = new StreamSource(xsltFile);
-		} else {
-			InputStream defaultXsltInputStream = UseReportConverter.class.getResourceAsStream(DEFAULT_XSLT);
+		InputStream defaultXsltInputStream = null;
+		try {
+			if (xsltFile != null) {
+				xslt = new StreamSource(xsltFile);
+			} else {
+				defaultXsltInputStream = UseReportConverter.class.getResourceAsStream(DEFAULT_XSLT);
+				if (defaultXsltInputStream != null) {
+					xslt = new StreamSource(new BufferedInputStream(defaultXsltInputStream));
+				}
+			}
+			if (xslt == null) {
+				throw new Exception(SearchMessages.UseReportConverter_no_xstl_specified);
+			}
+			compiled = TransformerFactory.newInstance().newTemplates(xslt);
+		} finally {
 			if (defaultXsltInputStream != null) {
-				xslt = new StreamSource(new BufferedInputStream(defaultXsltInputStream));
+				defaultXsltInputStream.close();
 			}
 		}
-		if (xslt == null) {
-			throw new Exception(SearchMessages.UseReportConverter_no_xstl_specified);
-		}
-		applyXSLT(xslt, xmlfile, htmloutput);
+		Templates previous = this.templates.putIfAbsent(key, compiled);
+		return previous != null ? previous : compiled;
 	}
 
 	/**
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Index of the references of one API use scan location, keyed by referenced
+ * component and referenced root type.
+ * <p>
+ * Use scans written by a {@link BinarySearchReporter} are their own index. XML
+ * use scans are parsed once and saved as a binary reference store in the
+ * state location of the API tools plug-in, together with the time stamp of the
+ * scan. The saved store is used as long as the time stamp of the scan does not
+ * change.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+final class UseScanIndex {
+
+	/**
+	 * Name of the folder containing the saved indexes in the state location
+	 */
+	static final String INDEX_FOLDER = "api_use_scan_index"; //$NON-NLS-1$
+
+	/**
+	 * Name of the file recording the scanned location and its time stamp
+	 */
+	static final String STAMP_FILE = "scan.stamp"; //$NON-NLS-1$
+
+	private final File fStore;
+
+	private UseScanIndex(File store) {
+		fStore = store;
+	}
+
+	/**
+	 * Returns the index of the given use scan location, creating or updating
+	 * the saved index of an XML use scan as needed.
+	 *
+	 * @param location the exact location of a use scan
+	 * @param monitor progress monitor
+	 * @return the index or <code>null</code> if the location cannot be indexed
+	 * @throws Exception if the XML use scan cannot be parsed
+	 */
+	static UseScanIndex getIndex(String location, IProgressMonitor monitor) throws Exception {
+		File root = new File(location);
+		if (BinaryUseScanReader.isBinaryScan(root)) {
+			return new UseScanIndex(root);
+		}
+		if (!ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		IPath path = ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).append(Integer.toHexString(root.getAbsolutePath().hashCode()));
+		File store = path.toFile();
+		long[] stamp = getStamp(root);
+		if (!isCurrent(store, root.getAbsolutePath(), stamp)) {
+			long start = System.currentTimeMillis();
+			if (store.exists()) {
+				Util.delete(store);
+			}
+			createIndex(location, store, monitor);
+			writeStamp(store, root.getAbsolutePath(), stamp);
+			if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+				System.out.println("Indexed API use scan " + location + " in: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		return new UseScanIndex(store);
+	}
+
+	/**
+	 * Adds the references to the given component to the collection
+	 *
+	 * @param component the referenced component
+	 * @param types the referenced root types to add references to or
+	 *            <code>null</code> to add all the references to the component
+	 * @param references the collection to add to
+	 * @throws IOException
+	 */
+	void addReferences(IApiComponent component, String[] types, IReferenceCollection references) throws IOException {
+		if (!BinaryUseScanReader.isBinaryScan(fStore)) {
+			// nothing was referenced in the scan
+			return;
+		}
+		// the store is not kept open between lookups so the scan can be
+		// replaced at any time
+		try (BinaryUseScanReader reader = new BinaryUseScanReader(fStore)) {
+			List<IReferenceDescriptor> found = reader.getReferences(component.getSymbolicName(), types == null || types.length == 0 ? null : Arrays.asList(types));
+			for (IReferenceDescriptor reference : found) {
+				references.add(BinarySearchReporter.getRootTypeName(reference.getReferencedMember()), reference);
+			}
+		}
+	}
+
+	/**
+	 * Parses the XML use scan at the given location and saves its references
+	 * as a binary reference store
+	 */
+	private static void createIndex(String location, File store, IProgressMonitor monitor) throws Exception {
+		BinarySearchReporter writer = new BinarySearchReporter(store.getAbsolutePath(), false);
+		try {
+			new UseScanParser().parse(location, monitor, new UseScanVisitor() {
+				List<IReferenceDescriptor> fReferences = new ArrayList<>();
+
+				@Override
+				public void visitReference(IReferenceDescriptor reference) {
+					fReferences.add(reference);
+				}
+
+				@Override
+				public void endVisitComponent(IComponentDescriptor target) {
+					if (!fReferences.isEmpty()) {
+						writer.writeReferences(fReferences.toArray(new IReferenceDescriptor[fReferences.size()]));
+						fReferences.clear();
+					}
+				}
+			});
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Returns the time stamp of the XML use scan rooted at the given folder:
+	 * the number of files in the scan and their latest modification time
+	 */
+	private static long[] getStamp(File root) {
+		long[] stamp = new long[2];
+		File[] files = Util.getAllFiles(root, pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml")); //$NON-NLS-1$
+		if (files != null) {
+			stamp[0] = files.length;
+			for (File file : files) {
+				stamp[1] = Math.max(stamp[1], file.lastModified());
+			}
+		}
+		return stamp;
+	}
+
+	private static boolean isCurrent(File store, String location, long[] stamp) {
+		File file = new File(store, STAMP_FILE);
+		if (!file.exists()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			return location.equals(in.readUTF()) && in.readLong() == stamp[0] && in.readLong() == stamp[1];
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static void writeStamp(File store, String location, long[] stamp) throws IOException {
+		if (!store.exists()) {
+			// empty scan, keep an empty index
+			store.mkdirs();
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(new File(store, STAMP_FILE))))) {
+			out.writeUTF(location);
+			out.writeLong(stamp[0]);
+			out.writeLong(stamp[1]);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,9 @@ import java.io.FileFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -89,6 +91,11 @@ public class UseScanManager {
 
 	private String[] fLocations = null;
 
+	/**
+	 * Indexes of the use scan locations, by exact scan location
+	 */
+	private final Map<String, UseScanIndex> fIndexes = new HashMap<>();
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -217,7 +224,12 @@ public class UseScanManager {
 							}
 							throw new Exception(message);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
+						UseScanIndex index = getIndex(locations[i], iterationMonitor);
+						if (index != null) {
+							index.addReferences(apiComponent, types, references);
+						} else {
+							parser.parse(locations[i], iterationMonitor, visitor);
+						}
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
@@ -235,6 +247,30 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the index of the given scan location. The index is only checked
+	 * against the time stamp of the scan the first time it is used, or after the
+	 * cache has been cleared.
+	 *
+	 * @param location the exact scan location
+	 * @param monitor
+	 * @return the index of the scan or <code>null</code> if the scan cannot be
+	 *         indexed
+	 * @throws Exception
+	 */
+	private UseScanIndex getIndex(String location, IProgressMonitor monitor) throws Exception {
+		synchronized (fIndexes) {
+			UseScanIndex index = fIndexes.get(location);
+			if (index == null) {
+				index = UseScanIndex.getIndex(location, monitor);
+				if (index != null) {
+					fIndexes.put(location, index);
+				}
+			}
+			return index;
+		}
+	}
+
 	/**
 	 * Returns the scan
 	 *
@@ -264,6 +300,8 @@ public class UseScanManager {
 	 * <li>the previous child directory has its own child directory that matches
 	 * the name pattern <code>^.* (.*)$</code></li>
 	 * </ul>
+	 * or if it is a folder that contains a binary reference store written by a
+	 * {@link BinarySearchReporter}.
 	 *
 	 * @param file
 	 * @return <code>true</code> is the sub folders match the patterns,
@@ -271,6 +309,9 @@ public class UseScanManager {
 	 */
 	public static boolean isValidDirectory(File file) {
 		if (file.exists() && file.isDirectory()) {
+			if (BinaryUseScanReader.isBinaryScan(file)) {
+				return true;
+			}
 			try {
 				file.listFiles(USESCAN_FILTER);
 			} catch (RuntimeException rte) {
@@ -299,6 +340,8 @@ public class UseScanManager {
 	 * <li>the previous child directory has its own child directory that matches
 	 * the name pattern <code>{@link #NAME_REGEX}</code></li>
 	 * </ul>
+	 * or if it has a binary reference store written by a
+	 * {@link BinarySearchReporter}.
 	 *
 	 * @param file
 	 * @return <code>true</code> is the sub folders match the patterns,
@@ -324,6 +367,9 @@ public class UseScanManager {
 			if (entries != null) {
 				while (entries.hasMoreElements()) {
 					ZipEntry o = entries.nextElement();
+					if (!o.isDirectory() && BinarySearchReporter.REFERENCES_FILE.equals(IPath.fromOSString(o.getName()).lastSegment())) {
+						return true;
+					}
 					if (o.isDirectory()) {
 						IPath path = IPath.fromOSString(o.getName());
 						int count = path.segmentCount();
@@ -384,6 +430,9 @@ public class UseScanManager {
 	 */
 	public void setReportLocations(String[] locations) {
 		fLocations = locations;
+		synchronized (fIndexes) {
+			fIndexes.clear();
+		}
 	}
 
 	/**
@@ -404,5 +453,8 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		synchronized (fIndexes) {
+			fIndexes.clear();
+		}
 	}
 }
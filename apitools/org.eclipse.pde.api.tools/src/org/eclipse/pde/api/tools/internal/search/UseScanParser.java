@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,7 +41,9 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * Parses a use scan (XML) to visit a {@link UseScanVisitor}
+ * Parses a use scan (XML) to visit a {@link UseScanVisitor}. Use scans written
+ * by a {@link BinarySearchReporter} are read with a {@link BinaryUseScanReader}
+ * instead.
  */
 public class UseScanParser {
 
@@ -235,6 +237,12 @@ public class UseScanParser {
 		if (!reportsRoot.exists() || !reportsRoot.isDirectory()) {
 			throw new Exception(NLS.bind(SearchMessages.invalid_directory_name, xmlLocation));
 		}
+		if (BinaryUseScanReader.isBinaryScan(reportsRoot)) {
+			try (BinaryUseScanReader reader = new BinaryUseScanReader(reportsRoot)) {
+				reader.read(monitor, usv);
+			}
+			return;
+		}
 		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, 8);
 		localmonitor.subTask(SearchMessages.UseReportConverter_collecting_dir_info);
 		File[] referees = getDirectories(reportsRoot);
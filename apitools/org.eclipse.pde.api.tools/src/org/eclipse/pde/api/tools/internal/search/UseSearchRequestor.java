@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -310,6 +310,20 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 		return (fSearchMask & INCLUDE_ILLEGAL_USE) > 0;
 	}
 
+	/**
+	 * Returns a requestor with the same search mask, scope, archive patterns
+	 * and filter root, with its own problem detectors and filter stores so that
+	 * it can accept a component while this one accepts another.
+	 */
+	@Override
+	public IApiSearchRequestor newConcurrentRequestor() {
+		UseSearchRequestor requestor = new UseSearchRequestor(fComponentIds, null, fSearchMask);
+		requestor.fScope = fScope;
+		requestor.jarPatterns = jarPatterns;
+		requestor.antFilterRoot = antFilterRoot;
+		return requestor;
+	}
+
 	/**
 	 * The patterns for jar names to exclude from the search
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,7 +45,12 @@ import org.w3c.dom.Element;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * Search reporter that outputs results to an XML file
+ * Search reporter that outputs results to an XML file.
+ * <p>
+ * Results may be reported concurrently for elements of different components,
+ * the reference files are organized by referencing component so they never
+ * collide.
+ * </p>
  *
  * @since 1.0.1
  */
@@ -86,7 +91,9 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		// Use a hashset for counting to remove any duplicate references that
 		// the writer would remove
 		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
+		int count = 0;
+		int illegal = 0;
+		int internal = 0;
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
@@ -96,15 +103,15 @@ public class XmlSearchReporter implements IApiSearchReporter {
 
 				// Update counters
 				if (!writtenReferences.contains(descriptor)) {
-					referenceCount++;
+					count++;
 					if ((referenceInterface.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
-						illegalCount++;
+						illegal++;
 					}
 					// Though visibility is a bit flag, we want to match the xml
 					// output exactly, which separates into folders by
 					// visibility equality
 					if (descriptor.getVisibility() == VisibilityModifiers.PRIVATE) {
-						internalCount++;
+						internal++;
 					}
 					writtenReferences.add(descriptor);
 				}
@@ -114,7 +121,40 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			}
 		}
 
-		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+		writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+		synchronized (this) {
+			referenceCount += count;
+			illegalCount += illegal;
+			internalCount += internal;
+		}
+	}
+
+	/**
+	 * Writes out the given reference descriptors. By default the references are
+	 * written to XML files organized by referenced and referencing component.
+	 *
+	 * @param descriptors the references to write
+	 * @since 1.3.100
+	 */
+	protected void writeReferences(IReferenceDescriptor[] descriptors) {
+		new XmlReferenceDescriptorWriter(fLocation).writeReferences(descriptors);
+	}
+
+	/**
+	 * @return the absolute path in the local file system to the folder the
+	 *         reports are written to
+	 * @since 1.3.100
+	 */
+	protected String getLocation() {
+		return fLocation;
+	}
+
+	/**
+	 * @return if debugging infos should be written out to the console
+	 * @since 1.3.100
+	 */
+	protected boolean isDebug() {
+		return debug;
 	}
 
 	/**
@@ -197,7 +237,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportCounts() {
+	public synchronized void reportCounts() {
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
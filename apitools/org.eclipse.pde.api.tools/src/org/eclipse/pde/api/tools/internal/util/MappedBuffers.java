@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Releases memory mapped buffers without waiting for them to be garbage
+ * collected. A mapped file cannot be deleted or replaced on Windows as long as
+ * it is mapped.
+ * <p>
+ * Callers must make sure that the buffer and its duplicates and slices are
+ * not accessed anymore once released, the JVM crashes otherwise.
+ * </p>
+ *
+ * @since 1.3.100
+ */
+public final class MappedBuffers {
+
+	/**
+	 * <code>sun.misc.Unsafe</code> instance, or <code>null</code> if it is not
+	 * available
+	 */
+	private static final Object UNSAFE;
+
+	/**
+	 * <code>sun.misc.Unsafe.invokeCleaner(ByteBuffer)</code>, or
+	 * <code>null</code> if it is not available
+	 */
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe", false, ClassLoader.getPlatformClassLoader()); //$NON-NLS-1$
+			Field field = unsafeClass.getDeclaredField("theUnsafe"); //$NON-NLS-1$
+			field.setAccessible(true);
+			unsafe = field.get(null);
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class); //$NON-NLS-1$
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// the mappings are released when garbage collected
+			unsafe = null;
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	/**
+	 * Constructor private - no instantiation
+	 */
+	private MappedBuffers() {
+	}
+
+	/**
+	 * Releases the given mapped buffer. Nothing happens if the buffer is not a
+	 * direct buffer or if it cannot be released explicitly, it is then
+	 * released when garbage collected.
+	 *
+	 * @param buffer the mapped buffer, may be <code>null</code>
+	 * @return <code>true</code> if the buffer has been released
+	 */
+	public static boolean unmap(ByteBuffer buffer) {
+		if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null) {
+			return false;
+		}
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, buffer);
+			return true;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// a duplicate or a slice cannot be released
+			if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Could not release mapped buffer: " + e); //$NON-NLS-1$
+			}
+			return false;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
@@ -39,7 +40,11 @@ import java.nio.charset.CodingErrorAction;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -155,6 +160,16 @@ import org.xml.sax.helpers.DefaultHandler;
  */
 public final class Util {
 
+	/**
+	 * Writes the contents of a binary file
+	 *
+	 * @see Util#atomicWrite(File, IOConsumer)
+	 */
+	@FunctionalInterface
+	public interface IOConsumer<T> {
+		void accept(T t) throws IOException;
+	}
+
 	public static final String DOT_TGZ = ".tgz"; //$NON-NLS-1$
 	public static final String DOT_TAR_GZ = ".tar.gz"; //$NON-NLS-1$
 	public static final String DOT_JAR = ".jar"; //$NON-NLS-1$
@@ -1852,6 +1867,57 @@ public final class Util {
 		}
 	}
 
+	/**
+	 * Writes the given file through a temporary file in the same folder that is
+	 * moved in place once written, so that a failed or concurrent save never
+	 * leaves a truncated file. The parent folder is created if needed.
+	 *
+	 * @param file the given file target
+	 * @param writer writes the contents of the file
+	 * @throws IOException if an IOException occurs while saving the file, the
+	 *             temporary file is then deleted
+	 */
+	public static void atomicWrite(File file, IOConsumer<DataOutputStream> writer) throws IOException {
+		File parent = file.getAbsoluteFile().getParentFile();
+		parent.mkdirs();
+		File temp = File.createTempFile(file.getName(), ".tmp", parent); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				writer.accept(out);
+			}
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			temp.delete();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns a file name made of the hexadecimal SHA-1 digest of the given
+	 * key, so that files saved for different keys, such as locations, get
+	 * different names
+	 *
+	 * @param key the key identifying the contents of the file
+	 * @param extension the extension of the file name, with its dot
+	 * @return the file name
+	 */
+	public static String getDigestFileName(String key, String extension) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			StringBuilder name = new StringBuilder();
+			for (byte b : digest.digest(key.getBytes(StandardCharsets.UTF_8))) {
+				name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return name.append(extension).toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(key.hashCode()) + extension;
+		}
+	}
+
 	/**
 	 * Returns the contents of the given file as a string, or <code>null</code>
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 	private String xsltFileLocation = null;
 	private String[] filterPatterns = null;
 	private String[] toPatterns = null;
+	private int parallelism = 1;
 
 	/**
 	 * Set the debug value.
@@ -122,11 +123,30 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 		this.xsltFileLocation = xsltFileLocation;
 	}
 
+	/**
+	 * Set the number of workers writing the HTML pages of the referenced
+	 * components.
+	 *
+	 * <p>
+	 * This is optional. If not set, or set to <code>1</code>, the pages are
+	 * written one after the other while the XML reports are read. The value
+	 * <code>"auto"</code> uses the number of available processors.
+	 * </p>
+	 *
+	 * @param value the given number of workers
+	 * @throws BuildException if the given value is not a positive number or
+	 *             "auto"
+	 */
+	public void setParallelism(String value) {
+		this.parallelism = parseParallelism(value);
+	}
+
 	@Override
 	public void execute() throws BuildException {
 		if (this.debug) {
 			System.out.println("XML report location: " + this.xmlReportsLocation); //$NON-NLS-1$
 			System.out.println("HTML report location: " + this.htmlReportsLocation); //$NON-NLS-1$
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
 			if (this.xsltFileLocation == null) {
 				System.out.println("No XSLT file specified: using default"); //$NON-NLS-1$}
 			} else {
@@ -136,6 +156,7 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 		try {
 			Util.delete(new File(this.htmlReportsLocation));
 			UseReportConverter converter = new UseReportConverter(this.htmlReportsLocation, this.xmlReportsLocation, this.toPatterns, this.filterPatterns);
+			converter.setParallelism(this.parallelism);
 			ApiPlugin.DEBUG_USE_REPORT_CONVERTER = this.debug;
 			converter.convert(this.xsltFileLocation, null);
 			File index = converter.getReportIndex();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
+import org.eclipse.pde.api.tools.internal.search.BinarySearchReporter;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
@@ -118,6 +119,17 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Number of components searched at the same time
+	 */
+	private int parallelism = 1;
+
+	/**
+	 * If the references should be written to a binary reference store rather
+	 * than to XML files
+	 */
+	private boolean binaryreport = false;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -308,7 +320,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 		cleanReportLocation();
 		UseMetadata data = new UseMetadata(getSearchFlags(), this.scopepattern, this.referencepattern, this.currentBaselineLocation, this.reportLocation, this.apiPatterns, this.internalPatterns, this.archivePatterns, DateFormat.getDateTimeInstance().format(Calendar.getInstance().getTime()), getDescription());
 		IApiBaseline baseline = getBaseline(CURRENT_BASELINE_NAME, this.currentBaselineLocation);
-		IApiSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
+		IApiSearchReporter reporter = this.binaryreport ? new BinarySearchReporter(this.reportLocation, this.debug) : new XmlSearchReporter(this.reportLocation, this.debug);
 
 		try {
 			Set<String> ids = new HashSet<>();
@@ -332,7 +344,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
-			engine.search(baseline, requestor, reporter, null);
+			engine.search(baseline, requestor, reporter, this.parallelism, null);
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -641,4 +653,53 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Set the number of API components that are searched at the same time.
+	 *
+	 * <p>
+	 * This is optional. If not set, or set to <code>1</code>, the components
+	 * are searched one after the other. The value <code>"auto"</code> uses the
+	 * number of available processors.
+	 * </p>
+	 *
+	 * @param value the given number of workers
+	 * @throws BuildException if the given value is not a positive number or
+	 *             "auto"
+	 */
+	public void setParallelism(String value) {
+		if (this.debug) {
+			System.out.println("Parallelism : " + value); //$NON-NLS-1$
+		}
+		this.parallelism = parseParallelism(value);
+	}
+
+	/**
+	 * Set the format of the reference reports.
+	 *
+	 * <p>
+	 * The possible values are: <code>xml</code>, <code>binary</code>
+	 * </p>
+	 * <p>
+	 * Default is <code>xml</code>. The <code>binary</code> format writes all
+	 * the references to a single indexed file that the report converters and
+	 * the API use scan preferences read as well.
+	 * </p>
+	 *
+	 * @param format the given report format
+	 * @throws BuildException if the given value is not <code>xml</code> or
+	 *             <code>binary</code>
+	 */
+	public void setReportFormat(String format) {
+		if (this.debug) {
+			System.out.println("Report format : " + format); //$NON-NLS-1$
+		}
+		if ("binary".equals(format)) { //$NON-NLS-1$
+			this.binaryreport = true;
+		} else if ("xml".equals(format)) { //$NON-NLS-1$
+			this.binaryreport = false;
+		} else {
+			throw new BuildException("The given report format " + format + " is not \"xml\" or \"binary\"."); //$NON-NLS-1$//$NON-NLS-2$
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.apache.tools.ant.Task;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -46,6 +47,7 @@ public abstract class CommonUtilsTask extends Task {
 	protected static final String CURRENT_BASELINE_NAME = "current_baseline"; //$NON-NLS-1$
 	protected static final String REFERENCE = "referenceBaseline"; //$NON-NLS-1$
 	protected static final String REFERENCE_BASELINE_NAME = "reference_baseline"; //$NON-NLS-1$
+	private static final String PARALLELISM_AUTO = "auto"; //$NON-NLS-1$
 
 	protected boolean debug;
 	protected String eeFileLocation;
@@ -60,7 +62,9 @@ public abstract class CommonUtilsTask extends Task {
 	 * Creates a baseline with the given name and EE file location in the given
 	 * directory. The installLocation will be searched for bundles to add as API
 	 * components. If an error occurs creating the baseline, the exception stack
-	 * trace will be printed and an empty baseline will be returned.
+	 * trace will be printed and an empty baseline will be returned. Unchanged
+	 * bundles are restored from the {@link BaselineSnapshot} of the
+	 * installLocation if snapshots are enabled.
 	 *
 	 * @param baselineName Name to use for the new baseline
 	 * @param installLocation Location of an installation or directory of
@@ -81,7 +85,7 @@ public abstract class CommonUtilsTask extends Task {
 				baseline = ApiModelFactory.newApiBaseline(baselineName, Util.getEEDescriptionFile());
 			}
 
-			IApiComponent[] components = ApiModelFactory.addComponents(baseline, installLocation, null);
+			IApiComponent[] components = BaselineSnapshot.addComponents(baseline, installLocation, null);
 			if (components.length == 0) {
 				throw new BuildException(NLS.bind(Messages.directoryIsEmpty, installLocation));
 			}
@@ -166,6 +170,31 @@ public abstract class CommonUtilsTask extends Task {
 		}
 	}
 
+	/**
+	 * Parses a parallelism level given to a task: a positive number or
+	 * <code>"auto"</code> for the number of available processors.
+	 *
+	 * @param value the given value
+	 * @return the parallelism level
+	 * @throws BuildException if the given value is not a positive number or
+	 *             "auto"
+	 */
+	protected static int parseParallelism(String value) throws BuildException {
+		if (PARALLELISM_AUTO.equals(value)) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		int parallelism = 0;
+		try {
+			parallelism = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		if (parallelism < 1) {
+			throw new BuildException("The given value " + value + " is not a positive number or \"auto\"."); //$NON-NLS-1$//$NON-NLS-2$
+		}
+		return parallelism;
+	}
+
 	/**
 	 * Saves the report with the given name in the report location. If a
 	 * componentID is provided, a child directory using that name will be
@@ -51,6 +51,7 @@ public class CompareTask extends CommonUtilsTask {
 	private String componentsList;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private int parallelism = 1;
 
 	@Override
 	public void execute() throws BuildException {
@@ -146,7 +147,7 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false, this.parallelism, null);
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -392,4 +393,24 @@ public class CompareTask extends CommonUtilsTask {
 	public void setincludeList(String includeListLocation) {
 		this.includeListLocation = includeListLocation;
 	}
+
+	/**
+	 * Set the number of API components that are compared at the same time.
+	 *
+	 * <p>
+	 * This is optional. If not set, or set to <code>1</code>, the components
+	 * are compared one after the other. The value <code>"auto"</code> uses the
+	 * number of available processors.
+	 * </p>
+	 *
+	 * @param value the given parallelism level
+	 * @throws BuildException if the given value is not a positive number or
+	 *             "auto"
+	 */
+	public void setParallelism(String value) {
+		if (this.debug) {
+			System.out.println("Parallelism : " + value); //$NON-NLS-1$
+		}
+		this.parallelism = parseParallelism(value);
+	}
 }
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.ExternalLibrary;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
+
+/**
+ * Classpath fragments of the bundles of the state shared by all the required
+ * plug-ins classpath containers, so that the containers recomputed after a
+ * state change do not compute again the fragments of the bundles that did not
+ * change.
+ * <p>
+ * The cache holds the packages visible to a bundle with their access rules and
+ * the libraries of the external bundles, without access rules nor source
+ * attachments. The fragments of the bundles of a state delta and of the bundles
+ * depending on them are discarded by {@link #invalidate(StateDelta)}, all the
+ * fragments are discarded when the whole target changes.
+ * </p>
+ * <p>
+ * The fragments are kept by bundle id, as an updated bundle gets a new
+ * description with the same id.
+ * </p>
+ */
+public class BundleClasspathCache {
+
+	private final Map<Long, Map<BundleDescription, ArrayList<Rule>>> fVisiblePackages = new ConcurrentHashMap<>();
+	private final Map<Long, ExternalLibrary[]> fLibraries = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the packages visible to the given bundle grouped by exporter,
+	 * computing them if they are not cached. The returned map must not be
+	 * modified.
+	 *
+	 * @param desc the bundle the packages are visible to
+	 * @param function computes the visible packages of a bundle
+	 * @return the rules of the visible packages by exporter
+	 */
+	public Map<BundleDescription, ArrayList<Rule>> getVisiblePackages(BundleDescription desc,
+			Function<BundleDescription, Map<BundleDescription, ArrayList<Rule>>> function) {
+		return fVisiblePackages.computeIfAbsent(desc.getBundleId(), id -> function.apply(desc));
+	}
+
+	/**
+	 * Returns the libraries of the given external bundle, computing them if
+	 * they are not cached
+	 *
+	 * @param desc the external bundle
+	 * @param function computes the libraries of a bundle
+	 * @return the libraries of the bundle
+	 */
+	public ExternalLibrary[] getLibraries(BundleDescription desc, Function<BundleDescription, ExternalLibrary[]> function) {
+		return fLibraries.computeIfAbsent(desc.getBundleId(), id -> function.apply(desc));
+	}
+
+	/**
+	 * Discards the fragments of the bundles changed by the given delta and of
+	 * the bundles depending on them
+	 *
+	 * @param delta the delta of the state, or <code>null</code> if the whole
+	 *            target changed
+	 */
+	public void invalidate(StateDelta delta) {
+		if (delta == null) {
+			clear();
+			return;
+		}
+		Set<Long> changed = getAffectedBundles(delta.getChanges());
+		if (changed.isEmpty()) {
+			return;
+		}
+		fLibraries.keySet().removeAll(changed);
+		// the exporters of the cached packages may be the descriptions the
+		// updated bundles had before the delta
+		fVisiblePackages.entrySet().removeIf(entry -> changed.contains(entry.getKey())
+				|| entry.getValue().keySet().stream().anyMatch(exporter -> changed.contains(exporter.getBundleId())));
+		if (PDECore.DEBUG_CLASSPATH) {
+			System.out.println("Classpath fragments discarded for " + changed.size() + " bundles"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Discards all the fragments
+	 */
+	public void clear() {
+		fLibraries.clear();
+		fVisiblePackages.clear();
+	}
+
+	/**
+	 * Returns the ids of the bundles of the given deltas, of the bundles
+	 * depending on them and of the hosts of the fragments among them, whose
+	 * libraries may come from their fragments
+	 */
+	private static Set<Long> getAffectedBundles(BundleDelta[] deltas) {
+		Set<Long> affected = new HashSet<>();
+		Set<BundleDescription> seen = new HashSet<>();
+		ArrayDeque<BundleDescription> stack = new ArrayDeque<>();
+		for (BundleDelta bundleDelta : deltas) {
+			stack.push(bundleDelta.getBundle());
+		}
+		while (!stack.isEmpty()) {
+			BundleDescription desc = stack.pop();
+			if (!seen.add(desc)) {
+				continue;
+			}
+			affected.add(desc.getBundleId());
+			for (BundleDescription dependent : desc.getDependents()) {
+				stack.push(dependent);
+			}
+			HostSpecification host = desc.getHost();
+			if (host != null) {
+				Collections.addAll(stack, host.getHosts());
+			}
+		}
+		return affected;
+	}
+}
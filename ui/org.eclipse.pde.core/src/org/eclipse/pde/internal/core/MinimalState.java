@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -153,16 +153,34 @@ public class MinimalState {
 
 	public BundleDescription addBundle(Map<String, String> manifest, File bundleLocation, long bundleId)
 			throws CoreException {
+		BundleDescription descriptor = createBundleDescription(manifest, bundleLocation,
+				bundleId == -1 ? getNextId() : bundleId);
+		// new bundle
+		if (descriptor != null && (bundleId == -1 || !fState.updateBundle(descriptor))) {
+			fState.addBundle(descriptor);
+		}
+		return descriptor;
+	}
+
+	/**
+	 * Creates the description of a bundle without adding it to the state. The
+	 * state is only read, so descriptions can be created concurrently as long
+	 * as the state is not modified.
+	 *
+	 * @param manifest the bundle manifest
+	 * @param bundleLocation the bundle location
+	 * @param bundleId the id of the bundle
+	 * @return the bundle description or <code>null</code> if the manifest is
+	 *         invalid
+	 * @throws CoreException if the manifest cannot be parsed
+	 */
+	protected BundleDescription createBundleDescription(Map<String, String> manifest, File bundleLocation,
+			long bundleId) throws CoreException {
 		try {
 			// OSGi requires a dictionary over any map
 			Dictionary<String, String> dictionaryManifest = FrameworkUtil.asDictionary(manifest);
-			BundleDescription descriptor = stateObjectFactory.createBundleDescription(fState, dictionaryManifest,
-					bundleLocation.getAbsolutePath(), bundleId == -1 ? getNextId() : bundleId);
-			// new bundle
-			if (bundleId == -1 || !fState.updateBundle(descriptor)) {
-				fState.addBundle(descriptor);
-			}
-			return descriptor;
+			return stateObjectFactory.createBundleDescription(fState, dictionaryManifest,
+					bundleLocation.getAbsolutePath(), bundleId);
 		} catch (BundleException e) {
 			// A stack trace isn't helpful here, but need to list the plug-in
 			// location causing the issue
@@ -180,23 +198,39 @@ public class MinimalState {
 		return addBundle(bundleLocation, bundleId, manifest);
 	}
 
-	private BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
+	protected BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
 			throws CoreException {
 		// update for development mode
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
 
 		BundleDescription desc = addBundle(manifest, bundleLocation, bundleId);
-		if (desc != null && manifest != null && "true".equals(manifest.get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
+		if (desc != null) {
+			bundleAdded(desc, manifest);
+		}
+		return desc;
+	}
+
+	/**
+	 * Adds a new bundle description created by
+	 * {@link #createBundleDescription(Map, File, long)} to the state.
+	 *
+	 * @param desc the bundle description
+	 * @param manifest the woven manifest the description was created from
+	 */
+	protected void addBundle(BundleDescription desc, Map<String, String> manifest) {
+		fState.addBundle(desc);
+		bundleAdded(desc, manifest);
+	}
+
+	private void bundleAdded(BundleDescription desc, Map<String, String> manifest) {
+		if (manifest != null && "true".equals(manifest.get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
 			// if this is the system bundle then
 			// indicate that the javaProfile has changed since the new system
 			// bundle may not contain profiles for all EE's in the list
 			fEEListChanged = true;
 			fSystemBundle = desc.getSymbolicName();
 		}
-		if (desc != null) {
-			addAuxiliaryData(desc, manifest, true);
-		}
-		return desc;
+		addAuxiliaryData(desc, manifest, true);
 	}
 
 	protected void addAuxiliaryData(BundleDescription desc, Map<String, String> manifest, boolean hasBundleStructure) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2012 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -84,52 +84,104 @@ public class PDEClasspathContainer {
 		return entries.toArray(new IClasspathEntry[entries.size()]);
 	}
 
+	/**
+	 * A library of an external plug-in. Its source attachment and classpath
+	 * attributes are looked up each time an entry is created for it, as they
+	 * depend on the source and javadoc locations rather than on the plug-in.
+	 */
+	public static final class ExternalLibrary {
+		final IPath path;
+		final IPluginModelBase model;
+		/**
+		 * Name of the library to look the source of up, <code>null</code> if
+		 * the library is its own source
+		 */
+		final String name;
+		final boolean isJarShape;
+		/**
+		 * Source attachment used if none is found, may be <code>null</code>
+		 */
+		final IPath defaultSource;
+
+		ExternalLibrary(IPath path, IPluginModelBase model, String name, boolean isJarShape, IPath defaultSource) {
+			this.path = path;
+			this.model = model;
+			this.name = name;
+			this.isJarShape = isJarShape;
+			this.defaultSource = defaultSource;
+		}
+
+		IPath getSourcePath() {
+			if (name == null) {
+				return path;
+			}
+			IPath srcPath = ClasspathUtilCore.getSourceAnnotation(model, name, isJarShape);
+			return srcPath == null ? defaultSource : srcPath;
+		}
+	}
+
 	protected static void addExternalPlugin(IPluginModelBase model, Rule[] rules, ArrayList<IClasspathEntry> entries) {
+		addExternalLibraries(getExternalLibraries(model), rules, entries);
+	}
+
+	/**
+	 * Returns the libraries of the given external plug-in, extracting its
+	 * nested jars if needed
+	 *
+	 * @param model the external plug-in
+	 * @return the libraries of the plug-in
+	 */
+	protected static ExternalLibrary[] getExternalLibraries(IPluginModelBase model) {
+		List<ExternalLibrary> result = new ArrayList<>();
 		boolean isJarShape = new File(model.getInstallLocation()).isFile();
 		if (isJarShape) {
-			IPath srcPath = ClasspathUtilCore.getSourceAnnotation(model, ".", isJarShape); //$NON-NLS-1$
-			if (srcPath == null) {
-				srcPath = IPath.fromOSString(model.getInstallLocation());
-			}
-			addLibraryEntry(IPath.fromOSString(model.getInstallLocation()), srcPath, rules, getClasspathAttributes(model), entries);
+			IPath installPath = IPath.fromOSString(model.getInstallLocation());
+			result.add(new ExternalLibrary(installPath, model, ".", isJarShape, installPath)); //$NON-NLS-1$
 
 			// If the jarred plugin contains any jarred libraries they must be extracted as the compiler can't handle nested jar files
 			File[] extractedLibraries = PDECore.getDefault().getModelManager().getExternalModelManager().getExtractedLibraries(model);
 			for (File libraryFile : extractedLibraries) {
 				IPath path = IPath.fromOSString(libraryFile.getAbsolutePath());
-				addLibraryEntry(path, path, rules, getClasspathAttributes(model), entries);
+				result.add(new ExternalLibrary(path, model, null, isJarShape, path));
 			}
 		} else {
 			IPluginLibrary[] libraries = model.getPluginBase().getLibraries();
 			if (libraries.length == 0) {
 				// If there are no libraries, assume the root of the plug-in is the library '.'
-				IPath srcPath = ClasspathUtilCore.getSourceAnnotation(model, ".", isJarShape); //$NON-NLS-1$
-				if (srcPath == null) {
-					srcPath = IPath.fromOSString(model.getInstallLocation());
-				}
-				addLibraryEntry(IPath.fromOSString(model.getInstallLocation()), srcPath, rules, getClasspathAttributes(model), entries);
+				IPath installPath = IPath.fromOSString(model.getInstallLocation());
+				result.add(new ExternalLibrary(installPath, model, ".", isJarShape, installPath)); //$NON-NLS-1$
 			} else {
 				for (IPluginLibrary library : libraries) {
 					if (IPluginLibrary.RESOURCE.equals(library.getType())) {
 						continue;
 					}
-					model = (IPluginModelBase) library.getModel();
+					IPluginModelBase libraryModel = (IPluginModelBase) library.getModel();
 					String name = library.getName();
 					String expandedName = ClasspathUtilCore.expandLibraryName(name);
-					IPath path = ClasspathUtilCore.getPath(model, expandedName, isJarShape);
-					if (path == null && !model.isFragmentModel() && ClasspathUtilCore.containsVariables(name)) {
-						model = resolveLibraryInFragments(model, expandedName);
-						if (model != null && model.isEnabled()) {
-							path = ClasspathUtilCore.getPath(model, expandedName, isJarShape);
+					IPath path = ClasspathUtilCore.getPath(libraryModel, expandedName, isJarShape);
+					if (path == null && !libraryModel.isFragmentModel() && ClasspathUtilCore.containsVariables(name)) {
+						libraryModel = resolveLibraryInFragments(libraryModel, expandedName);
+						if (libraryModel != null && libraryModel.isEnabled()) {
+							path = ClasspathUtilCore.getPath(libraryModel, expandedName, isJarShape);
 						}
 					}
 					if (path != null) {
-						addLibraryEntry(path, ClasspathUtilCore.getSourceAnnotation(model, expandedName, isJarShape),
-								rules, getClasspathAttributes(model), entries);
+						result.add(new ExternalLibrary(path, libraryModel, expandedName, isJarShape, null));
 					}
 				}
 			}
 		}
+		return result.toArray(new ExternalLibrary[result.size()]);
+	}
+
+	/**
+	 * Adds the entries of the given external libraries with their current
+	 * source attachments and classpath attributes
+	 */
+	protected static void addExternalLibraries(ExternalLibrary[] libraries, Rule[] rules, ArrayList<IClasspathEntry> entries) {
+		for (ExternalLibrary library : libraries) {
+			addLibraryEntry(library.path, library.getSourcePath(), rules, getClasspathAttributes(library.model), entries);
+		}
 	}
 
 	protected static void addLibraryEntry(IPath path, IPath srcPath, Rule[] rules, IClasspathAttribute[] attributes, ArrayList<IClasspathEntry> entries) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,19 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IWorkspaceRoot;
@@ -30,6 +38,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -47,6 +56,7 @@ public class PDEState extends MinimalState {
 
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
+	private final TargetStateSnapshot fSnapshot;
 
 	/**
 	 * Creates a new PDE State containing bundles from the given URLs.
@@ -57,10 +67,28 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, null, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs, reusing
+	 * the manifests of the unchanged bundles from the given snapshot.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param snapshot the snapshot of the previous target state or <code>null</code>
+	 *            to read all the manifests
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, TargetStateSnapshot snapshot,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
+		fSnapshot = snapshot;
 
-		// We no longer try and restore from a cached state as it had no performance benefit
+		// The resolved state is not restored as it had no performance benefit,
+		// only the manifests are restored from the snapshot
 		createNewTargetState(addResolver, target, monitor);
 
 		if (removeDuplicates) {
@@ -86,21 +114,155 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
+				2 * uris.length);
+		File[] files = Arrays.stream(uris).map(PDEState::toFile).filter(Objects::nonNull).toArray(File[]::new);
+		subMonitor.setWorkRemaining(2 * files.length);
+		// ids are assigned in target order so that the selection of bundles
+		// with the same version does not depend on the reading order
+		long[] ids = new long[files.length];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = getNextId();
+		}
+		// the manifests are read and parsed concurrently, the state is only
+		// modified once all of them are read
+		AtomicInteger read = new AtomicInteger();
+		CompletableFuture<TargetBundle[]> reading = CompletableFuture
+				.supplyAsync(() -> IntStream.range(0, files.length).parallel()
+						.mapToObj(i -> readBundle(files[i], ids[i], subMonitor, read)).toArray(TargetBundle[]::new));
+		TargetBundle[] bundles = waitForBundles(reading, read, subMonitor);
+		subMonitor.setWorkRemaining(bundles.length);
+		for (TargetBundle bundle : bundles) {
+			subMonitor.subTask(bundle.file.getName());
+			if (bundle.error != null) {
+				if (bundle.error.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+					PDECore.log(bundle.error);
+				}
+			} else if (bundle.description != null) {
+				addBundle(bundle.description, bundle.manifest);
+			}
+			subMonitor.split(1);
+		}
+		if (fSnapshot != null && PDECore.DEBUG_MODEL) {
+			System.out.println(fSnapshot.getRestoredCount() + " target manifests restored and " + fSnapshot.getReadCount() + " read for " + uris.length + " bundles"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * A target bundle read concurrently with the other ones, before it is
+	 * added to the state
+	 */
+	private static final class TargetBundle {
+		final File file;
+		Map<String, String> manifest;
+		BundleDescription description;
+		CoreException error;
+
+		TargetBundle(File file) {
+			this.file = file;
+		}
+	}
+
+	/**
+	 * Reads the manifest of the given target bundle and creates its
+	 * description without modifying the state. Nothing is read once the
+	 * monitor is canceled.
+	 *
+	 * @param read incremented once the bundle is read, for the progress
+	 *            reported by {@link #waitForBundles}
+	 */
+	private TargetBundle readBundle(File file, long bundleId, IProgressMonitor monitor, AtomicInteger read) {
+		TargetBundle bundle = new TargetBundle(file);
+		if (monitor.isCanceled()) {
+			return bundle;
+		}
+		try {
+			Map<String, String> manifest = loadManifest(file);
+			if (manifest != null) {
+				// update for development mode
+				TargetWeaver.weaveManifest(manifest, file);
+				bundle.manifest = manifest;
+				bundle.description = createBundleDescription(manifest, file, bundleId);
 			}
+		} catch (CoreException e) {
+			bundle.error = e;
+		} finally {
+			read.incrementAndGet();
+		}
+		return bundle;
+	}
+
+	/**
+	 * Waits for the target bundles being read, reporting the number of bundles
+	 * read so far to the given monitor from the calling thread
+	 *
+	 * @throws OperationCanceledException if the calling thread is interrupted
+	 */
+	private static TargetBundle[] waitForBundles(CompletableFuture<TargetBundle[]> reading, AtomicInteger read,
+			SubMonitor monitor) {
+		int reported = 0;
+		while (true) {
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+				TargetBundle[] bundles = reading.get(100, TimeUnit.MILLISECONDS);
+				monitor.worked(read.get() - reported);
+				return bundles;
+			} catch (TimeoutException e) {
+				int done = read.get();
+				monitor.worked(done - reported);
+				reported = done;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				// reading errors are kept in the target bundles, anything else
+				// is unexpected
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
 				}
+				throw new IllegalStateException(cause);
 			}
-			subMonitor.split(1);
+		}
+	}
+
+	/**
+	 * Loads the manifest of the given target bundle, restoring it from the
+	 * snapshot if the bundle is unchanged
+	 *
+	 * @return the manifest or <code>null</code> if the snapshot knows the
+	 *         bundle is not a bundle
+	 */
+	private Map<String, String> loadManifest(File file) throws CoreException {
+		if (fSnapshot == null) {
+			return ManifestUtils.loadManifest(file);
+		}
+		TargetStateSnapshot.Entry entry = fSnapshot.get(file);
+		if (entry != null) {
+			// a null manifest means the location is not a bundle
+			return entry.manifest == null ? null : TargetStateSnapshot.copy(entry.manifest);
+		}
+		Map<String, String> manifest;
+		try {
+			manifest = ManifestUtils.loadManifest(file);
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				fSnapshot.put(file, null);
+			}
+			throw e;
+		}
+		fSnapshot.put(file, manifest);
+		return manifest;
+	}
+
+	/**
+	 * Saves the snapshot of the manifests of the target bundles of this state,
+	 * if it was created with a snapshot
+	 */
+	public void saveSnapshot() {
+		if (fSnapshot != null) {
+			fSnapshot.save();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -136,6 +136,11 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	private final UpdateClasspathsJob fUpdateJob = new UpdateClasspathsJob();
 
+	/**
+	 * Classpath fragments of the bundles shared by the classpath containers
+	 */
+	private final BundleClasspathCache fClasspathCache = new BundleClasspathCache();
+
 	/**
 	 * Subclass of ModelEntry
 	 * It adds methods that add/remove model from the entry.
@@ -321,6 +326,9 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param runAsynch whether classpath updates should be done in an asynchronous job
 	 */
 	private void updateAffectedEntries(StateDelta delta, boolean runAsynch) {
+		// discard the classpath fragments of the changed bundles before the
+		// containers are recomputed
+		fClasspathCache.invalidate(delta);
 		Map<IJavaProject, RequiredPluginsClasspathContainer> map = new HashMap<>();
 		if (delta == null) {
 			// if the delta is null, then the entire target changed.
@@ -403,6 +411,16 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Returns the classpath fragments of the bundles shared by the required
+	 * plug-ins classpath containers
+	 *
+	 * @return the classpath fragments cache
+	 */
+	public BundleClasspathCache getClasspathCache() {
+		return fClasspathCache;
+	}
+
 	/**
 	 * Notify all interested listeners in changes made to the master table
 	 *
@@ -614,7 +632,9 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		fState = new PDEState(externalUris, true, true, TargetStateSnapshot.load(), subMon.split(15));
+		// saved right away so that the next initialization restores this state
+		fState.saveSnapshot();
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -1255,6 +1275,9 @@ public class PluginModelManager implements IModelProviderListener {
 	protected void shutdown() {
 		fWorkspaceManager.shutdown();
 		fExternalManager.shutdown();
+		if (fState != null) {
+			fState.saveSnapshot();
+		}
 
 		if (fListeners != null) {
 			fListeners.clear();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2018 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -251,6 +251,11 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	private Map<BundleDescription, ArrayList<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
+		return PluginModelManager.getInstance().getClasspathCache().getVisiblePackages(desc,
+				this::computeVisiblePackagesFromState);
+	}
+
+	private Map<BundleDescription, ArrayList<Rule>> computeVisiblePackagesFromState(BundleDescription desc) {
 		Map<BundleDescription, ArrayList<Rule>> visiblePackages = new HashMap<>();
 		StateHelper helper = Platform.getPlatformAdmin().getStateHelper();
 		addVisiblePackagesFromState(helper, desc, visiblePackages);
@@ -380,7 +385,12 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 		if (resource != null) {
 			addProjectEntry(resource.getProject(), rules, model.getPluginBase().exportsExternalAnnotations(), entries);
 		} else {
-			addExternalPlugin(model, rules, entries);
+			// the libraries of the bundle are shared by all the containers,
+			// the access rules depend on this container and the source
+			// attachments may change with the source locations
+			ExternalLibrary[] libraries = PluginModelManager.getInstance().getClasspathCache().getLibraries(desc,
+					d -> getExternalLibraries(model));
+			addExternalLibraries(libraries, rules, entries);
 		}
 		return true;
 	}
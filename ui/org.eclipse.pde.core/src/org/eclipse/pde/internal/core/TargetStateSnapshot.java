@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import static org.eclipse.pde.internal.core.util.CacheFileUtil.readCount;
+import static org.eclipse.pde.internal.core.util.CacheFileUtil.readString;
+import static org.eclipse.pde.internal.core.util.CacheFileUtil.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.pde.internal.core.util.CacheFileUtil;
+
+/**
+ * Snapshot of the manifests of the target bundles, saved in the PDE state
+ * location once the target state is created and used by the next
+ * {@link PDEState} to avoid reading again the manifests of the bundles that
+ * did not change.
+ * <p>
+ * A manifest is reused as long as the bundle jar, or the manifest file of a
+ * bundle directory, has the last modification time and size it had when the
+ * manifest was read. The auxiliary data of the bundles is derived from their
+ * manifests, so it is restored too. Bundles whose manifest changed are read
+ * from disk as usual, the other ones are still restored.
+ * </p>
+ */
+public class TargetStateSnapshot {
+
+	/**
+	 * Name of the snapshot file in the PDE state location
+	 */
+	private static final String FILE_NAME = "target_state.snapshot"; //$NON-NLS-1$
+
+	/**
+	 * Kind written in the header of the snapshot file
+	 */
+	private static final String KIND = "TARGET_STATE"; //$NON-NLS-1$
+
+	/**
+	 * Version of the snapshot file format
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The manifest of a bundle, <code>null</code> if the location is not a
+	 * bundle, and the time stamp and size it was read for
+	 */
+	static final class Entry {
+		final long timestamp;
+		final long length;
+		final Map<String, String> manifest;
+
+		Entry(long timestamp, long length, Map<String, String> manifest) {
+			this.timestamp = timestamp;
+			this.length = length;
+			this.manifest = manifest;
+		}
+	}
+
+	private final File fFile;
+	private final Map<String, Entry> fPrevious;
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+	private final AtomicInteger fRestored = new AtomicInteger();
+	private final AtomicInteger fRead = new AtomicInteger();
+	private volatile boolean fChanged = false;
+
+	/**
+	 * Number of entries in the snapshot file, as loaded or last saved
+	 */
+	private volatile int fSavedSize;
+
+	private TargetStateSnapshot(File file, Map<String, Entry> previous) {
+		fFile = file;
+		fPrevious = previous;
+		fSavedSize = previous.size();
+	}
+
+	/**
+	 * Returns the file the snapshot is saved to
+	 */
+	private static File getFile() {
+		return new File(PDECore.getDefault().getStateLocation().toFile(), FILE_NAME);
+	}
+
+	/**
+	 * Reads the snapshot saved by the previous session
+	 *
+	 * @return the snapshot, without entries if none could be read
+	 */
+	public static TargetStateSnapshot load() {
+		return load(getFile());
+	}
+
+	/**
+	 * Reads the snapshot saved in the given file
+	 *
+	 * @param file the file the snapshot is read from and saved to
+	 * @return the snapshot, without entries if none could be read
+	 */
+	public static TargetStateSnapshot load(File file) {
+		Map<String, Entry> entries = new HashMap<>();
+		if (file.isFile()) {
+			// the counts and lengths are checked against the file length so
+			// that a corrupt file is discarded rather than breaking the
+			// creation of the target state
+			long max = file.length();
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (PDECore.PLUGIN_ID.equals(in.readUTF()) && KIND.equals(in.readUTF()) && in.readInt() == VERSION) {
+					int count = readCount(in, max);
+					for (int i = 0; i < count; i++) {
+						String location = readString(in, max);
+						long timestamp = in.readLong();
+						long length = in.readLong();
+						Map<String, String> manifest = null;
+						int size = readCount(in, max);
+						if (size >= 0) {
+							manifest = new HashMap<>();
+							for (int j = 0; j < size; j++) {
+								manifest.put(readString(in, max), readString(in, max));
+							}
+						}
+						entries.put(location, new Entry(timestamp, length, manifest));
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				entries.clear();
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Discarded invalid target state snapshot: " + e); //$NON-NLS-1$
+				}
+			}
+		}
+		return new TargetStateSnapshot(file, entries);
+	}
+
+	/**
+	 * Returns the entry of the given bundle saved by the previous session if
+	 * the bundle is unchanged. The entry is kept for the next session.
+	 *
+	 * @param bundle the bundle location
+	 * @return the entry or <code>null</code> if the manifest must be read
+	 */
+	Entry get(File bundle) {
+		String location = bundle.getAbsolutePath();
+		Entry entry = fPrevious.get(location);
+		if (entry == null) {
+			return null;
+		}
+		File stamp = CacheFileUtil.getStampFile(bundle);
+		if (stamp == null || stamp.lastModified() != entry.timestamp || stamp.length() != entry.length) {
+			return null;
+		}
+		fEntries.put(location, entry);
+		fRestored.incrementAndGet();
+		return entry;
+	}
+
+	/**
+	 * Returns a copy of the given manifest that can be modified
+	 */
+	static Map<String, String> copy(Map<String, String> manifest) {
+		return new HashMap<>(manifest);
+	}
+
+	/**
+	 * Records the manifest read from the given bundle
+	 *
+	 * @param bundle the bundle location
+	 * @param manifest the manifest read from the bundle, before it is woven,
+	 *            or <code>null</code> if the bundle is not a bundle
+	 */
+	void put(File bundle, Map<String, String> manifest) {
+		File stamp = CacheFileUtil.getStampFile(bundle);
+		if (stamp == null) {
+			return;
+		}
+		fEntries.put(bundle.getAbsolutePath(), new Entry(stamp.lastModified(), stamp.length(), manifest == null ? null : copy(manifest)));
+		fRead.incrementAndGet();
+		fChanged = true;
+	}
+
+	/**
+	 * Returns the number of bundles whose manifest was restored from the
+	 * previous snapshot
+	 *
+	 * @return the number of restored manifests
+	 */
+	public int getRestoredCount() {
+		return fRestored.get();
+	}
+
+	/**
+	 * Returns the number of bundles whose manifest was read from disk because
+	 * it was not in the previous snapshot or changed since
+	 *
+	 * @return the number of manifests read
+	 */
+	public int getReadCount() {
+		return fRead.get();
+	}
+
+	/**
+	 * Saves this snapshot if it differs from the one it was loaded from or
+	 * last saved
+	 */
+	public void save() {
+		if (!fChanged && fEntries.size() == fSavedSize) {
+			return;
+		}
+		Map<String, Entry> entries = new LinkedHashMap<>(fEntries);
+		try {
+			CacheFileUtil.atomicWrite(fFile, out -> {
+				out.writeUTF(PDECore.PLUGIN_ID);
+				out.writeUTF(KIND);
+				out.writeInt(VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+					Entry entry = mapEntry.getValue();
+					writeString(out, mapEntry.getKey());
+					out.writeLong(entry.timestamp);
+					out.writeLong(entry.length);
+					if (entry.manifest == null) {
+						out.writeInt(-1);
+						continue;
+					}
+					out.writeInt(entry.manifest.size());
+					for (Map.Entry<String, String> header : entry.manifest.entrySet()) {
+						writeString(out, header.getKey());
+						writeString(out, header.getValue());
+					}
+				}
+			});
+			fChanged = false;
+			fSavedSize = entries.size();
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,17 +76,20 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 			File site = getSite(dir);
 			File[] files = site.listFiles();
 			SubMonitor localMonitor = SubMonitor.convert(monitor, Messages.DirectoryBundleContainer_0, files.length);
-			return Arrays.stream(files).parallel() //
+			TargetBundleCache cache = TargetBundleCache.load(site);
+			TargetBundle[] bundles = Arrays.stream(files).parallel() //
 					.map(file -> {
 						localMonitor.split(1);
 						try {
-							return new TargetBundle(file);
+							return cache.getBundle(file);
 						} catch (CoreException e) {
 							// Ignore non-bundle files
 							return null;
 						}
 					}).filter(Objects::nonNull) //
 					.toArray(TargetBundle[]::new);
+			cache.save();
+			return bundles;
 		}
 		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
 	}
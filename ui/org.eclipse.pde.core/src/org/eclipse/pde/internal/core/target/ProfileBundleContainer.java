@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -151,19 +151,24 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, Messages.DirectoryBundleContainer_0, infos.length + source.length);
 
-		return concat(stream(infos), stream(source)).parallel().map(info -> {
+		TargetBundleCache cache = TargetBundleCache.load(new File(home), configurationArea);
+		TargetBundle[] bundles = concat(stream(infos), stream(source)).parallel().map(info -> {
 			URI location = info.getLocation();
 			try {
 				if (monitor.isCanceled()) {
 					return null;
 				}
-				return new TargetBundle(URIUtil.toFile(location));
+				return cache.getBundle(URIUtil.toFile(location));
 			} catch (CoreException e) {
 				return new InvalidTargetBundle(new BundleInfo(location), e.getStatus());
 			} finally {
 				localMonitor.split(1);
 			}
 		}).filter(Objects::nonNull).toArray(TargetBundle[]::new);
+		if (!monitor.isCanceled()) {
+			cache.save();
+		}
+		return bundles;
 	}
 
 	private Collection<TargetBundle> readBundleInfosFromConfigIni(File configArea, File home) {
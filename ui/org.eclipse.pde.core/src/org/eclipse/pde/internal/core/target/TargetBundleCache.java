@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import static org.eclipse.pde.internal.core.util.CacheFileUtil.readCount;
+import static org.eclipse.pde.internal.core.util.CacheFileUtil.readString;
+import static org.eclipse.pde.internal.core.util.CacheFileUtil.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.CacheFileUtil;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Cache of the bundles found in a directory or profile location, saved in the
+ * PDE state location so that resolving an unchanged location does not open
+ * every bundle again.
+ * <p>
+ * A bundle is restored as long as the bundle jar, or the manifest file of a
+ * bundle directory, has the last modification time and size it had when the
+ * bundle was read. Only the bundles found by the last resolve of the location
+ * are kept. The cache can be used concurrently while a location is resolved.
+ * </p>
+ * <p>
+ * The cache files of the locations that were not resolved for
+ * {@link #MAX_UNUSED_TIME} are deleted the first time a cache is loaded.
+ * </p>
+ */
+public class TargetBundleCache {
+
+	/**
+	 * Name of the directory of the cache files in the PDE state location
+	 */
+	private static final String DIRECTORY_NAME = "target_bundles"; //$NON-NLS-1$
+
+	/**
+	 * Kind written in the header of the cache files
+	 */
+	private static final String KIND = "TARGET_BUNDLES"; //$NON-NLS-1$
+
+	/**
+	 * Version of the cache file format
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Time after which the cache file of a location that is no longer resolved
+	 * is deleted
+	 */
+	private static final long MAX_UNUSED_TIME = TimeUnit.DAYS.toMillis(30);
+
+	/**
+	 * Whether the unused cache files have been deleted in this session
+	 */
+	private static final AtomicBoolean fgEvicted = new AtomicBoolean();
+
+	/**
+	 * The information read from a bundle, or the reason why the file is not a
+	 * bundle, and the time stamp and size it was read for
+	 */
+	private static final class Entry {
+		final long timestamp;
+		final long length;
+		/**
+		 * Message of the error if the file is not a bundle, <code>null</code>
+		 * otherwise
+		 */
+		final String error;
+		final String symbolicName;
+		final String version;
+		final boolean fragment;
+		final BundleInfo sourceTarget;
+		final String sourcePath;
+
+		Entry(long timestamp, long length, String error, String symbolicName, String version, boolean fragment,
+				BundleInfo sourceTarget, String sourcePath) {
+			this.timestamp = timestamp;
+			this.length = length;
+			this.error = error;
+			this.symbolicName = symbolicName;
+			this.version = version;
+			this.fragment = fragment;
+			this.sourceTarget = sourceTarget;
+			this.sourcePath = sourcePath;
+		}
+	}
+
+	/**
+	 * Target bundle restored from the cache without opening the bundle
+	 */
+	public static final class CachedTargetBundle extends TargetBundle {
+		CachedTargetBundle(File file, Entry entry) {
+			fInfo = new BundleInfo(file.toURI());
+			if (entry.symbolicName != null) {
+				fInfo.setSymbolicName(entry.symbolicName);
+				if (entry.version != null) {
+					fInfo.setVersion(entry.version);
+				}
+			}
+			fIsFragment = entry.fragment;
+			fSourceTarget = entry.sourceTarget;
+			fSourcePath = entry.sourcePath;
+		}
+	}
+
+	/**
+	 * Location of the bundles, with the configuration area of a profile
+	 */
+	private final String fKey;
+	private final File fFile;
+	private final Map<String, Entry> fPrevious;
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+	private volatile boolean fChanged = false;
+
+	private TargetBundleCache(String key, File file, Map<String, Entry> previous) {
+		fKey = key;
+		fFile = file;
+		fPrevious = previous;
+	}
+
+	/**
+	 * Deletes the cache files, and the temporary files left by an interrupted
+	 * save, that were not used for {@link #MAX_UNUSED_TIME}
+	 */
+	private static void evictUnused(File directory) {
+		long oldest = System.currentTimeMillis() - MAX_UNUSED_TIME;
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (file.isFile() && file.lastModified() < oldest) {
+				if (file.delete() && PDECore.DEBUG_MODEL) {
+					System.out.println("Deleted unused target bundle cache " + file.getName()); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the cache of the bundles of the given location
+	 *
+	 * @param location the directory or profile the bundles are found in
+	 * @return the cache, without entries if none could be read
+	 */
+	public static TargetBundleCache load(File location) {
+		return load(location, null);
+	}
+
+	/**
+	 * Reads the cache of the bundles of the given location with the given
+	 * configuration area. The profiles of an installation with different
+	 * configuration areas have different bundles, so they have different
+	 * caches.
+	 *
+	 * @param location the directory or profile the bundles are found in
+	 * @param configuration the configuration area the bundles are listed in,
+	 *            or <code>null</code> for the default one
+	 * @return the cache, without entries if none could be read
+	 */
+	public static TargetBundleCache load(File location, File configuration) {
+		String key = location.getAbsolutePath();
+		if (configuration != null) {
+			key += File.pathSeparator + configuration.getAbsolutePath();
+		}
+		File directory = new File(PDECore.getDefault().getStateLocation().toFile(), DIRECTORY_NAME);
+		if (fgEvicted.compareAndSet(false, true)) {
+			evictUnused(directory);
+		}
+		File file = new File(directory, CacheFileUtil.getDigestName(key, ".cache")); //$NON-NLS-1$
+		Map<String, Entry> entries = new HashMap<>();
+		if (file.isFile()) {
+			// a corrupt file is discarded rather than failing the resolve
+			long max = file.length();
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (PDECore.PLUGIN_ID.equals(in.readUTF()) && KIND.equals(in.readUTF()) && in.readInt() == VERSION
+						&& key.equals(readString(in, max))) {
+					int count = readCount(in, max);
+					for (int i = 0; i < count; i++) {
+						String bundle = readString(in, max);
+						entries.put(bundle, readEntry(in, max));
+					}
+					// an unchanged cache is not saved again, mark it as used
+					file.setLastModified(System.currentTimeMillis());
+				}
+			} catch (IOException | RuntimeException e) {
+				entries.clear();
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Discarded invalid target bundle cache of " + key + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+		return new TargetBundleCache(key, file, entries);
+	}
+
+	/**
+	 * Returns the target bundle of the given file, restored from the cache if
+	 * the file is unchanged and read from the file otherwise
+	 *
+	 * @param file the bundle location
+	 * @return the target bundle
+	 * @throws CoreException if the file is not a bundle or cannot be read
+	 */
+	public TargetBundle getBundle(File file) throws CoreException {
+		String path = file.getAbsolutePath();
+		File stamp = CacheFileUtil.getStampFile(file);
+		if (stamp == null) {
+			return new TargetBundle(file);
+		}
+		long timestamp = stamp.lastModified();
+		long length = stamp.length();
+		Entry entry = fPrevious.get(path);
+		if (entry != null && entry.timestamp == timestamp && entry.length == length) {
+			fEntries.put(path, entry);
+			if (entry.error != null) {
+				throw new CoreException(new Status(IStatus.ERROR, PDECore.PLUGIN_ID,
+						ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST, entry.error, null));
+			}
+			return new CachedTargetBundle(file, entry);
+		}
+		TargetBundle bundle;
+		try {
+			bundle = new TargetBundle(file);
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				fEntries.put(path, new Entry(timestamp, length, e.getStatus().getMessage(), null, null, false, null, null));
+				fChanged = true;
+			}
+			throw e;
+		}
+		BundleInfo info = bundle.getBundleInfo();
+		fEntries.put(path, new Entry(timestamp, length, null, info.getSymbolicName(), info.getVersion(),
+				bundle.isFragment(), bundle.getSourceTarget(), bundle.getSourcePath()));
+		fChanged = true;
+		return bundle;
+	}
+
+	/**
+	 * Saves this cache if the bundles of the location changed since it was
+	 * loaded
+	 */
+	public void save() {
+		if (!fChanged && fEntries.size() == fPrevious.size()) {
+			return;
+		}
+		try {
+			Map<String, Entry> entries = new LinkedHashMap<>(fEntries);
+			CacheFileUtil.atomicWrite(fFile, out -> {
+				out.writeUTF(PDECore.PLUGIN_ID);
+				out.writeUTF(KIND);
+				out.writeInt(VERSION);
+				writeString(out, fKey);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+					writeString(out, mapEntry.getKey());
+					writeEntry(out, mapEntry.getValue());
+				}
+			});
+			fChanged = false;
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	private static Entry readEntry(DataInputStream in, long max) throws IOException {
+		long timestamp = in.readLong();
+		long length = in.readLong();
+		String error = readString(in, max);
+		if (error != null) {
+			return new Entry(timestamp, length, error, null, null, false, null, null);
+		}
+		String symbolicName = readString(in, max);
+		String version = readString(in, max);
+		boolean fragment = in.readBoolean();
+		BundleInfo sourceTarget = null;
+		if (in.readBoolean()) {
+			String sourceName = readString(in, max);
+			String sourceVersion = readString(in, max);
+			String sourceLocation = readString(in, max);
+			try {
+				sourceTarget = new BundleInfo(sourceName, sourceVersion,
+						sourceLocation == null ? null : new URI(sourceLocation), BundleInfo.NO_LEVEL, false);
+			} catch (URISyntaxException e) {
+				throw new IOException(e);
+			}
+		}
+		String sourcePath = readString(in, max);
+		return new Entry(timestamp, length, null, symbolicName, version, fragment, sourceTarget, sourcePath);
+	}
+
+	private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+		out.writeLong(entry.timestamp);
+		out.writeLong(entry.length);
+		writeString(out, entry.error);
+		if (entry.error != null) {
+			return;
+		}
+		writeString(out, entry.symbolicName);
+		writeString(out, entry.version);
+		out.writeBoolean(entry.fragment);
+		out.writeBoolean(entry.sourceTarget != null);
+		if (entry.sourceTarget != null) {
+			URI location = entry.sourceTarget.getLocation();
+			writeString(out, entry.sourceTarget.getSymbolicName());
+			writeString(out, entry.sourceTarget.getVersion());
+			writeString(out, location == null ? null : location.toString());
+		}
+		writeString(out, entry.sourcePath);
+	}
+}
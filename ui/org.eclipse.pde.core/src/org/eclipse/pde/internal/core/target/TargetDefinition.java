@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -43,6 +51,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -117,8 +126,9 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_PLUGIN = 0;
 	public static final int MODE_FEATURE = 1;
 
-	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	// cache of features found for a given location, maps a string path location to the reading of its features
+	// concurrent as the locations of a target are resolved concurrently
+	private static final Map<String, CompletableFuture<TargetFeature[]>> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -420,15 +430,28 @@ public class TargetDefinition implements ITargetDefinition {
 					fResolutionStatus = status;
 					return fResolutionStatus;
 				}
-				for (ITargetLocation container : containers) {
-					subMonitor.checkCanceled();
-					subMonitor.subTask(Messages.TargetDefinition_4);
-					P2TargetUtils synchronizer = container.getAdapter(P2TargetUtils.class);
-					int totalWork = 5;
-					if (synchronizer == null) {
-						totalWork = 100;
+				subMonitor.checkCanceled();
+				subMonitor.subTask(Messages.TargetDefinition_4);
+				// The locations do not depend on each other once synchronized,
+				// so the built-in ones are resolved concurrently, their
+				// progress being reported from this thread. Other locations
+				// may not be thread safe and are resolved one after the other.
+				// Their statuses are collected in the order of the locations.
+				IStatus[] statuses = new IStatus[containers.length];
+				AtomicInteger worked = new AtomicInteger();
+				CompletableFuture<Void> resolving = CompletableFuture.runAsync(() -> IntStream
+						.range(0, containers.length).parallel().filter(i -> isConcurrent(containers[i]))
+						.forEach(i -> statuses[i] = resolveLocation(containers[i],
+								new LocationMonitor(subMonitor, getLocationWork(containers[i]), worked))));
+				waitForLocations(resolving, worked, subMonitor);
+				for (int i = 0; i < containers.length; i++) {
+					if (statuses[i] == null) {
+						statuses[i] = resolveLocation(containers[i],
+								subMonitor.newChild(getLocationWork(containers[i])));
 					}
-					IStatus s = container.resolve(this, subMonitor.split(totalWork));
+				}
+				subMonitor.checkCanceled();
+				for (IStatus s : statuses) {
 					if (!s.isOK()) {
 						status.add(s);
 					}
@@ -454,6 +477,143 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Returns whether the given location can be resolved concurrently with the
+	 * other locations of a target. Only the locations provided by PDE are known
+	 * to be thread safe, subclasses and contributed locations are not.
+	 *
+	 * @param container the location
+	 * @return <code>true</code> if the location is resolved concurrently
+	 */
+	static boolean isConcurrent(ITargetLocation container) {
+		Class<?> type = container.getClass();
+		return type == DirectoryBundleContainer.class || type == ProfileBundleContainer.class
+				|| type == FeatureBundleContainer.class || type == IUBundleContainer.class;
+	}
+
+	/**
+	 * Returns the work of the given location in the resolution of a target,
+	 * most of the work of the locations with a synchronizer is done when
+	 * synchronizing
+	 */
+	private static int getLocationWork(ITargetLocation container) {
+		return container.getAdapter(P2TargetUtils.class) == null ? 100 : 5;
+	}
+
+	/**
+	 * Resolves a target location, possibly concurrently with the other
+	 * locations of this target.
+	 *
+	 * @param container the location to resolve
+	 * @param monitor the monitor of the location, done once it is resolved
+	 * @return the resolution status of the location
+	 */
+	private IStatus resolveLocation(ITargetLocation container, IProgressMonitor monitor) {
+		try {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			return container.resolve(this, monitor);
+		} catch (OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Monitor of a location resolved concurrently with the other locations of
+	 * a target. Progress monitors are not thread safe, so the work done by the
+	 * location is only added, scaled to the work of the location in the
+	 * target, to a counter reported by {@link #waitForLocations}. The location
+	 * is canceled with the target resolution.
+	 */
+	private static final class LocationMonitor extends NullProgressMonitor {
+		private final IProgressMonitor fTarget;
+		private final int fWork;
+		private final AtomicInteger fWorked;
+		private double fTotal;
+		private double fDone;
+		private int fReported;
+
+		LocationMonitor(IProgressMonitor target, int work, AtomicInteger worked) {
+			fTarget = target;
+			fWork = work;
+			fWorked = worked;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fTarget.isCanceled();
+		}
+
+		@Override
+		public synchronized void beginTask(String name, int totalWork) {
+			fTotal = totalWork;
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public synchronized void internalWorked(double work) {
+			if (fTotal > 0) {
+				fDone += work;
+				report((int) Math.min(fWork, fDone * fWork / fTotal));
+			}
+		}
+
+		@Override
+		public synchronized void done() {
+			report(fWork);
+		}
+
+		private void report(int reported) {
+			if (reported > fReported) {
+				fWorked.addAndGet(reported - fReported);
+				fReported = reported;
+			}
+		}
+	}
+
+	/**
+	 * Waits for the locations being resolved concurrently, reporting the work
+	 * done so far to the given monitor from the calling thread
+	 *
+	 * @throws OperationCanceledException if the calling thread is interrupted
+	 */
+	private static void waitForLocations(CompletableFuture<Void> resolving, AtomicInteger worked,
+			SubMonitor monitor) {
+		int reported = 0;
+		while (true) {
+			try {
+				resolving.get(100, TimeUnit.MILLISECONDS);
+				monitor.worked(worked.get() - reported);
+				return;
+			} catch (TimeoutException e) {
+				int done = worked.get();
+				monitor.worked(done - reported);
+				reported = done;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				// the statuses of the locations hold their errors, anything
+				// else is unexpected
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -980,18 +1140,31 @@ public class TargetDefinition implements ITargetDefinition {
 			path = manager.performStringSubstitution(path);
 		}
 
-		TargetFeature[] models = null;
-		if (fFeaturesInLocation != null) {
-			models = fFeaturesInLocation.get(path);
+		// locations sharing a path wait for the features to be read once, the
+		// features are read outside of the map so that the other paths are
+		// not blocked meanwhile
+		CompletableFuture<TargetFeature[]> features = new CompletableFuture<>();
+		CompletableFuture<TargetFeature[]> reading = fFeaturesInLocation.putIfAbsent(path, features);
+		if (reading != null) {
+			try {
+				return reading.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw e;
+			}
 		}
-
-		if (models != null) {
-			return models; /*(IFeatureModel[])models.toArray(new IFeatureModel[models.size()]);*/
+		try {
+			TargetFeature[] result = ExternalFeatureModelManager.createFeatures(path, new ArrayList<>(), monitor);
+			features.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			// not cached, the features are read again by the next resolve
+			fFeaturesInLocation.remove(path, features);
+			features.completeExceptionally(e);
+			throw e;
 		}
-
-		models = ExternalFeatureModelManager.createFeatures(path, new ArrayList<>(), monitor);
-		fFeaturesInLocation.put(path, models);
-		return models;
 	}
 
 	@Override
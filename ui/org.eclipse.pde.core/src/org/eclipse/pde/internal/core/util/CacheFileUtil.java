@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.eclipse.pde.internal.core.ICoreConstants;
+
+/**
+ * Helpers shared by the binary cache files PDE saves in its state location to
+ * avoid reading the target bundles again.
+ */
+public class CacheFileUtil {
+
+	/**
+	 * Writes the contents of a cache file
+	 */
+	@FunctionalInterface
+	public interface DataWriter {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private CacheFileUtil() { // static use only
+	}
+
+	/**
+	 * Returns the file whose time stamp and size identify the contents of the
+	 * given bundle, the bundle jar or the manifest file of a bundle directory
+	 *
+	 * @param bundle the bundle location
+	 * @return the file or <code>null</code> if the bundle cannot be identified
+	 */
+	public static File getStampFile(File bundle) {
+		if (bundle.isFile()) {
+			return bundle;
+		}
+		File manifest = new File(bundle, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR);
+		return manifest.isFile() ? manifest : null;
+	}
+
+	/**
+	 * Returns a file name derived from the SHA-1 digest of the given key, so
+	 * that different keys get different files
+	 *
+	 * @param key the key identifying the contents of the file
+	 * @param extension the extension of the file name, with its dot
+	 * @return the file name
+	 */
+	public static String getDigestName(String key, String extension) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			StringBuilder name = new StringBuilder();
+			for (byte b : digest.digest(key.getBytes(StandardCharsets.UTF_8))) {
+				name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return name.append(extension).toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(key.hashCode()) + extension;
+		}
+	}
+
+	/**
+	 * Writes the given file through a temporary file moved in place once
+	 * written, so that a failed or concurrent save never leaves a truncated
+	 * file
+	 *
+	 * @param file the file to write
+	 * @param writer writes the contents of the file
+	 * @throws IOException if the file cannot be written, the temporary file is
+	 *             then deleted
+	 */
+	public static void atomicWrite(File file, DataWriter writer) throws IOException {
+		File directory = file.getParentFile();
+		directory.mkdirs();
+		File temp = File.createTempFile(file.getName(), ".tmp", directory); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				writer.write(out);
+			}
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			temp.delete();
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes a string that may be <code>null</code> or longer than
+	 * {@link DataOutputStream#writeUTF(String)} allows
+	 */
+	public static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}
+	 * from a file of the given length
+	 *
+	 * @param in the file contents
+	 * @param max the length of the file
+	 * @return the string, may be <code>null</code>
+	 * @throws IOException if the string cannot be read or its length is not
+	 *             valid, the file is then corrupt
+	 */
+	public static String readString(DataInputStream in, long max) throws IOException {
+		int length = readCount(in, max);
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads the number of elements or bytes that follow in a file of the given
+	 * length, <code>-1</code> standing for <code>null</code>. The number is
+	 * checked before anything is allocated for the elements, as no element
+	 * takes less than a byte.
+	 *
+	 * @param in the file contents
+	 * @param max the length of the file
+	 * @return the number, <code>-1</code> or more
+	 * @throws IOException if the number cannot be read or is not valid, the
+	 *             file is then corrupt
+	 */
+	public static int readCount(DataInputStream in, long max) throws IOException {
+		int count = in.readInt();
+		if (count < -1 || count > max) {
+			throw new IOException("Invalid count " + count); //$NON-NLS-1$
+		}
+		return count;
+	}
+}
@@ -9,6 +9,9 @@ import org.junit.runners.Suite.SuiteClasses;
 	DependencyManagerTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
+	TargetStateSnapshotTest.class, //
+	PDEStateTest.class, //
+	BundleClasspathCacheTest.class, //
 })
 public class AllPDECoreTests {
 }
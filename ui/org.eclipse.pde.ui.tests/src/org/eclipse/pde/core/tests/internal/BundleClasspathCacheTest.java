@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.BundleClasspathCache;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.ExternalLibrary;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that the {@link BundleClasspathCache} discards the classpath fragments
+ * of the bundles affected by a state change only
+ */
+public class BundleClasspathCacheTest {
+
+	private final StateObjectFactory fFactory = Platform.getPlatformAdmin().getFactory();
+	private final BundleClasspathCache fCache = new BundleClasspathCache();
+	private final Set<String> fComputed = new HashSet<>();
+	private State fState;
+
+	/**
+	 * Creates a state where <code>b</code> imports a package of
+	 * <code>a</code>, <code>c</code> a package of <code>b</code> and
+	 * <code>e</code> a package of <code>d</code>, <code>f</code> is a fragment
+	 * of <code>h</code> and <code>g</code> is on its own
+	 */
+	@Before
+	public void setUp() throws BundleException {
+		fState = fFactory.createState(true);
+		fState.addBundle(createBundle("a", 1, Constants.EXPORT_PACKAGE, "pa"));
+		fState.addBundle(createBundle("b", 2, Constants.EXPORT_PACKAGE, "pb", Constants.IMPORT_PACKAGE, "pa"));
+		fState.addBundle(createBundle("c", 3, Constants.IMPORT_PACKAGE, "pb"));
+		fState.addBundle(createBundle("d", 4, Constants.EXPORT_PACKAGE, "pd"));
+		fState.addBundle(createBundle("e", 5, Constants.IMPORT_PACKAGE, "pd"));
+		fState.addBundle(createBundle("f", 6, Constants.FRAGMENT_HOST, "h"));
+		fState.addBundle(createBundle("g", 7));
+		fState.addBundle(createBundle("h", 8));
+		fState.resolve(false);
+	}
+
+	private BundleDescription createBundle(String id, long bundleId, String... headers) throws BundleException {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, id);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		for (int i = 0; i < headers.length; i += 2) {
+			manifest.put(headers[i], headers[i + 1]);
+		}
+		return fFactory.createBundleDescription(fState, manifest, "/bundles/" + id, bundleId);
+	}
+
+	/**
+	 * Replaces a bundle of the state by a new description with the same id,
+	 * as done when its manifest changes, and resolves it
+	 */
+	private StateDelta update(BundleDescription bundle) {
+		fState.updateBundle(bundle);
+		return fState.resolve(new BundleDescription[] { bundle });
+	}
+
+	/**
+	 * Reads the fragments of all the bundles of the state from the cache
+	 *
+	 * @return the bundles whose fragments were computed
+	 */
+	private Set<String> populate() {
+		fComputed.clear();
+		for (BundleDescription desc : fState.getBundles()) {
+			fCache.getVisiblePackages(desc, this::computeVisiblePackages);
+			fCache.getLibraries(desc, d -> {
+				fComputed.add(d.getSymbolicName());
+				return new ExternalLibrary[0];
+			});
+		}
+		return new HashSet<>(fComputed);
+	}
+
+	private Map<BundleDescription, ArrayList<Rule>> computeVisiblePackages(BundleDescription desc) {
+		fComputed.add(desc.getSymbolicName());
+		Map<BundleDescription, ArrayList<Rule>> visiblePackages = new HashMap<>();
+		for (ExportPackageDescription export : desc.getResolvedImports()) {
+			visiblePackages.put(export.getExporter(), new ArrayList<>());
+		}
+		return visiblePackages;
+	}
+
+	/**
+	 * Tests that a changed manifest discards the fragments of the bundle and of
+	 * its reverse dependents and keeps the others
+	 */
+	@Test
+	public void testReverseDependents() throws BundleException {
+		assertEquals(Set.of("a", "b", "c", "d", "e", "f", "g", "h"), populate());
+		assertTrue("All the fragments should be cached", populate().isEmpty());
+
+		fCache.invalidate(update(createBundle("a", 1, Constants.EXPORT_PACKAGE, "pa,pa2")));
+		assertEquals("Only a and its dependents should be computed again", Set.of("a", "b", "c"), populate());
+		assertTrue("All the fragments should be cached", populate().isEmpty());
+	}
+
+	/**
+	 * Tests that a changed fragment discards the fragments of its host, whose
+	 * libraries may come from the fragment
+	 */
+	@Test
+	public void testFragmentHost() throws BundleException {
+		populate();
+		fCache.invalidate(update(createBundle("f", 6, Constants.FRAGMENT_HOST, "h", Constants.BUNDLE_NAME, "F")));
+		assertEquals("Only f and its host should be computed again", Set.of("f", "h"), populate());
+	}
+
+	/**
+	 * Tests that a <code>null</code> delta discards all the fragments
+	 */
+	@Test
+	public void testTargetChanged() {
+		populate();
+		fCache.invalidate(null);
+		assertEquals(Set.of("a", "b", "c", "d", "e", "f", "g", "h"), populate());
+	}
+}
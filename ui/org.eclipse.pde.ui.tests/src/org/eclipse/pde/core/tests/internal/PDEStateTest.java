@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests the creation of the target {@link PDEState}, whose bundles are read
+ * concurrently
+ */
+public class PDEStateTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<URI> fTarget = new ArrayList<>();
+
+	/**
+	 * Creates a target of 50 bundles, where the bundles <code>dup</code> at the
+	 * indexes 10, 25 and 40 have the same symbolic name and version
+	 */
+	@Before
+	public void setUp() throws IOException {
+		Path plugins = folder.newFolder("plugins").toPath();
+		for (int i = 0; i < 50; i++) {
+			String id = i % 15 == 10 ? "dup" : "bundle" + i;
+			Path jar = plugins.resolve(i + ".jar");
+			Manifest manifest = new Manifest();
+			Attributes attributes = manifest.getMainAttributes();
+			attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+			attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+			attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, id);
+			attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0");
+			try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+				out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+				manifest.write(out);
+			}
+			fTarget.add(jar.toUri());
+		}
+	}
+
+	/**
+	 * Returns the locations of the bundles of the given state in the order of
+	 * their ids
+	 */
+	private static String[] getLocationsById(PDEState state, String id) {
+		return Arrays.stream(state.getState().getBundles(id))
+				.sorted(Comparator.comparingLong(BundleDescription::getBundleId))
+				.map(BundleDescription::getLocation).toArray(String[]::new);
+	}
+
+	/**
+	 * Tests that bundle ids follow the target order whatever the order the
+	 * bundles are read in, so that the same duplicate bundle is selected by
+	 * every state created for the target
+	 */
+	@Test
+	public void testDeterministicIds() {
+		URI[] target = fTarget.toArray(URI[]::new);
+		String[] expected = new String[] { Path.of(target[10]).toString(), Path.of(target[25]).toString(),
+				Path.of(target[40]).toString() };
+		String selected = null;
+		for (int run = 0; run < 5; run++) {
+			PDEState state = new PDEState(target, true, false, new NullProgressMonitor());
+			assertArrayEquals("Ids should follow the target order", expected, getLocationsById(state, "dup"));
+			long previous = -1;
+			for (URI uri : target) {
+				BundleDescription bundle = state.getState().getBundleByLocation(Path.of(uri).toString());
+				assertNotNull("Missing bundle " + uri, bundle);
+				assertTrue("Ids should follow the target order", bundle.getBundleId() > previous);
+				previous = bundle.getBundleId();
+			}
+
+			PDEState withoutDuplicates = new PDEState(target, true, true, new NullProgressMonitor());
+			String[] remaining = getLocationsById(withoutDuplicates, "dup");
+			assertEquals("Duplicates should have been removed", 1, remaining.length);
+			if (selected == null) {
+				selected = remaining[0];
+			}
+			assertEquals("The same duplicate should be kept", selected, remaining[0]);
+		}
+	}
+
+	/**
+	 * Tests that creating a state with a canceled monitor is canceled
+	 */
+	@Test
+	public void testCanceled() {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		assertThrows(OperationCanceledException.class,
+				() -> new PDEState(fTarget.toArray(URI[]::new), true, false, monitor));
+	}
+}
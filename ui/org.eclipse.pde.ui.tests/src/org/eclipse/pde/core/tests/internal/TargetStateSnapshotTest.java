@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetStateSnapshot;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests the {@link TargetStateSnapshot} used to restore the manifests of the
+ * unchanged target bundles
+ */
+public class TargetStateSnapshotTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path fPlugins;
+	private File fSnapshotFile;
+
+	@Before
+	public void setUp() throws IOException {
+		fPlugins = folder.newFolder("plugins").toPath();
+		fSnapshotFile = new File(folder.getRoot(), "target_state.snapshot");
+	}
+
+	/**
+	 * Writes a jar with the given manifest headers, a jar without bundle
+	 * headers if none are given
+	 */
+	private File createJar(String name, String... headers) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		for (int i = 0; i < headers.length; i += 2) {
+			attributes.putValue(headers[i], headers[i + 1]);
+		}
+		Path jar = fPlugins.resolve(name + ".jar");
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			manifest.write(out);
+		}
+		return jar.toFile();
+	}
+
+	private File createBundle(String id, String version) throws IOException {
+		return createJar(id + "_" + version, Constants.BUNDLE_MANIFESTVERSION, "2", Constants.BUNDLE_SYMBOLICNAME, id,
+				Constants.BUNDLE_VERSION, version);
+	}
+
+	/**
+	 * Creates the state of the jars of the plug-ins folder with the given
+	 * snapshot
+	 *
+	 * @return the versions of the target bundles by id
+	 */
+	private Map<String, String> createState(TargetStateSnapshot snapshot) throws IOException {
+		URI[] uris;
+		try (Stream<Path> files = Files.list(fPlugins)) {
+			uris = files.sorted().map(Path::toUri).toArray(URI[]::new);
+		}
+		PDEState state = new PDEState(uris, true, false, snapshot, null);
+		Map<String, String> versions = new TreeMap<>();
+		for (IPluginModelBase model : state.getTargetModels()) {
+			versions.put(model.getPluginBase().getId(), model.getPluginBase().getVersion());
+		}
+		return versions;
+	}
+
+	/**
+	 * Moves the last modification time of the given file forward, as if it
+	 * was replaced
+	 */
+	private static void touch(File file) {
+		assertTrue(file.setLastModified(file.lastModified() + 10000));
+	}
+
+	/**
+	 * Tests that a saved snapshot restores all the manifests of an unchanged
+	 * target
+	 */
+	@Test
+	public void testSaveAndLoad() throws Exception {
+		createBundle("a", "1.0.0");
+		createBundle("b", "2.0.0");
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		Map<String, String> versions = createState(snapshot);
+		assertEquals(Map.of("a", "1.0.0", "b", "2.0.0"), versions);
+		assertEquals(0, snapshot.getRestoredCount());
+		assertEquals(2, snapshot.getReadCount());
+		snapshot.save();
+		assertTrue("The snapshot should have been saved", fSnapshotFile.isFile());
+
+		TargetStateSnapshot restored = TargetStateSnapshot.load(fSnapshotFile);
+		assertEquals(versions, createState(restored));
+		assertEquals(2, restored.getRestoredCount());
+		assertEquals(0, restored.getReadCount());
+		long saved = fSnapshotFile.lastModified();
+		fSnapshotFile.setLastModified(saved - 10000);
+		restored.save();
+		assertEquals("An unchanged snapshot should not be saved again", saved - 10000, fSnapshotFile.lastModified());
+	}
+
+	/**
+	 * Tests that only the changed bundles of a partly changed target are read
+	 * again, whether their contents, their time stamp or their size changed
+	 */
+	@Test
+	public void testPartlyChangedTarget() throws Exception {
+		File a = createBundle("a", "1.0.0");
+		File b = createBundle("b", "1.0.0");
+		createBundle("c", "1.0.0");
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		createState(snapshot);
+		snapshot.save();
+
+		// same name, new contents
+		long timestamp = a.lastModified();
+		createJar("a_1.0.0", Constants.BUNDLE_MANIFESTVERSION, "2", Constants.BUNDLE_SYMBOLICNAME, "a",
+				Constants.BUNDLE_VERSION, "1.0.1");
+		a.setLastModified(timestamp + 10000);
+		snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		assertEquals(Map.of("a", "1.0.1", "b", "1.0.0", "c", "1.0.0"), createState(snapshot));
+		assertEquals(2, snapshot.getRestoredCount());
+		assertEquals(1, snapshot.getReadCount());
+		snapshot.save();
+
+		// only touched
+		touch(b);
+		snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		assertEquals(Map.of("a", "1.0.1", "b", "1.0.0", "c", "1.0.0"), createState(snapshot));
+		assertEquals(2, snapshot.getRestoredCount());
+		assertEquals(1, snapshot.getReadCount());
+		snapshot.save();
+
+		// a new bundle and the same time stamp with another size
+		timestamp = b.lastModified();
+		createJar("b_1.0.0", Constants.BUNDLE_MANIFESTVERSION, "2", Constants.BUNDLE_SYMBOLICNAME, "b",
+				Constants.BUNDLE_VERSION, "1.0.0", Constants.BUNDLE_NAME, "Bundle B");
+		b.setLastModified(timestamp);
+		createBundle("d", "1.0.0");
+		snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		assertEquals(Map.of("a", "1.0.1", "b", "1.0.0", "c", "1.0.0", "d", "1.0.0"), createState(snapshot));
+		assertEquals(2, snapshot.getRestoredCount());
+		assertEquals(2, snapshot.getReadCount());
+	}
+
+	/**
+	 * Tests that a jar that is not a bundle is remembered as such
+	 */
+	@Test
+	public void testNotABundle() throws Exception {
+		createBundle("a", "1.0.0");
+		createJar("library");
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		assertEquals(Map.of("a", "1.0.0"), createState(snapshot));
+		assertEquals(2, snapshot.getReadCount());
+		snapshot.save();
+
+		snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		assertEquals(Map.of("a", "1.0.0"), createState(snapshot));
+		assertEquals("The library should not be read again", 2, snapshot.getRestoredCount());
+		assertEquals(0, snapshot.getReadCount());
+	}
+
+	/**
+	 * Tests that a corrupt snapshot file is discarded and replaced
+	 */
+	@Test
+	public void testCorruptSnapshot() throws Exception {
+		createBundle("a", "1.0.0");
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		createState(snapshot);
+		snapshot.save();
+		byte[] contents = Files.readAllBytes(fSnapshotFile.toPath());
+		Files.write(fSnapshotFile.toPath(), Arrays.copyOf(contents, contents.length / 2));
+
+		snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		assertEquals(Map.of("a", "1.0.0"), createState(snapshot));
+		assertEquals(0, snapshot.getRestoredCount());
+		assertEquals(1, snapshot.getReadCount());
+		snapshot.save();
+		assertFalse("The snapshot should have been replaced",
+				Arrays.equals(Arrays.copyOf(contents, contents.length / 2), Files.readAllBytes(fSnapshotFile.toPath())));
+
+		snapshot = TargetStateSnapshot.load(fSnapshotFile);
+		createState(snapshot);
+		assertEquals(1, snapshot.getRestoredCount());
+	}
+
+	/**
+	 * Writes a snapshot file with a valid header followed by the given
+	 * integers
+	 */
+	private void writeSnapshot(int... values) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(fSnapshotFile.toPath()))) {
+			out.writeUTF(PDECore.PLUGIN_ID);
+			out.writeUTF("TARGET_STATE");
+			out.writeInt(1);
+			for (int value : values) {
+				out.writeInt(value);
+			}
+		}
+	}
+
+	/**
+	 * Tests that a snapshot with counts or lengths too large for the file is
+	 * discarded without allocating them
+	 */
+	@Test
+	public void testHugeCount() throws Exception {
+		createBundle("a", "1.0.0");
+		int[][] corruptions = new int[][] {
+				// entry count
+				{ Integer.MAX_VALUE },
+				// location length
+				{ 1, Integer.MAX_VALUE },
+				// manifest size, after an empty location and two stamps
+				{ 1, 0, 0, 0, 0, 0, Integer.MAX_VALUE },
+				{ 1, 0, 0, 0, 0, 0, Integer.MIN_VALUE } };
+		for (int[] corruption : corruptions) {
+			writeSnapshot(corruption);
+			TargetStateSnapshot snapshot = TargetStateSnapshot.load(fSnapshotFile);
+			assertEquals(Map.of("a", "1.0.0"), createState(snapshot));
+			assertEquals(0, snapshot.getRestoredCount());
+			assertEquals(1, snapshot.getReadCount());
+		}
+	}
+}
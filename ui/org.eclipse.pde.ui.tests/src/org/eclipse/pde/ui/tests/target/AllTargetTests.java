@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		TargetDefinitionPersistenceTests.class, //
 		TargetDefinitionResolutionTests.class, //
 		TargetDefinitionFeatureResolutionTests.class, //
+		TargetDefinitionConcurrentResolutionTests.class, //
 		IUBundleContainerTests.class, //
 		ProfileContainerTests.class })
 public class AllTargetTests {
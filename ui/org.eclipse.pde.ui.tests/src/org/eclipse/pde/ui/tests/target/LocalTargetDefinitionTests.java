@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,8 +19,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -51,9 +53,11 @@ import org.eclipse.pde.internal.core.P2Utils;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.target.TargetBundleCache;
 import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.internal.core.target.TargetDefinitionPersistenceHelper;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
+import org.eclipse.pde.internal.core.util.CacheFileUtil;
 import org.eclipse.pde.internal.launching.launcher.LaunchArgumentsHelper;
 import org.eclipse.pde.ui.tests.PDETestsPlugin;
 import org.junit.Test;
@@ -346,6 +350,92 @@ public class LocalTargetDefinitionTests extends AbstractTargetTest {
 		assertEquals(getAllBundleURIs(TargetPlatformService.getDefault().newDefaultTarget()), uris);
 	}
 
+	/**
+	 * Tests that resolving again an unchanged directory container restores the
+	 * same bundles from the target bundle cache, and that a changed bundle is
+	 * read again.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCachedDirectoryBundleContainer() throws Exception {
+		String location = extractAbcdePlugins().toOSString();
+		TargetBundle[] resolved = getDirectoryBundles(location);
+		assertTrue("Should have bundles", resolved.length > 0);
+		TargetBundle[] cached = getDirectoryBundles(location);
+		assertEquals("Cached bundles should be the same", describe(resolved), describe(cached));
+		for (TargetBundle bundle : cached) {
+			assertTrue("Bundle should be restored from the cache: " + bundle,
+					bundle instanceof TargetBundleCache.CachedTargetBundle);
+		}
+
+		File touched = new File(location, "plugins/bundle.a_1.0.0.jar");
+		assertTrue(touched.setLastModified(touched.lastModified() + 10000));
+		TargetBundle[] changed = getDirectoryBundles(location);
+		assertEquals("Bundles should be the same", describe(resolved), describe(changed));
+		for (TargetBundle bundle : changed) {
+			boolean read = new File(bundle.getBundleInfo().getLocation()).equals(touched);
+			assertEquals("Only the touched bundle should be read again: " + bundle, read,
+					!(bundle instanceof TargetBundleCache.CachedTargetBundle));
+		}
+	}
+
+	/**
+	 * Tests that a target bundle cache with a count too large for the file is
+	 * discarded and the bundles are read again.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCorruptBundleCache() throws Exception {
+		String location = extractAbcdePlugins().toOSString();
+		TargetBundle[] resolved = getDirectoryBundles(location);
+		String site = new File(location, "plugins").getAbsolutePath();
+		File cache = new File(PDECore.getDefault().getStateLocation().append("target_bundles").toFile(),
+				CacheFileUtil.getDigestName(site, ".cache"));
+		assertTrue("The cache should have been saved", cache.isFile());
+		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(cache))) {
+			out.writeUTF(PDECore.PLUGIN_ID);
+			out.writeUTF("TARGET_BUNDLES");
+			out.writeInt(1);
+			CacheFileUtil.writeString(out, site);
+			out.writeInt(Integer.MAX_VALUE);
+		}
+		TargetBundle[] read = getDirectoryBundles(location);
+		assertEquals("Bundles should be the same", describe(resolved), describe(read));
+		for (TargetBundle bundle : read) {
+			assertFalse("Bundle should be read again: " + bundle,
+					bundle instanceof TargetBundleCache.CachedTargetBundle);
+		}
+	}
+
+	/**
+	 * Resolves a new directory container at the given location and returns its
+	 * bundles
+	 */
+	private TargetBundle[] getDirectoryBundles(String location) throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation container = getTargetService().newDirectoryLocation(location);
+		definition.setTargetLocations(new ITargetLocation[] { container });
+		IStatus status = definition.resolve(null);
+		assertTrue("Problem resolving directory container", status.isOK());
+		return container.getBundles();
+	}
+
+	/**
+	 * Returns a description of the given bundles, sorted by location
+	 */
+	private List<String> describe(TargetBundle[] targetBundles) {
+		List<String> bundles = new ArrayList<>();
+		for (TargetBundle bundle : targetBundles) {
+			BundleInfo info = bundle.getBundleInfo();
+			bundles.add(info.getLocation() + " " + info.getSymbolicName() + " " + info.getVersion() + " "
+					+ bundle.isFragment() + " " + bundle.isSourceBundle());
+		}
+		bundles.sort(null);
+		return bundles;
+	}
+
 	/**
 	 * Returns the given input stream as a byte array
 	 *
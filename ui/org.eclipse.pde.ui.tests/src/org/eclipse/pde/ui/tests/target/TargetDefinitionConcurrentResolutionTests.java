@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.target.DirectoryBundleContainer;
+import org.junit.Test;
+
+/**
+ * Tests the resolution of a target whose locations are resolved concurrently
+ */
+public class TargetDefinitionConcurrentResolutionTests extends AbstractTargetTest {
+
+	/**
+	 * A directory location that is not a built-in location, so that it must be
+	 * resolved on the thread resolving the target
+	 */
+	static class ThirdPartyLocation extends DirectoryBundleContainer {
+
+		final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+		ThirdPartyLocation(String path) {
+			super(path);
+		}
+
+		@Override
+		protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor)
+				throws CoreException {
+			threads.add(Thread.currentThread());
+			return super.resolveBundles(definition, monitor);
+		}
+	}
+
+	/**
+	 * Tests that the statuses of the failing locations are all reported, in
+	 * the order of the locations, whatever the order they are resolved in
+	 */
+	@Test
+	public void testAggregatedStatus() throws Exception {
+		IPath plugins = extractAbcdePlugins();
+		IPath features = extractModifiedFeatures();
+		String missing = plugins.append("missing").toOSString();
+		ITargetDefinition definition = getNewTarget();
+		ThirdPartyLocation thirdParty = new ThirdPartyLocation(plugins.toOSString());
+		ITargetLocation[] locations = new ITargetLocation[] {
+				getTargetService().newDirectoryLocation(plugins.toOSString()),
+				getTargetService().newDirectoryLocation(missing + 1),
+				getTargetService().newFeatureLocation(features.toOSString(), "org.eclipse.jdt", null),
+				getTargetService().newFeatureLocation(features.toOSString(), "bogus.feature", null),
+				thirdParty,
+				getTargetService().newDirectoryLocation(missing + 2),
+				getTargetService().newFeatureLocation(features.toOSString(), "org.eclipse.jdt", null),
+				getTargetService().newDirectoryLocation(missing + 3) };
+		definition.setTargetLocations(locations);
+
+		IStatus status = definition.resolve(null);
+		assertEquals("Wrong severity", IStatus.ERROR, status.getSeverity());
+		IStatus[] children = status.getChildren();
+		assertEquals("Wrong number of statuses", 4, children.length);
+		assertTrue(children[0].getMessage(), children[0].getMessage().contains(missing + 1));
+		assertTrue(children[1].getMessage(), children[1].getMessage().contains("bogus.feature"));
+		assertTrue(children[2].getMessage(), children[2].getMessage().contains(missing + 2));
+		assertTrue(children[3].getMessage(), children[3].getMessage().contains(missing + 3));
+		for (ITargetLocation location : locations) {
+			assertTrue("All the locations should be resolved", location.isResolved());
+		}
+		assertEquals("The third party location should be resolved by the caller",
+				Set.of(Thread.currentThread()), thirdParty.threads);
+	}
+
+	/**
+	 * Tests that the resolution stops once canceled, the locations resolved
+	 * after the cancellation are left unresolved
+	 */
+	@Test
+	public void testCanceled() throws Exception {
+		IPath plugins = extractAbcdePlugins();
+		IPath features = extractModifiedFeatures();
+		ITargetDefinition definition = getNewTarget();
+		ThirdPartyLocation thirdParty = new ThirdPartyLocation(plugins.toOSString());
+		definition.setTargetLocations(new ITargetLocation[] {
+				getTargetService().newDirectoryLocation(plugins.toOSString()),
+				getTargetService().newFeatureLocation(features.toOSString(), "org.eclipse.jdt", null), thirdParty });
+
+		// canceled as soon as a first location is resolved
+		NullProgressMonitor monitor = new NullProgressMonitor() {
+			@Override
+			public void worked(int work) {
+				setCanceled(true);
+			}
+		};
+		IStatus status = definition.resolve(monitor);
+		assertEquals("Wrong severity", IStatus.CANCEL, status.getSeverity());
+		assertFalse("The target should not be resolved", definition.isResolved());
+		assertFalse("The third party location should not be resolved", thirdParty.isResolved());
+		assertTrue("The third party location should not be read", thirdParty.threads.isEmpty());
+
+		definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] {
+				getTargetService().newDirectoryLocation(plugins.toOSString()),
+				getTargetService().newFeatureLocation(features.toOSString(), "org.eclipse.jdt", null) });
+		monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		status = definition.resolve(monitor);
+		assertEquals("Wrong severity", IStatus.CANCEL, status.getSeverity());
+		for (ITargetLocation location : definition.getTargetLocations()) {
+			assertFalse("No location should be resolved", location.isResolved());
+		}
+	}
+}